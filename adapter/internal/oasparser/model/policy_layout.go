@@ -53,7 +53,7 @@ var supportedPoliciesMap = map[string]policyLayout{
 	"OPA": {
 		// Following parameters are not required (optional)
 		// "rule", token", "additionalProperties", "sendAccessToken", "maxOpenConnections", "maxPerRoute"
-		// "connectionTimeout", "requestGenerator"
+		// "connectionTimeout", "requestGenerator", "decisionCacheEnabled", "decisionCacheTTL", "decisionCacheKeyFields"
 		RequiredParams:   []string{"serverURL", "policy"},
 		IsPassToEnforcer: true,
 	},
@@ -423,6 +423,11 @@ public class APIConfig {
             apiConfig.applicationSecurity = this.applicationSecurity;
             apiConfig.graphQLSchemaDTO = this.graphQLSchemaDTO;
             apiConfig.endpointType = this.endpointType;
+            if (this.resources != null) {
+                for (ResourceConfig resource : this.resources) {
+                    resource.initPathParameterResolvers(this.basePath);
+                }
+            }
             return apiConfig;
         }
     }
@@ -27,6 +27,11 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Resolves the path parameters of a request from the path template of the matched resource. The regex of the
+ * template is compiled when the resolver is created, hence a resolver is created once for each resource when the
+ * API is initialized.
+ */
 class ParameterResolver {
 
     private static final Pattern PARAMETER_PATTERN = Pattern.compile("(\\{[a-zA-Z0-9]+[a-z-_A-Z0-9]*\\})");
@@ -58,6 +63,41 @@ class ParameterResolver {
         pattern = Pattern.compile(regex);
     }
 
+    /**
+     * Create the resolver of a resource.
+     *
+     * @param formattedBasePath base path of the API, formatted with {@link #formatBasePath(String)}
+     * @param resourceTemplate  path template of the resource (as listed in OpenAPI)
+     * @param defaultVersion    whether the resolver is for the requests to the default version of the API, which
+     *                          do not have the version in the path
+     * @return the resolver
+     */
+    static ParameterResolver forResource(String formattedBasePath, String resourceTemplate,
+                                         boolean defaultVersion) {
+        String formattedResourcePathTemplate = resourceTemplate.startsWith("/") ?
+                resourceTemplate : "/" + resourceTemplate;
+        if (defaultVersion) {
+            // formatted basePath does not have a trailing slash. Hence the last slash appears right
+            // before the version.
+            String apiContext = formattedBasePath.substring(0, formattedBasePath.lastIndexOf("/"));
+            return new ParameterResolver(apiContext + formattedResourcePathTemplate);
+        }
+        return new ParameterResolver(formattedBasePath + formattedResourcePathTemplate);
+    }
+
+    /**
+     * Format the basePath to start with a slash and to not end with a slash, to maintain consistency with the
+     * resource templates.
+     *
+     * @param basePath basePath of the API
+     * @return formatted basePath
+     */
+    static String formatBasePath(String basePath) {
+        String formattedBasePath = basePath.startsWith("/") ? basePath : "/" + basePath;
+        return formattedBasePath.endsWith("/") ?
+                formattedBasePath.substring(0, formattedBasePath.length() - 1) : formattedBasePath;
+    }
+
     public Map<String, String> parametersByName(final String uriString) throws IllegalArgumentException {
         // This formatting is required since /foo and /foo/ are considered to be equal
         String formattedURI = uriString.endsWith("/") ?
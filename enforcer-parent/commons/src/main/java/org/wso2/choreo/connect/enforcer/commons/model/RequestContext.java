@@ -23,6 +23,9 @@ import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,8 +62,12 @@ public class RequestContext {
     private ArrayList<String> removeHeaders;
     // Consist of web socket frame related data like frame length, remote IP
     private WebSocketFrameContext webSocketFrameContext;
+    // Path and query parameters are extracted from the request path when they are first requested.
+    private String rawPath;
+    private String queryString;
     private Map<String, String> queryParameters;
     private Map<String, String> pathParameters;
+    private boolean pathParametersResolved;
     private ArrayList<String> queryParamsToRemove;
     private boolean removeAllQueryParams;
     private Map<String, String> queryParamsToAdd;
@@ -70,6 +77,10 @@ public class RequestContext {
 
     // Request Timestamp is required for analytics
     private long requestTimeStamp;
+    // The client IP is parsed at most once per request, when it is first required.
+    private boolean clientIpParsed;
+    private InetAddress clientIpAddress;
+    private BigInteger clientIpValue = BigInteger.ZERO;
 
     /**
      * The dynamic metadata sent from enforcer are stored in this metadata map.
@@ -150,6 +161,10 @@ public class RequestContext {
      * @return Map contains path parameter name and assigned path param value in the request.
      */
     public Map<String, String> getPathParameters() {
+        if (!pathParametersResolved) {
+            pathParameters = resolvePathParameters();
+            pathParametersResolved = true;
+        }
         return pathParameters;
     }
 
@@ -174,6 +189,43 @@ public class RequestContext {
         return clientIp;
     }
 
+    /**
+     * Returns the parsed client IP address. The client IP is parsed only once for the request.
+     *
+     * @return Client IP address or null if the client IP is not available or invalid
+     */
+    public InetAddress getClientIpAddress() {
+        parseClientIp();
+        return clientIpAddress;
+    }
+
+    /**
+     * Returns the numeric value of the client IP address, which is used to evaluate IP based conditions.
+     *
+     * @return Client IP as an unsigned number or {@link BigInteger#ZERO} if the client IP is not available or
+     * invalid
+     */
+    public BigInteger getClientIpValue() {
+        parseClientIp();
+        return clientIpValue;
+    }
+
+    private void parseClientIp() {
+        if (clientIpParsed) {
+            return;
+        }
+        clientIpParsed = true;
+        if (StringUtils.isEmpty(clientIp)) {
+            return;
+        }
+        try {
+            clientIpAddress = InetAddress.getByName(clientIp);
+            clientIpValue = new BigInteger(1, clientIpAddress.getAddress());
+        } catch (UnknownHostException e) {
+            logger.debug("Error while parsing the client IP {}", clientIp, e);
+        }
+    }
+
     /**
      * Returns the request payload (request data submitted with the request).
      *
@@ -320,6 +372,14 @@ public class RequestContext {
      * @return query parameters as a map of {@code <param_name, param_value>}
      */
     public Map<String, String> getQueryParameters() {
+        if (queryParameters == null) {
+            Map<String, String> parameters = new HashMap<>();
+            List<NameValuePair> queryParams = URLEncodedUtils.parse(queryString, StandardCharsets.UTF_8);
+            for (NameValuePair param : queryParams) {
+                parameters.put(param.getName(), param.getValue());
+            }
+            queryParameters = parameters;
+        }
         return queryParameters;
     }
 
@@ -393,6 +453,33 @@ public class RequestContext {
         this.clientCertificate = clientCertificate;
     }
 
+    /**
+     * Create and populate path parameters map. The resolver compiled for the matched resource is used if there is
+     * one, and a resolver is compiled for the path template otherwise.
+     *
+     * @return map which contains path parameters
+     */
+    private Map<String, String> resolvePathParameters() {
+        if (requestPathTemplate == null || rawPath == null) {
+            logger.debug("Skip populating the path parameters. template: {}, rawPath: {}", requestPathTemplate,
+                    rawPath);
+            return null;
+        }
+        ParameterResolver parameterResolver = null;
+        if (matchedResourcePaths != null && matchedResourcePaths.size() == 1
+                && requestPathTemplate.equals(matchedResourcePaths.get(0).getPath())) {
+            parameterResolver = matchedResourcePaths.get(0).getPathParameterResolver(rawPath);
+        }
+        if (parameterResolver == null) {
+            String formattedBasePath = ParameterResolver.formatBasePath(matchedAPI.getBasePath());
+            // rawPath would not have the prefix <formattedBasePath> only when it is a default api
+            // request.
+            parameterResolver = ParameterResolver.forResource(formattedBasePath, requestPathTemplate,
+                    !rawPath.startsWith(formattedBasePath));
+        }
+        return parameterResolver.parametersByName(rawPath);
+    }
+
     /**
      * Implements builder pattern to build an {@link RequestContext} object.
      */
@@ -410,6 +497,8 @@ public class RequestContext {
         private AuthenticationContext authenticationContext = new AuthenticationContext();
         private String requestID;
         private String clientIp;
+        private boolean clientIpParsed;
+        private InetAddress clientIpAddress;
         private String requestPayload;
         private String clientCertificate;
         private WebSocketFrameContext webSocketFrameContext;
@@ -472,6 +561,20 @@ public class RequestContext {
             return this;
         }
 
+        /**
+         * Set the client IP along with its parsed address, so that the client IP is not parsed again for the request.
+         *
+         * @param address       client IP
+         * @param parsedAddress parsed client IP, or null if the client IP is not available or invalid
+         * @return the builder
+         */
+        public Builder address(String address, InetAddress parsedAddress) {
+            this.clientIp = address;
+            this.clientIpAddress = parsedAddress;
+            this.clientIpParsed = true;
+            return this;
+        }
+
         public Builder certificate(String certificate) {
             this.clientCertificate = certificate;
             return this;
@@ -502,6 +605,13 @@ public class RequestContext {
             requestContext.authenticationContext = this.authenticationContext;
             requestContext.requestID = this.requestID;
             requestContext.clientIp = this.clientIp;
+            if (this.clientIpParsed) {
+                requestContext.clientIpParsed = true;
+                requestContext.clientIpAddress = this.clientIpAddress;
+                if (this.clientIpAddress != null) {
+                    requestContext.clientIpValue = new BigInteger(1, this.clientIpAddress.getAddress());
+                }
+            }
             requestContext.requestPayload = this.requestPayload;
             requestContext.clientCertificate = this.clientCertificate;
             requestContext.addHeaders = new HashMap<>();
@@ -510,18 +620,20 @@ public class RequestContext {
             requestContext.removeAllQueryParams = false;
             requestContext.queryParamsToAdd = new HashMap<>();
             requestContext.protectedHeaders = new ArrayList<>();
-            String[] queryParts = this.requestPath.split("\\?");
-            String queryParamsString = queryParts.length > 1 ? queryParts[1] : "";
-
-            requestContext.queryParameters = new HashMap<>();
-            List<NameValuePair> queryParams = URLEncodedUtils.parse(queryParamsString, StandardCharsets.UTF_8);
-            for (NameValuePair param : queryParams) {
-                requestContext.queryParameters.put(param.getName(), param.getValue());
+            // Path is split at the first '?', and the query string ends at the next '?' if there is any.
+            requestContext.queryString = "";
+            if (this.requestPath != null) {
+                int queryStart = this.requestPath.indexOf('?');
+                if (queryStart == -1) {
+                    requestContext.rawPath = this.requestPath;
+                } else {
+                    requestContext.rawPath = this.requestPath.substring(0, queryStart);
+                    int queryEnd = this.requestPath.indexOf('?', queryStart + 1);
+                    requestContext.queryString = queryEnd == -1 ? this.requestPath.substring(queryStart + 1) :
+                            this.requestPath.substring(queryStart + 1, queryEnd);
+                }
             }
 
-            requestContext.pathParameters = populatePathParameters(
-                    matchedAPI.getBasePath(), requestPathTemplate, this.requestPath);
-
             if (this.webSocketFrameContext != null) {
                 requestContext.webSocketFrameContext = this.webSocketFrameContext;
             }
@@ -532,41 +644,5 @@ public class RequestContext {
             this.requestPathTemplate = requestPathTemplate;
             return this;
         }
-
-        /**
-         * Create and populate path parameters map.
-         *
-         * @param basePath         basePath of the API
-         * @param resourceTemplate resourceTemplate (as listed in OpenAPI)
-         * @param rawPath          raw request Path
-         * @return map which contains path parameters
-         */
-        private Map<String, String> populatePathParameters(String basePath, String resourceTemplate,
-                                                           String rawPath) {
-            if (resourceTemplate == null || rawPath == null) {
-                logger.debug("Skip populating the path parameters. template: {}, rawPath: {}", resourceTemplate,
-                        rawPath);
-                return null;
-            }
-            // Format the basePath and resourcePath to maintain consistency
-            String formattedBasePath = basePath.startsWith("/") ? basePath : "/" + basePath;
-            formattedBasePath = formattedBasePath.endsWith("/") ?
-                    formattedBasePath.substring(0, formattedBasePath.length() - 1) : formattedBasePath;
-            String formattedResourcePathTemplate = resourceTemplate.startsWith("/") ?
-                    resourceTemplate : "/" + resourceTemplate;
-            String formattedRawPath = rawPath.split("\\?")[0];
-
-            String completeResourcePathTemplate = formattedBasePath + formattedResourcePathTemplate;
-            // rawPath would not have the prefix <formattedBasePath> only when it is a default api
-            // request.
-            if (!formattedRawPath.startsWith(formattedBasePath)) {
-                // formatted basePath does not have a trailing slash. Hence the last slash appears right
-                // before the version.
-                String apiContext = formattedBasePath.substring(0, formattedBasePath.lastIndexOf("/"));
-                completeResourcePathTemplate = apiContext + formattedResourcePathTemplate;
-            }
-            final ParameterResolver parameterResolver = new ParameterResolver(completeResourcePathTemplate);
-            return parameterResolver.parametersByName(formattedRawPath);
-        }
     }
 }
@@ -34,6 +34,10 @@ public class ResourceConfig {
     private Map<String, EndpointCluster> endpoints; // "PRODUCTION" OR "SANDBOX" -> endpoint cluster
     private PolicyConfig policyConfig;
     private MockedApiConfig mockedApiConfig;
+    // Resolvers of the path parameters, compiled when the API config is built.
+    private String formattedBasePath;
+    private ParameterResolver pathParameterResolver;
+    private ParameterResolver defaultVersionPathParameterResolver;
 
     /**
      * ENUM to hold http operations.
@@ -151,5 +155,35 @@ public class ResourceConfig {
     public void setPolicyConfig(PolicyConfig policyConfig) {
         this.policyConfig = policyConfig;
     }
-}
 
+    /**
+     * Compile the path parameter resolvers of the resource, for the requests with and without the version of the
+     * API in the path.
+     *
+     * @param basePath basePath of the API
+     */
+    void initPathParameterResolvers(String basePath) {
+        if (basePath == null || path == null) {
+            return;
+        }
+        formattedBasePath = ParameterResolver.formatBasePath(basePath);
+        pathParameterResolver = ParameterResolver.forResource(formattedBasePath, path, false);
+        if (!formattedBasePath.isEmpty()) {
+            defaultVersionPathParameterResolver = ParameterResolver.forResource(formattedBasePath, path, true);
+        }
+    }
+
+    /**
+     * Get the path parameter resolver of a request to the resource.
+     *
+     * @param rawPath request path without the query
+     * @return the resolver, or null if the resolvers are not compiled
+     */
+    ParameterResolver getPathParameterResolver(String rawPath) {
+        if (pathParameterResolver == null) {
+            return null;
+        }
+        // rawPath would not have the prefix <formattedBasePath> only when it is a default api request.
+        return rawPath.startsWith(formattedBasePath) ? pathParameterResolver : defaultVersionPathParameterResolver;
+    }
+}
@@ -20,6 +20,11 @@ package org.wso2.choreo.connect.enforcer.commons.model;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+
 public class RequestContextTest {
 
     public RequestContextTest() {}
@@ -107,6 +112,60 @@ public class RequestContextTest {
                 "petId", "12");
     }
 
+    @Test
+    public void testPathParametersWithMatchedResource() {
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig.setPath("/pet/{petId}/status/{statusType}");
+        APIConfig apiConfig = new APIConfig.Builder("Petstore").basePath("/petstore/v1")
+                .resources(Collections.singletonList(resourceConfig)).build();
+
+        RequestContext requestContext = buildRequestContext("/petstore/v1/pet/12/status/available?abc=xyz",
+                apiConfig, resourceConfig);
+        Assert.assertEquals("12", requestContext.getPathParameters().get("petId"));
+        Assert.assertEquals("available", requestContext.getPathParameters().get("statusType"));
+
+        requestContext = buildRequestContext("/petstore/pet/13/status/sold", apiConfig, resourceConfig);
+        Assert.assertEquals("13", requestContext.getPathParameters().get("petId"));
+        Assert.assertEquals("sold", requestContext.getPathParameters().get("statusType"));
+    }
+
+    @Test
+    public void testQueryParameters() {
+        RequestContext.Builder builder = new RequestContext.Builder("/v2/pet/12?status=sold&tag=a%20b");
+        builder.matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build());
+        RequestContext requestContext = builder.build();
+        Assert.assertEquals(2, requestContext.getQueryParameters().size());
+        Assert.assertEquals("sold", requestContext.getQueryParameters().get("status"));
+        Assert.assertEquals("a b", requestContext.getQueryParameters().get("tag"));
+
+        builder = new RequestContext.Builder("/v2/pet/12");
+        builder.matchedAPI(new APIConfig.Builder("Petstore").basePath("/v2").build());
+        Assert.assertTrue(builder.build().getQueryParameters().isEmpty());
+    }
+
+    private RequestContext buildRequestContext(String rawPath, APIConfig apiConfig, ResourceConfig resourceConfig) {
+        return new RequestContext.Builder(rawPath).matchedAPI(apiConfig).pathTemplate(resourceConfig.getPath())
+                .matchedResourceConfigs(new ArrayList<>(Collections.singletonList(resourceConfig))).build();
+    }
+
+    @Test
+    public void testParsedClientIp() throws Exception {
+        InetAddress address = InetAddress.getByName("192.168.1.10");
+        RequestContext requestContext = new RequestContext.Builder("/v2/pet/12")
+                .address("192.168.1.10", address).build();
+        Assert.assertSame(address, requestContext.getClientIpAddress());
+        Assert.assertEquals(BigInteger.valueOf(0xC0A8010AL), requestContext.getClientIpValue());
+
+        // An invalid client IP, which is already known to be invalid, is not parsed again.
+        requestContext = new RequestContext.Builder("/v2/pet/12").address("invalid-ip", null).build();
+        Assert.assertNull(requestContext.getClientIpAddress());
+        Assert.assertEquals(BigInteger.ZERO, requestContext.getClientIpValue());
+
+        requestContext = new RequestContext.Builder("/v2/pet/12").address("192.168.1.10").build();
+        Assert.assertEquals(address, requestContext.getClientIpAddress());
+        Assert.assertEquals(BigInteger.valueOf(0xC0A8010AL), requestContext.getClientIpValue());
+    }
+
     private void testPathParamValues(String rawPath, String basePath, String pathTemplate, String pathParamName,
                                      String expectedValue) {
         RequestContext.Builder builder = new RequestContext.Builder(rawPath);
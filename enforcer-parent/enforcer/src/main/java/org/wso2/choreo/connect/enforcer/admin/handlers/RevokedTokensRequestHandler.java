@@ -25,21 +25,22 @@ import org.wso2.choreo.connect.enforcer.models.ResponsePayload;
 import org.wso2.choreo.connect.enforcer.models.RevokedToken;
 import org.wso2.choreo.connect.enforcer.models.RevokedTokenList;
 import org.wso2.choreo.connect.enforcer.security.jwt.validator.RevokedJWTDataHolder;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.RevokedTokenStore;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * Request handler implementation for revoked tokens
+ * Request handler implementation for revoked tokens. Without a token parameter, at most the 1000 most recently
+ * revoked tokens are listed; older revoked tokens are still enforced but not listed.
  */
 public class RevokedTokensRequestHandler extends RequestHandler {
     @Override
     public ResponsePayload handleRequest(String[] params, String requestType) throws Exception {
 
         List<RevokedToken> revokedTokens = new ArrayList<>();
-        RevokedJWTDataHolder revokedJWTDataHolder = RevokedJWTDataHolder.getInstance();
-        Map<String, Long> revokedJWTMap = revokedJWTDataHolder.getRevokedJWTMap();
+        RevokedTokenStore revokedTokenStore = RevokedJWTDataHolder.getInstance().getRevokedTokenStore();
         String token;
 
         if (params != null) {
@@ -53,10 +54,11 @@ public class RevokedTokensRequestHandler extends RequestHandler {
                         SignedJWT signedJWT = SignedJWT.parse(token);
                         token = signedJWT.getJWTClaimsSet().getJWTID();
 
-                        if (revokedJWTMap.containsKey(token)) {
+                        Long expiryTime = revokedTokenStore.getExpiryTime(token);
+                        if (expiryTime != null) {
                             RevokedToken revokedToken = new RevokedToken();
                             revokedToken.setToken(token);
-                            revokedToken.setExpiredTime(revokedJWTMap.get(token));
+                            revokedToken.setExpiredTime(expiryTime);
                             revokedTokens.add(revokedToken);
                         }
                     }
@@ -64,8 +66,8 @@ public class RevokedTokensRequestHandler extends RequestHandler {
             }
 
         } else {
-            // Return all the tokens...
-            for (Map.Entry<String, Long> e : revokedJWTMap.entrySet()) {
+            // Only the most recently revoked tokens are listed, as the store keeps the hashes of the identifiers.
+            for (Map.Entry<String, Long> e : revokedTokenStore.getRecentlyRevokedTokens().entrySet()) {
                 RevokedToken revokedToken = new RevokedToken();
                 revokedToken.setToken(e.getKey());
                 revokedToken.setExpiredTime(e.getValue());
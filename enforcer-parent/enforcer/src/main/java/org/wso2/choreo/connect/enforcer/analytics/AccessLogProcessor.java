@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
+import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.EnvVarConfig;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.AccessLogProcessorMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Processes the access log messages received from the router on dedicated worker threads, so that the gRPC
+ * stream of the router is never held up by analytics publishing or metrics.
+ * <p>
+ * Messages are handed off to a bounded queue. When the queue is full the message is dropped and counted, instead
+ * of blocking the router. Each worker takes up to {@link #MAX_BATCH_SIZE} queued messages at a time to reduce the
+ * contention on the queue, but the messages are still handled and published one by one.
+ * <p>
+ * The processor is initialized only if analytics or metrics are enabled, as there is nothing to process otherwise.
+ */
+public class AccessLogProcessor {
+    private static final Logger logger = LogManager.getLogger(AccessLogProcessor.class);
+    static final int MAX_BATCH_SIZE = 100;
+    private static volatile AccessLogProcessor instance;
+
+    private final BlockingQueue<StreamAccessLogsMessage> queue;
+    private final Consumer<StreamAccessLogsMessage> messageHandler;
+    private final LongAdder processedEntryCount = new LongAdder();
+    private final LongAdder droppedEntryCount = new LongAdder();
+    private final LongAdder droppedMessageCount = new LongAdder();
+    private final AtomicBoolean overloaded = new AtomicBoolean(false);
+
+    AccessLogProcessor(int queueSize, int workerCount, Consumer<StreamAccessLogsMessage> messageHandler) {
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.messageHandler = messageHandler;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::processMessages, "access-log-processor-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    public static AccessLogProcessor getInstance() {
+        if (instance == null) {
+            synchronized (AccessLogProcessor.class) {
+                if (instance == null) {
+                    EnvVarConfig envVarConfig = ConfigHolder.getInstance().getEnvVarConfig();
+                    instance = new AccessLogProcessor(envVarConfig.getAccessLogQueueSize(),
+                            envVarConfig.getAccessLogWorkerCount(), AccessLogProcessor::handleMessage);
+                    if (JMXUtils.isJMXMetricsEnabled()) {
+                        AccessLogProcessorMetrics.getInstance();
+                    }
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Queue an access log message to be processed. This does not block.
+     *
+     * @param message access log message received from the router
+     * @return {@code true} if the message is queued, {@code false} if it is dropped as the queue is full
+     */
+    public boolean submit(StreamAccessLogsMessage message) {
+        if (queue.offer(message)) {
+            if (overloaded.get() && overloaded.compareAndSet(true, false)) {
+                logger.info("Access log processing has recovered. {} access log entries were dropped in total.",
+                        droppedEntryCount.sum());
+            }
+            return true;
+        }
+        droppedMessageCount.increment();
+        droppedEntryCount.add(message.getHttpLogs().getLogEntryCount());
+        if (overloaded.compareAndSet(false, true)) {
+            logger.warn("Access log queue is full. Access log entries are dropped until the queue is drained. {}",
+                    ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 5104));
+        }
+        return false;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long getProcessedEntryCount() {
+        return processedEntryCount.sum();
+    }
+
+    public long getDroppedEntryCount() {
+        return droppedEntryCount.sum();
+    }
+
+    public long getDroppedMessageCount() {
+        return droppedMessageCount.sum();
+    }
+
+    private void processMessages() {
+        List<StreamAccessLogsMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (StreamAccessLogsMessage message : batch) {
+                try {
+                    messageHandler.accept(message);
+                } catch (RuntimeException e) {
+                    logger.error("Error while processing the access log entries received from the router.",
+                            ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 5107), e);
+                }
+                processedEntryCount.add(message.getHttpLogs().getLogEntryCount());
+            }
+            batch.clear();
+        }
+    }
+
+    private static void handleMessage(StreamAccessLogsMessage message) {
+        if (ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled()) {
+            AnalyticsFilter.getInstance().handleGRPCLogMsg(message);
+        }
+        if (ConfigHolder.getInstance().getConfig().getMetricsConfig().isMetricsEnabled()) {
+            MetricsUtils.handlePublishingMetrics(message);
+        }
+    }
+}
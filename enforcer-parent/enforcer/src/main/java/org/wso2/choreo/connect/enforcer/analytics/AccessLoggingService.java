@@ -33,7 +33,6 @@ import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.AnalyticsReceiverConfigDTO;
-import org.wso2.choreo.connect.enforcer.metrics.MetricsUtils;
 import org.wso2.choreo.connect.enforcer.server.Constants;
 import org.wso2.choreo.connect.enforcer.server.EnforcerThreadPoolExecutor;
 import org.wso2.choreo.connect.enforcer.server.NativeThreadFactory;
@@ -53,12 +52,20 @@ import java.util.concurrent.TimeUnit;
 public class AccessLoggingService extends AccessLogServiceGrpc.AccessLogServiceImplBase {
 
     private static final Logger logger = LogManager.getLogger(AccessLoggingService.class);
+    private boolean processingEnabled;
 
     public void init() throws IOException {
         // Initialize analytics Filter
-        if (ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled()) {
+        boolean analyticsEnabled = ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled();
+        if (analyticsEnabled) {
             AnalyticsFilter.getInstance();
         }
+        // The access log processor workers are started only if there is something to process.
+        processingEnabled = analyticsEnabled
+                || ConfigHolder.getInstance().getConfig().getMetricsConfig().isMetricsEnabled();
+        if (processingEnabled) {
+            AccessLogProcessor.getInstance();
+        }
         startAccessLoggingServer();
     }
 
@@ -68,11 +75,10 @@ public class AccessLoggingService extends AccessLogServiceGrpc.AccessLogServiceI
         return new StreamObserver<>() {
             @Override
             public void onNext(StreamAccessLogsMessage message) {
-                if (ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled()) {
-                    AnalyticsFilter.getInstance().handleGRPCLogMsg(message);
-                }
-                if (ConfigHolder.getInstance().getConfig().getMetricsConfig().isMetricsEnabled()) {
-                    MetricsUtils.handlePublishingMetrics(message);
+                // Analytics and metrics are processed by the access log processor workers, so that the router
+                // is not held up.
+                if (processingEnabled) {
+                    AccessLogProcessor.getInstance().submit(message);
                 }
             }
 
@@ -47,11 +47,14 @@ import java.util.Map;
  */
 public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
     private static final Logger logger = LogManager.getLogger(ChoreoAnalyticsProvider.class);
-    private static Map<String, Object> customProperties = new HashMap<>();
+    private final Map<String, Object> customProperties = new HashMap<>();
     protected final HTTPAccessLogEntry logEntry;
+    // Metadata set by the enforcer, which is decoded once and shared by all the getters.
+    private final Map<String, Value> fieldsMap;
 
     public ChoreoAnalyticsProvider(HTTPAccessLogEntry logEntry) {
         this.logEntry = logEntry;
+        this.fieldsMap = getFieldsMapFromLogEntry();
         if (AnalyticsFilter.getAnalyticsCustomDataProvider() != null) {
             setCustomPropertiesMap(logEntry, customProperties);
         }
@@ -77,7 +80,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public boolean isAnonymous() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         // If appId is unknown, subscriptions are not validated.
         return AnalyticsConstants.DEFAULT_FOR_UNASSIGNED
                 .equals(getValueAsString(fieldsMap, MetadataConstants.APP_ID_KEY));
@@ -108,7 +110,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public API getApi() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         ExtendedAPI api = new ExtendedAPI();
         api.setApiType(getValueAsString(fieldsMap, MetadataConstants.API_TYPE_KEY));
         api.setApiId(getValueAsString(fieldsMap, MetadataConstants.API_ID_KEY));
@@ -123,7 +124,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public Application getApplication() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         Application application = new Application();
         application.setApplicationOwner(getValueAsString(fieldsMap, MetadataConstants.APP_OWNER_KEY));
         application.setApplicationName(getValueAsString(fieldsMap, MetadataConstants.APP_NAME_KEY));
@@ -134,7 +134,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public Operation getOperation() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         Operation operation = new Operation();
         operation.setApiResourceTemplate(getValueAsString(fieldsMap, MetadataConstants.API_RESOURCE_TEMPLATE_KEY));
         operation.setApiMethod(logEntry.getRequest().getRequestMethod().name());
@@ -143,7 +142,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public Target getTarget() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         Target target = new Target();
         // As response caching is not configured at the moment.
         target.setResponseCacheHit(false);
@@ -156,7 +154,17 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
     public Latencies getLatencies() {
         // This method is only invoked for success requests. Hence all these properties will be available.
         // The cors requests responded from the CORS filter are already filtered at this point.
-        AccessLogCommon properties = logEntry.getCommonProperties();
+        return getLatencies(logEntry.getCommonProperties());
+    }
+
+    /**
+     * Calculate the latencies of a request from the timings of its access log entry, without decoding the rest
+     * of the entry.
+     *
+     * @param properties common properties of the access log entry
+     * @return latencies of the request
+     */
+    public static Latencies getLatencies(AccessLogCommon properties) {
         long backendResponseRecvTimestamp = properties.getTimeToLastUpstreamRxByte().getSeconds() * 1000 +
                 properties.getTimeToLastUpstreamRxByte().getNanos() / 1000000;
         long backendRequestSendTimestamp = properties.getTimeToFirstUpstreamTxByte().getSeconds() * 1000 +
@@ -174,7 +182,6 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
 
     @Override
     public MetaInfo getMetaInfo() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         MetaInfo metaInfo = new MetaInfo();
         metaInfo.setCorrelationId(getValueAsString(fieldsMap, MetadataConstants.CORRELATION_ID_KEY));
         metaInfo.setGatewayType(AnalyticsConstants.GATEWAY_LABEL);
@@ -227,12 +234,11 @@ public class ChoreoAnalyticsProvider implements AnalyticsDataProvider {
         if (customDataProvider != null && customDataProvider.getCustomProperties(customProperties) != null) {
             return customDataProvider.getCustomProperties(customProperties);
         }
-        return this.customProperties;
+        return customProperties;
     }
 
     @Override
     public String getUserName() {
-        Map<String, Value> fieldsMap = getFieldsMapFromLogEntry();
         return getValueAsString(fieldsMap, MetadataConstants.API_USER_NAME_KEY);
     }
 
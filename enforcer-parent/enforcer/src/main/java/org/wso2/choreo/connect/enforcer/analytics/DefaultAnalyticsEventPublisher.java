@@ -68,10 +68,12 @@ public class DefaultAnalyticsEventPublisher implements AnalyticsEventPublisher {
 
     @Override
     public void handleGRPCLogMsg(StreamAccessLogsMessage message) {
-        for (int i = 0; i < message.getHttpLogs().getLogEntryCount(); i++) {
-            HTTPAccessLogEntry logEntry = message.getHttpLogs().getLogEntry(i);
+        if (logger.isTraceEnabled()) {
             logger.trace("Received logEntry from Router " + message.getIdentifier().getNode() +
                     " : " + message.toString());
+        }
+        for (int i = 0; i < message.getHttpLogs().getLogEntryCount(); i++) {
+            HTTPAccessLogEntry logEntry = message.getHttpLogs().getLogEntry(i);
             if (doNotPublishEvent(logEntry)) {
                 logger.debug("LogEntry is ignored as it is already published by the enforcer.");
                 continue;
@@ -21,6 +21,7 @@ import org.wso2.choreo.connect.discovery.api.Api;
 import org.wso2.choreo.connect.enforcer.commons.Filter;
 import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 
 import java.util.List;
 
@@ -36,6 +37,15 @@ public interface API {
 
     APIConfig getAPIConfig();
 
+    /**
+     * Find the resource of the API matching the given path template and method.
+     *
+     * @param path   path template of the resource
+     * @param method HTTP method (or the GraphQL operation type) of the request
+     * @return matched resource or null if there is no such resource
+     */
+    ResourceConfig getMatchedResource(String path, String method);
+
     default boolean executeFilterChain(RequestContext requestContext) {
         boolean proceed;
         for (Filter filter : getFilters()) {
@@ -24,12 +24,25 @@ import org.wso2.choreo.connect.discovery.api.Api;
 import org.wso2.choreo.connect.discovery.service.websocket.WebSocketFrameRequest;
 import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.discovery.ApiDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsConstants;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsManager;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.APIUpdateMetrics;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Holds the meta data of all the APIS deployed in the gateway node. Adding/Updating API requires to register the
@@ -40,7 +53,12 @@ public class APIFactory {
     private static final Logger logger = LogManager.getLogger(APIFactory.class);
 
     private static APIFactory apiFactory;
-    private ConcurrentHashMap<String, API> apis = new ConcurrentHashMap<>();
+    // vhost -> basePath -> version -> API. The registry is never modified after it is published, hence a lookup
+    // does not need to build a composite key per request.
+    private volatile Map<String, Map<String, Map<String, API>>> apis = Collections.emptyMap();
+    // Definitions received from the API discovery service for each deployed API. Used to find out the APIs
+    // which are unchanged in an update, so that they are not initialized again.
+    private Map<API, Api> apiDefinitions = new IdentityHashMap<>();
 
     private APIFactory() {}
 
@@ -56,55 +74,166 @@ public class APIFactory {
         ads.watchApis();
     }
 
-    public void addApi(API api) {
-        String apiKey = getApiKey(api);
-        apis.put(apiKey, api);
+    public synchronized void addApi(API api) {
+        APIConfig apiConfig = api.getAPIConfig();
+        API existingApi = getApi(apiConfig.getVhost(), apiConfig.getBasePath(), apiConfig.getVersion());
+        if (existingApi != null) {
+            this.apiDefinitions.remove(existingApi);
+        }
+        Map<String, Map<String, Map<String, API>>> newApis = copyRegistry(this.apis);
+        putApi(newApis, api);
+        this.apis = newApis;
     }
 
-    public void addApis(List<Api> apis) {
+    /**
+     * Replace the deployed APIs with the given set of APIs. Only the APIs which are added or changed since the
+     * previous update are initialized, while the unchanged APIs are reused as they are.
+     *
+     * @param apis complete set of APIs received from the API discovery service
+     */
+    public synchronized void addApis(List<Api> apis) {
         //TODO: (Praminda) Use apiId as the map key. Need to add the apiId to envoy context meta
-        ConcurrentHashMap<String, API> newApis = new ConcurrentHashMap<>();
+        long startTime = System.currentTimeMillis();
+        Map<String, Map<String, Map<String, API>>> newApis = new HashMap<>();
+        Map<API, Api> newApiDefinitions = new IdentityHashMap<>(apis.size());
 
+        // Unchanged APIs are kept in their positions (the rest being null), so that the registry is populated
+        // in the same order as the received list irrespective of how the changed APIs are initialized.
+        List<API> enforcerApis = new ArrayList<>(apis.size());
+        List<Api> changedApis = new ArrayList<>();
         for (Api api : apis) {
-            if (APIConstants.ApiType.WEB_SOCKET.equals(api.getApiType())) {
-                WebSocketAPI webSocketAPI = new WebSocketAPI();
-                webSocketAPI.init(api);
-                String apiKey = getApiKey(webSocketAPI);
-                newApis.put(apiKey, webSocketAPI);
-            } else if (APIConstants.ApiType.GRAPHQL.equals(api.getApiType())) {
-                GraphQLAPI graphQLAPI = new GraphQLAPI();
-                graphQLAPI.init(api);
-                String apiKey = getApiKey(graphQLAPI);
-                newApis.put(apiKey, graphQLAPI);
+            API enforcerApi = getApi(api.getVhost(), api.getBasePath(), api.getVersion());
+            if (enforcerApi != null && api.equals(apiDefinitions.get(enforcerApi))) {
+                enforcerApis.add(enforcerApi);
             } else {
-                RestAPI enforcerApi = new RestAPI();
-                enforcerApi.init(api);
-                String apiKey = getApiKey(enforcerApi);
-                newApis.put(apiKey, enforcerApi);
+                enforcerApis.add(null);
+                changedApis.add(api);
+            }
+        }
+        int unchangedApiCount = apis.size() - changedApis.size();
+        Iterator<API> initializedApis = initApis(changedApis).iterator();
+        for (int i = 0; i < apis.size(); i++) {
+            API enforcerApi = enforcerApis.get(i);
+            if (enforcerApi == null) {
+                enforcerApi = initializedApis.next();
+            }
+            putApi(newApis, enforcerApi);
+            newApiDefinitions.put(enforcerApi, apis.get(i));
+        }
+        int removedApiCount = 0;
+        for (API deployedApi : apiDefinitions.keySet()) {
+            if (!newApiDefinitions.containsKey(deployedApi)) {
+                removedApiCount++;
             }
         }
 
         if (logger.isDebugEnabled()) {
-            logger.debug("Total APIs in new cache: {}", newApis.size());
+            logger.debug("Total APIs in new cache: {}", newApiDefinitions.size());
         }
         this.apis = newApis;
+        this.apiDefinitions = newApiDefinitions;
+
+        long updateTime = System.currentTimeMillis() - startTime;
+        int initializedApiCount = apis.size() - unchangedApiCount;
+        logger.info("API update applied in {} ms. Initialized APIs : {}, Unchanged APIs : {}, Removed APIs : {}",
+                updateTime, initializedApiCount, unchangedApiCount, removedApiCount);
+        if (MetricsManager.isMetricsEnabled()) {
+            MetricsManager.getInstance().trackMetric(MetricsConstants.API_UPDATE_LATENCY, updateTime);
+        }
+        if (JMXUtils.isJMXMetricsEnabled()) {
+            APIUpdateMetrics.getInstance().recordMetric(updateTime, initializedApiCount, unchangedApiCount,
+                    removedApiCount);
+        }
     }
 
-    public void removeApi(API api) {
-        String apiKey = getApiKey(api);
-        apis.remove(apiKey);
+    /**
+     * Initialize the given APIs. If API_INIT_PARALLELISM is greater than one, APIs are initialized in parallel
+     * using a bounded pool, which is shut down once the APIs are initialized, otherwise they are initialized on
+     * the calling thread.
+     *
+     * @param apis definitions of the APIs to be initialized
+     * @return initialized APIs in the same order as the definitions
+     */
+    private List<API> initApis(List<Api> apis) {
+        List<API> initializedApis = new ArrayList<>(apis.size());
+        int parallelism = ConfigHolder.getInstance().getEnvVarConfig().getApiInitParallelism();
+        if (parallelism <= 1 || apis.size() <= 1) {
+            for (Api api : apis) {
+                initializedApis.add(createApi(api));
+            }
+            return initializedApis;
+        }
+
+        List<Callable<API>> initTasks = new ArrayList<>(apis.size());
+        for (Api api : apis) {
+            initTasks.add(() -> createApi(api));
+        }
+        // API updates are infrequent, hence the pool is not kept alive in between them.
+        ForkJoinPool apiInitPool = new ForkJoinPool(Math.min(parallelism, apis.size()));
+        try {
+            for (Future<API> initializedApi : apiInitPool.invokeAll(initTasks)) {
+                initializedApis.add(initializedApi.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing APIs", e);
+        } catch (ExecutionException e) {
+            // Surface the same error as the sequential initialization would, so that the update is nacked.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error while initializing APIs", e.getCause());
+        } finally {
+            apiInitPool.shutdown();
+        }
+        return initializedApis;
+    }
+
+    private static API createApi(Api api) {
+        if (APIConstants.ApiType.WEB_SOCKET.equals(api.getApiType())) {
+            WebSocketAPI webSocketAPI = new WebSocketAPI();
+            webSocketAPI.init(api);
+            return webSocketAPI;
+        } else if (APIConstants.ApiType.GRAPHQL.equals(api.getApiType())) {
+            GraphQLAPI graphQLAPI = new GraphQLAPI();
+            graphQLAPI.init(api);
+            return graphQLAPI;
+        }
+        RestAPI enforcerApi = new RestAPI();
+        enforcerApi.init(api);
+        return enforcerApi;
+    }
+
+    public synchronized void removeApi(API api) {
+        APIConfig apiConfig = api.getAPIConfig();
+        Map<String, Map<String, Map<String, API>>> newApis = copyRegistry(this.apis);
+        Map<String, Map<String, API>> apisOfVhost = newApis.get(apiConfig.getVhost());
+        if (apisOfVhost == null) {
+            return;
+        }
+        Map<String, API> versions = apisOfVhost.get(apiConfig.getBasePath());
+        if (versions == null || versions.remove(apiConfig.getVersion()) == null) {
+            return;
+        }
+        if (versions.isEmpty()) {
+            apisOfVhost.remove(apiConfig.getBasePath());
+        }
+        if (apisOfVhost.isEmpty()) {
+            newApis.remove(apiConfig.getVhost());
+        }
+        this.apis = newApis;
+        this.apiDefinitions.remove(api);
     }
 
     public API getMatchedAPI(CheckRequest request) {
         String vHost = request.getAttributes().getContextExtensionsMap().get(APIConstants.GW_VHOST_PARAM);
         String basePath = request.getAttributes().getContextExtensionsMap().get(APIConstants.GW_BASE_PATH_PARAM);
         String version = request.getAttributes().getContextExtensionsMap().get(APIConstants.GW_VERSION_PARAM);
-        String apiKey = getApiKey(vHost, basePath, version);
         if (logger.isDebugEnabled()) {
             logger.debug("Looking for matching API with basepath: {} and version: {}", basePath, version);
         }
 
-        return apis.get(apiKey);
+        return getApi(vHost, basePath, version);
     }
 
     public WebSocketAPI getMatchedAPI(WebSocketFrameRequest webSocketFrameRequest) {
@@ -112,19 +241,14 @@ public class APIFactory {
         String vHost = extAuthMetadata.get(APIConstants.GW_VHOST_PARAM);
         String basePath = extAuthMetadata.get(APIConstants.GW_BASE_PATH_PARAM);
         String version = extAuthMetadata.get(APIConstants.GW_VERSION_PARAM);
-        String apiKey = getApiKey(vHost, basePath, version);
         if (logger.isDebugEnabled()) {
             logger.debug("Looking for matching API with basepath: {} and version: {}", basePath, version);
         }
-        return (WebSocketAPI) apis.get(apiKey);
+        return (WebSocketAPI) getApi(vHost, basePath, version);
     }
 
     public ResourceConfig getMatchedResource(API api, String matchedResourcePath, String method) {
-        List<ResourceConfig> resourceConfigList = api.getAPIConfig().getResources();
-        return resourceConfigList.stream()
-                .filter(resourceConfig -> resourceConfig.getPath().equals(matchedResourcePath)).
-                        filter(resourceConfig -> (method == null) || resourceConfig.getMethod()
-                                .equals(ResourceConfig.HttpMethods.valueOf(method))).findFirst().orElse(null);
+        return api.getMatchedResource(matchedResourcePath, method);
     }
 
     // For WebSocket APIs since there are no resources in WebSocket APIs.
@@ -138,12 +262,35 @@ public class APIFactory {
         return resourceConfig;
     }
 
-    private String getApiKey(API api) {
+    private API getApi(String vhost, String basePath, String version) {
+        Map<String, Map<String, API>> apisOfVhost = apis.get(vhost);
+        if (apisOfVhost == null) {
+            return null;
+        }
+        Map<String, API> versions = apisOfVhost.get(basePath);
+        if (versions == null) {
+            return null;
+        }
+        return versions.get(version);
+    }
+
+    private static void putApi(Map<String, Map<String, Map<String, API>>> registry, API api) {
         APIConfig apiConfig = api.getAPIConfig();
-        return getApiKey(apiConfig.getVhost(), apiConfig.getBasePath(), apiConfig.getVersion());
+        registry.computeIfAbsent(apiConfig.getVhost(), vhost -> new HashMap<>())
+                .computeIfAbsent(apiConfig.getBasePath(), basePath -> new HashMap<>())
+                .put(apiConfig.getVersion(), api);
     }
 
-    private String getApiKey(String vhost, String basePath, String version) {
-        return String.format("%s:%s:%s", vhost, basePath, version);
+    private static Map<String, Map<String, Map<String, API>>> copyRegistry(
+            Map<String, Map<String, Map<String, API>>> registry) {
+        Map<String, Map<String, Map<String, API>>> copy = new HashMap<>(registry.size());
+        for (Map.Entry<String, Map<String, Map<String, API>>> vhostEntry : registry.entrySet()) {
+            Map<String, Map<String, API>> basePaths = new HashMap<>(vhostEntry.getValue().size());
+            for (Map.Entry<String, Map<String, API>> basePathEntry : vhostEntry.getValue().entrySet()) {
+                basePaths.put(basePathEntry.getKey(), new HashMap<>(basePathEntry.getValue()));
+            }
+            copy.put(vhostEntry.getKey(), basePaths);
+        }
+        return copy;
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.api;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.Filter;
+import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
+import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.FilterDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Discovers the custom filter implementations available in the classpath and creates the custom filters of each
+ * API. The classpath scan and the ordering of the configured filters happen only once, as neither changes at runtime.
+ */
+public class CustomFilterLoader {
+    private static final Logger logger = LogManager.getLogger(CustomFilterLoader.class);
+    private static volatile CustomFilterLoader instance;
+
+    // Configured custom filters having an implementation in the classpath, sorted by the position.
+    private final List<FilterDTO> customFilters = new ArrayList<>();
+    private final Map<String, ServiceLoader.Provider<Filter>> filterProviders = new HashMap<>();
+
+    private CustomFilterLoader() {
+        ServiceLoader<Filter> loader = ServiceLoader.load(Filter.class);
+        loader.stream().forEach(provider -> filterProviders.put(provider.type().getName(), provider));
+
+        FilterDTO[] configuredFilters = ConfigHolder.getInstance().getConfig().getCustomFilters().clone();
+        // Needs to sort the filter in ascending order to position the filter in the given position.
+        Arrays.sort(configuredFilters, Comparator.comparing(FilterDTO::getPosition));
+        for (FilterDTO filterDTO : configuredFilters) {
+            if (filterProviders.containsKey(filterDTO.getClassName())) {
+                customFilters.add(filterDTO);
+            } else {
+                logger.error("No Filter Implementation is found in the classPath under the provided name : {}",
+                        filterDTO.getClassName(), ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 5204));
+            }
+        }
+    }
+
+    public static CustomFilterLoader getInstance() {
+        if (instance == null) {
+            synchronized (CustomFilterLoader.class) {
+                if (instance == null) {
+                    instance = new CustomFilterLoader();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Create and initialize the custom filters for the given API and insert them into the filter chain at the
+     * configured positions. A new filter instance is created for each API, so that a filter instance is
+     * initialized only once.
+     *
+     * @param apiConfig API which the filters are created for
+     * @param filters   filter chain of the API
+     */
+    public void loadCustomFilters(APIConfig apiConfig, List<Filter> filters) {
+        for (FilterDTO filterDTO : customFilters) {
+            if (filterDTO.getPosition() <= 0 || filterDTO.getPosition() - 1 > filters.size()) {
+                logger.error("Position provided for the filter is invalid. {} : {} (Filters list size is {})",
+                        filterDTO.getClassName(), filterDTO.getPosition(), filters.size(),
+                        ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 5203));
+                continue;
+            }
+            Filter filter = filterProviders.get(filterDTO.getClassName()).get();
+            filter.init(apiConfig, filterDTO.getConfigProperties());
+            // Since the position starts from 1
+            filters.add(filterDTO.getPosition() - 1, filter);
+        }
+    }
+}
@@ -33,8 +33,6 @@ import org.wso2.choreo.connect.discovery.api.SecurityList;
 import org.wso2.choreo.connect.discovery.api.SecurityScheme;
 import org.wso2.choreo.connect.enforcer.analytics.AnalyticsFilter;
 import org.wso2.choreo.connect.enforcer.commons.Filter;
-import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
-import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.EndpointCluster;
 import org.wso2.choreo.connect.enforcer.commons.model.EndpointSecurity;
@@ -43,13 +41,12 @@ import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.SecuritySchemaConfig;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
-import org.wso2.choreo.connect.enforcer.config.dto.FilterDTO;
-import org.wso2.choreo.connect.enforcer.config.dto.MutualSSLDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
 import org.wso2.choreo.connect.enforcer.cors.CorsFilter;
 import org.wso2.choreo.connect.enforcer.graphql.GraphQLPayloadUtils;
 import org.wso2.choreo.connect.enforcer.graphql.GraphQLQueryAnalysisFilter;
+import org.wso2.choreo.connect.enforcer.graphql.GraphQLQueryCache;
 import org.wso2.choreo.connect.enforcer.security.AuthFilter;
 import org.wso2.choreo.connect.enforcer.security.mtls.MtlsUtils;
 import org.wso2.choreo.connect.enforcer.throttle.ThrottleFilter;
@@ -58,12 +55,9 @@ import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 /**
  * Specific implementation for a Rest API type APIs.
@@ -72,6 +66,13 @@ public class GraphQLAPI implements API {
     private static final Logger logger = LogManager.getLogger(GraphQLAPI.class);
     private final List<Filter> filters = new ArrayList<>();
     private APIConfig apiConfig;
+    private ResourceIndex resourceIndex;
+    private GraphQLQueryCache queryCache;
+    private boolean persistedQueriesEnabled;
+    // Config derived flags are resolved when the API is deployed, as they do not change during its lifetime.
+    private boolean analyticsEnabled;
+    private boolean removeCertificateHeader;
+    private String certificateHeaderName;
 
     @Override
     public List<Filter> getFilters() {
@@ -172,6 +173,14 @@ public class GraphQLAPI implements API {
                 .securitySchemeDefinitions(securitySchemeDefinitions).graphQLSchemaDTO(graphQLSchemaDTO)
                 .trustStore(trustStore).mtlsCertificateTiers(mtlsCertificateTiers).mutualSSL(mutualSSL)
                 .applicationSecurity(applicationSecurity).build();
+        this.resourceIndex = new ResourceIndex(resources);
+        this.queryCache = new GraphQLQueryCache(graphQLSchemaDTO);
+        this.persistedQueriesEnabled = ConfigHolder.getInstance().getEnvVarConfig().getGraphQLPersistedQueryApis()
+                .contains(basePath);
+        this.analyticsEnabled = ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled();
+        this.removeCertificateHeader = !ConfigHolder.getInstance().getConfig().getMtlsInfo()
+                .isEnableOutboundCertificateHeader();
+        this.certificateHeaderName = FilterUtils.getCertificateHeaderName();
         initFilters();
         return basePath;
     }
@@ -180,7 +189,6 @@ public class GraphQLAPI implements API {
     public ResponseObject process(RequestContext requestContext) {
         ResponseObject responseObject = new ResponseObject(requestContext.getRequestID());
         responseObject.setRequestPath(requestContext.getRequestPath());
-        boolean analyticsEnabled = ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled();
 
         populateRemoveAndProtectedHeaders(requestContext);
         boolean isExistsMatchedOperations = requestContext.getMatchedResourcePaths() != null &&
@@ -188,8 +196,12 @@ public class GraphQLAPI implements API {
         // This flag is used to apply CORS filter
         boolean isOptionCall = requestContext.getRequestMethod().contains(HttpConstants.OPTIONS);
 
+        // Response to a persisted query which is not known, prepared when the request context is built.
+        boolean isPreparedResponse = requestContext.getProperties()
+                .containsKey(APIConstants.MessageFormat.RESPONSE_PAYLOAD);
+
         // handle other not allowed && non option request && not yet handled error scenarios.
-        if ((!isOptionCall && !isExistsMatchedOperations) && !requestContext.getProperties()
+        if ((!isOptionCall && !isExistsMatchedOperations) && !isPreparedResponse && !requestContext.getProperties()
                 .containsKey(APIConstants.MessageFormat.ERROR_CODE)) {
             requestContext.getProperties()
                     .put(APIConstants.MessageFormat.STATUS_CODE, APIConstants.StatusCodes.NOTFOUND.getCode());
@@ -211,6 +223,7 @@ public class GraphQLAPI implements API {
             if (requestContext.getAddHeaders() != null && requestContext.getAddHeaders().size() > 0) {
                 responseObject.setHeaderMap(requestContext.getAddHeaders());
             }
+            persistQuery(requestContext);
             if (analyticsEnabled) {
                 AnalyticsFilter.getInstance().handleSuccessRequest(requestContext);
             }
@@ -236,6 +249,11 @@ public class GraphQLAPI implements API {
             if (requestContext.getAddHeaders() != null && requestContext.getAddHeaders().size() > 0) {
                 responseObject.setHeaderMap(requestContext.getAddHeaders());
             }
+            if (isPreparedResponse) {
+                responseObject.setResponseContent(requestContext.getProperties()
+                        .get(APIConstants.MessageFormat.RESPONSE_PAYLOAD).toString());
+                return responseObject;
+            }
             if (analyticsEnabled && !FilterUtils.isSkippedAnalyticsFaultEvent(responseObject.getErrorCode())) {
                 AnalyticsFilter.getInstance().handleFailureRequest(requestContext);
                 responseObject.setMetaDataMap(new HashMap<>(0));
@@ -249,12 +267,42 @@ public class GraphQLAPI implements API {
         return this.apiConfig;
     }
 
+    @Override
+    public ResourceConfig getMatchedResource(String path, String method) {
+        return resourceIndex.getMatchedResource(path, method);
+    }
+
+    public GraphQLQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * @return true if the API accepts queries persisted by the clients as per the automatic persisted queries
+     * protocol
+     */
+    public boolean isPersistedQueriesEnabled() {
+        return persistedQueriesEnabled;
+    }
+
+    /**
+     * Persist the query of a request which is sent along with its hash. This is done only after the request passes
+     * the filter chain, so that the clients which are not allowed to invoke the API cannot persist queries.
+     *
+     * @param requestContext request context of the allowed request
+     */
+    private void persistQuery(RequestContext requestContext) {
+        Object persistedQueryHash = requestContext.getProperties().get(APIConstants.GRAPHQL_PERSISTED_QUERY_HASH);
+        if (persistedQueryHash != null) {
+            queryCache.persistQuery(persistedQueryHash.toString(), requestContext.getRequestPayload());
+        }
+    }
+
     private void initFilters() {
         AuthFilter authFilter = new AuthFilter();
         authFilter.init(apiConfig, null);
         this.filters.add(authFilter);
 
-        GraphQLQueryAnalysisFilter queryAnalysisFilter = new GraphQLQueryAnalysisFilter();
+        GraphQLQueryAnalysisFilter queryAnalysisFilter = new GraphQLQueryAnalysisFilter(queryCache);
         queryAnalysisFilter.init(apiConfig, null);
         this.filters.add(queryAnalysisFilter);
 
@@ -263,11 +311,17 @@ public class GraphQLAPI implements API {
         throttleFilter.init(apiConfig, null);
         this.filters.add(throttleFilter);
 
-        loadCustomFilters(apiConfig);
+        CustomFilterLoader.getInstance().loadCustomFilters(apiConfig, this.filters);
 
         // CORS filter is added as the first filter, and it is not customizable.
         CorsFilter corsFilter = new CorsFilter();
         this.filters.add(0, corsFilter);
+
+        // Throttle filter is removed only after the custom filters are positioned, so that the positions
+        // configured for the custom filters remain the same irrespective of the throttle configuration.
+        if (!ConfigHolder.getInstance().getConfig().getThrottleConfig().isGlobalPublishingEnabled()) {
+            this.filters.remove(throttleFilter);
+        }
     }
 
     private void populateRemoveAndProtectedHeaders(RequestContext requestContext) {
@@ -295,41 +349,10 @@ public class GraphQLAPI implements API {
         Utils.removeCommonAuthHeaders(requestContext);
 
         // Remove mTLS certificate header
-        MutualSSLDto mtlsInfo = ConfigHolder.getInstance().getConfig().getMtlsInfo();
-        String certificateHeaderName = FilterUtils.getCertificateHeaderName();
-        if (!mtlsInfo.isEnableOutboundCertificateHeader()) {
+        if (removeCertificateHeader) {
             requestContext.getRemoveHeaders().add(certificateHeaderName);
         }
         // mTLS Certificate Header should not be included in the throttle publishing event.
         requestContext.getProtectedHeaders().add(certificateHeaderName);
     }
-
-    private void loadCustomFilters(APIConfig apiConfig) {
-        FilterDTO[] customFilters = ConfigHolder.getInstance().getConfig().getCustomFilters();
-        // Needs to sort the filter in ascending order to position the filter in the given position.
-        Arrays.sort(customFilters, Comparator.comparing(FilterDTO::getPosition));
-        Map<String, Filter> filterImplMap = new HashMap<>(customFilters.length);
-        ServiceLoader<Filter> loader = ServiceLoader.load(Filter.class);
-        for (Filter filter : loader) {
-            filterImplMap.put(filter.getClass().getName(), filter);
-        }
-
-        for (FilterDTO filterDTO : customFilters) {
-            if (filterImplMap.containsKey(filterDTO.getClassName())) {
-                if (filterDTO.getPosition() <= 0 || filterDTO.getPosition() - 1 > filters.size()) {
-                    logger.error("Position provided for the filter is invalid. {} : {} (Filters list size is {})",
-                            filterDTO.getClassName(), filterDTO.getPosition(), filters.size(),
-                            ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 5203));
-                    continue;
-                }
-                Filter filter = filterImplMap.get(filterDTO.getClassName());
-                filter.init(apiConfig, filterDTO.getConfigProperties());
-                // Since the position starts from 1
-                this.filters.add(filterDTO.getPosition() - 1, filter);
-            } else {
-                logger.error("No Filter Implementation is found in the classPath under the provided name : {}",
-                        filterDTO.getClassName(), ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 5204));
-            }
-        }
-    }
 }
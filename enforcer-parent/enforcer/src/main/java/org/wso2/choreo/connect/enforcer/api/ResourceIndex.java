@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.api;
+
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookup table of the resources of an API, keyed by the path template and the HTTP method (or the
+ * GraphQL operation type). It is built once when the API is deployed, so that resolving the matched resource of
+ * a request does not need to scan the complete resource list.
+ */
+public class ResourceIndex {
+    private static final Map<String, ResourceConfig.HttpMethods> METHODS_BY_NAME;
+
+    static {
+        Map<String, ResourceConfig.HttpMethods> methodsByName = new HashMap<>();
+        for (ResourceConfig.HttpMethods httpMethod : ResourceConfig.HttpMethods.values()) {
+            methodsByName.put(httpMethod.name(), httpMethod);
+        }
+        METHODS_BY_NAME = Collections.unmodifiableMap(methodsByName);
+    }
+
+    private final Map<String, Map<ResourceConfig.HttpMethods, ResourceConfig>> resourcesByPath;
+    // Used when the method is not known. Holds the first resource declared under the path.
+    private final Map<String, ResourceConfig> firstResourceByPath;
+
+    public ResourceIndex(List<ResourceConfig> resources) {
+        Map<String, Map<ResourceConfig.HttpMethods, ResourceConfig>> byPath = new HashMap<>();
+        Map<String, ResourceConfig> firstByPath = new HashMap<>();
+        for (ResourceConfig resourceConfig : resources) {
+            String path = resourceConfig.getPath();
+            if (path == null) {
+                continue;
+            }
+            firstByPath.putIfAbsent(path, resourceConfig);
+            if (resourceConfig.getMethod() != null) {
+                // If the same operation is declared twice, the first declaration wins as it did with the list scan.
+                byPath.computeIfAbsent(path, p -> new EnumMap<>(ResourceConfig.HttpMethods.class))
+                        .putIfAbsent(resourceConfig.getMethod(), resourceConfig);
+            }
+        }
+        for (Map.Entry<String, Map<ResourceConfig.HttpMethods, ResourceConfig>> entry : byPath.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+        this.resourcesByPath = Collections.unmodifiableMap(byPath);
+        this.firstResourceByPath = Collections.unmodifiableMap(firstByPath);
+    }
+
+    /**
+     * Find the resource matching the given path template and method.
+     *
+     * @param path   path template (or GraphQL operation name) of the resource
+     * @param method HTTP method or GraphQL operation type in upper case. If null, the first resource declared
+     *               under the path is returned.
+     * @return matched resource or null if there is no such resource
+     */
+    public ResourceConfig getMatchedResource(String path, String method) {
+        if (path == null) {
+            return null;
+        }
+        if (method == null) {
+            return firstResourceByPath.get(path);
+        }
+        ResourceConfig.HttpMethods httpMethod = METHODS_BY_NAME.get(method);
+        if (httpMethod == null) {
+            return null;
+        }
+        Map<ResourceConfig.HttpMethods, ResourceConfig> resourcesByMethod = resourcesByPath.get(path);
+        if (resourcesByMethod == null) {
+            return null;
+        }
+        return resourcesByMethod.get(httpMethod);
+    }
+}
@@ -36,12 +36,11 @@ import org.wso2.choreo.connect.enforcer.commons.model.MockedApiConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.MockedContentExamples;
 import org.wso2.choreo.connect.enforcer.commons.model.MockedHeaderConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.MockedResponseConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.PolicyConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 import org.wso2.choreo.connect.enforcer.commons.model.SecuritySchemaConfig;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
-import org.wso2.choreo.connect.enforcer.config.dto.FilterDTO;
-import org.wso2.choreo.connect.enforcer.config.dto.MutualSSLDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.Constants;
 import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
@@ -56,12 +55,9 @@ import org.wso2.choreo.connect.enforcer.util.MockImplUtils;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 /**
  * Specific implementation for a Rest API type APIs.
@@ -70,6 +66,11 @@ public class RestAPI implements API {
     private static final Logger logger = LogManager.getLogger(RestAPI.class);
     private final List<Filter> filters = new ArrayList<>();
     private APIConfig apiConfig;
+    private ResourceIndex resourceIndex;
+    // Config derived flags are resolved when the API is deployed, as they do not change during its lifetime.
+    private boolean analyticsEnabled;
+    private boolean removeCertificateHeader;
+    private String certificateHeaderName;
     private String apiLifeCycleState;
 
     @Override
@@ -183,6 +184,11 @@ public class RestAPI implements API {
                 .mtlsCertificateTiers(mtlsCertificateTiers).mutualSSL(mutualSSL)
                 .applicationSecurity(applicationSecurity).endpointType(endpointType).build();
 
+        this.resourceIndex = new ResourceIndex(resources);
+        this.analyticsEnabled = ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled();
+        this.removeCertificateHeader = !ConfigHolder.getInstance().getConfig().getMtlsInfo()
+                .isEnableOutboundCertificateHeader();
+        this.certificateHeaderName = FilterUtils.getCertificateHeaderName();
         initFilters();
         return basePath;
     }
@@ -191,7 +197,6 @@ public class RestAPI implements API {
     public ResponseObject process(RequestContext requestContext) {
         ResponseObject responseObject = new ResponseObject(requestContext.getRequestID());
         responseObject.setRequestPath(requestContext.getRequestPath());
-        boolean analyticsEnabled = ConfigHolder.getInstance().getConfig().getAnalyticsConfig().isEnabled();
 
         populateRemoveAndProtectedHeaders(requestContext);
         boolean isExistsMatchedResourcePath = requestContext.getMatchedResourcePaths() != null &&
@@ -262,6 +267,11 @@ public class RestAPI implements API {
         return this.apiConfig;
     }
 
+    @Override
+    public ResourceConfig getMatchedResource(String path, String method) {
+        return resourceIndex.getMatchedResource(path, method);
+    }
+
     private MockedApiConfig getMockedApiOperationConfig(
             org.wso2.choreo.connect.discovery.api.MockedApiConfig mockedApiConfig, String operationName) {
         MockedApiConfig configData = new MockedApiConfig();
@@ -306,43 +316,33 @@ public class RestAPI implements API {
         throttleFilter.init(apiConfig, null);
         this.filters.add(throttleFilter);
 
-        loadCustomFilters(apiConfig);
+        CustomFilterLoader.getInstance().loadCustomFilters(apiConfig, this.filters);
 
         // CORS filter is added as the first filter, and it is not customizable.
         CorsFilter corsFilter = new CorsFilter();
         this.filters.add(0, corsFilter);
 
-        MediationPolicyFilter mediationPolicyFilter = new MediationPolicyFilter();
-        this.filters.add(mediationPolicyFilter);
-    }
+        // Mediation policy filter is a no-op for the API if none of its resources has request policies.
+        if (hasRequestPolicies(apiConfig)) {
+            MediationPolicyFilter mediationPolicyFilter = new MediationPolicyFilter();
+            this.filters.add(mediationPolicyFilter);
+        }
 
-    private void loadCustomFilters(APIConfig apiConfig) {
-        FilterDTO[] customFilters = ConfigHolder.getInstance().getConfig().getCustomFilters();
-        // Needs to sort the filter in ascending order to position the filter in the given position.
-        Arrays.sort(customFilters, Comparator.comparing(FilterDTO::getPosition));
-        Map<String, Filter> filterImplMap = new HashMap<>(customFilters.length);
-        ServiceLoader<Filter> loader = ServiceLoader.load(Filter.class);
-        for (Filter filter : loader) {
-            filterImplMap.put(filter.getClass().getName(), filter);
+        // Throttle filter is removed only after the custom filters are positioned, so that the positions
+        // configured for the custom filters remain the same irrespective of the throttle configuration.
+        if (!ConfigHolder.getInstance().getConfig().getThrottleConfig().isGlobalPublishingEnabled()) {
+            this.filters.remove(throttleFilter);
         }
+    }
 
-        for (FilterDTO filterDTO : customFilters) {
-            if (filterImplMap.containsKey(filterDTO.getClassName())) {
-                if (filterDTO.getPosition() <= 0 || filterDTO.getPosition() - 1 > filters.size()) {
-                    logger.error("Position provided for the filter is invalid. "
-                            + filterDTO.getClassName() + " : " + filterDTO.getPosition() + "(Filters list size is "
-                            + filters.size() + ")");
-                    continue;
-                }
-                Filter filter = filterImplMap.get(filterDTO.getClassName());
-                filter.init(apiConfig, filterDTO.getConfigProperties());
-                // Since the position starts from 1
-                this.filters.add(filterDTO.getPosition() - 1, filter);
-            } else {
-                logger.error("No Filter Implementation is found in the classPath under the provided name : "
-                        + filterDTO.getClassName());
+    private static boolean hasRequestPolicies(APIConfig apiConfig) {
+        for (ResourceConfig resourceConfig : apiConfig.getResources()) {
+            PolicyConfig policyConfig = resourceConfig.getPolicyConfig();
+            if (policyConfig != null && policyConfig.getRequest() != null && policyConfig.getRequest().size() > 0) {
+                return true;
             }
         }
+        return false;
     }
 
     private void populateRemoveAndProtectedHeaders(RequestContext requestContext) {
@@ -381,9 +381,7 @@ public class RestAPI implements API {
         Utils.removeCommonAuthHeaders(requestContext);
 
         // Remove mTLS certificate header
-        MutualSSLDto mtlsInfo = ConfigHolder.getInstance().getConfig().getMtlsInfo();
-        String certificateHeaderName = FilterUtils.getCertificateHeaderName();
-        if (!mtlsInfo.isEnableOutboundCertificateHeader()) {
+        if (removeCertificateHeader) {
             requestContext.getRemoveHeaders().add(certificateHeaderName);
         }
         // mTLS Certificate Header should not be included in the throttle publishing event.
@@ -60,6 +60,7 @@ public class WebSocketAPI implements API {
 
     private static final Logger logger = LogManager.getLogger(WebSocketAPI.class);
     private APIConfig apiConfig;
+    private ResourceIndex resourceIndex;
     private final List<Filter> filters = new ArrayList<>();
     private final List<Filter> upgradeFilters = new ArrayList<>();
     private String apiLifeCycleState;
@@ -144,6 +145,7 @@ public class WebSocketAPI implements API {
                 .authHeader(api.getAuthorizationHeader()).disableSecurity(api.getDisableSecurity())
                 .organizationId(api.getOrganizationId()).endpoints(endpoints).resources(resources)
                 .securitySchemeDefinitions(securitySchemes).build();
+        this.resourceIndex = new ResourceIndex(resources);
         initFilters();
         initUpgradeFilters();
         return basePath;
@@ -199,6 +201,11 @@ public class WebSocketAPI implements API {
         return this.apiConfig;
     }
 
+    @Override
+    public ResourceConfig getMatchedResource(String path, String method) {
+        return resourceIndex.getMatchedResource(path, method);
+    }
+
     @Override
     public boolean executeFilterChain(RequestContext requestContext) {
         boolean proceed;
@@ -18,84 +18,128 @@
 
 package org.wso2.choreo.connect.enforcer.common;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
-import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+import org.wso2.choreo.connect.enforcer.dto.JWTTokenPayloadInfo;
+import org.wso2.choreo.connect.enforcer.graphql.ParsedGraphQLQuery;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.CacheMetricsReporter;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsManager;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.CacheMetrics;
+import org.wso2.choreo.connect.enforcer.security.SubscriptionValidationCacheEntry;
+import org.wso2.choreo.connect.enforcer.security.jwt.BackendJwtCacheEntry;
 import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
-import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWTConstants;
+import org.wso2.choreo.connect.enforcer.security.jwt.TokenCacheEntry;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Class for initiating and returning caches.
+ * Class for initiating and returning caches. The size and the expiry time of each cache can be set separately,
+ * using the name of the cache.
  */
 public class CacheProvider {
-    private static LoadingCache<String, SignedJWTInfo> gatewaySignedJWTParseCache;
-    private static LoadingCache<String, String> gatewayTokenCache;
-    private static LoadingCache<String, JWTValidationInfo> gatewayKeyCache;
-    private static LoadingCache<String, Boolean> invalidTokenCache;
-    private static LoadingCache<String, JWTValidationInfo> gatewayJWTTokenCache;
-    private static LoadingCache<String, String> getGatewayInternalKeyCache;
-    private static LoadingCache<String, String> getInvalidGatewayInternalKeyCache;
-    private static LoadingCache<String, JWTValidationInfo> getGatewayInternalKeyDataCache;
-    private static LoadingCache<String, String> getGatewayAPIKeyCache;
-    private static LoadingCache<String, String> getInvalidGatewayAPIKeyCache;
-    private static LoadingCache<String, JWTValidationInfo> getGatewayAPIKeyDataCache;
-
-    private static boolean cacheEnabled = true;
+    public static final String SIGNED_JWT_PARSE_CACHE = "signedJwtParse";
+    public static final String GATEWAY_TOKEN_CACHE = "gatewayToken";
+    public static final String BACKEND_JWT_CACHE = "backendJwt";
+    public static final String INTERNAL_KEY_DATA_CACHE = "internalKeyData";
+    public static final String INVALID_INTERNAL_KEY_CACHE = "invalidInternalKey";
+    public static final String API_KEY_DATA_CACHE = "apiKeyData";
+    public static final String INVALID_API_KEY_CACHE = "invalidApiKey";
+    public static final String SUBSCRIPTION_VALIDATION_CACHE = "subscriptionValidation";
+    public static final String GRAPHQL_QUERY_CACHE = "graphQLQuery";
+    public static final String GRAPHQL_PERSISTED_QUERY_CACHE = "graphQLPersistedQuery";
+    public static final String OPA_DECISION_CACHE = "opaDecision";
+    // GraphQL caches are not sized by the common cache configuration, unless they are set in the cache settings.
+    private static final int GRAPHQL_QUERY_CACHE_MAXIMUM_SIZE = 1000;
+    private static final int GRAPHQL_QUERY_CACHE_EXPIRY_TIME = 60;
+    private static final int GRAPHQL_PERSISTED_QUERY_CACHE_MAXIMUM_SIZE = 10000;
+    private static final int GRAPHQL_PERSISTED_QUERY_CACHE_EXPIRY_TIME = 24 * 60;
+    private static final long METRICS_REPORT_INTERVAL_MINUTES = 1;
+
+    private static EnforcerCache<String, SignedJWTInfo> gatewaySignedJWTParseCache;
+    private static EnforcerCache<String, TokenCacheEntry> gatewayTokenCache;
+    private static EnforcerCache<String, BackendJwtCacheEntry> gatewayJWTTokenCache;
+    private static EnforcerCache<String, String> getInvalidGatewayInternalKeyCache;
+    private static EnforcerCache<String, JWTTokenPayloadInfo> getGatewayInternalKeyDataCache;
+    private static EnforcerCache<String, String> getInvalidGatewayAPIKeyCache;
+    private static EnforcerCache<String, JWTTokenPayloadInfo> getGatewayAPIKeyDataCache;
+    private static EnforcerCache<String, SubscriptionValidationCacheEntry> subscriptionValidationCache;
+    private static EnforcerCache<String, ParsedGraphQLQuery> graphQLQueryCache;
+    private static EnforcerCache<String, String> graphQLPersistedQueryCache;
+    private static EnforcerCache<String, String> opaDecisionCache;
+    private static List<EnforcerCache<?, ?>> caches = Collections.emptyList();
+
     public static void init() {
         CacheDto cacheDto = ConfigHolder.getInstance().getConfig().getCacheDto();
-        cacheEnabled = cacheDto.isEnabled();
-        int maxSize = cacheDto.getMaximumSize();
-        int expiryTime = cacheDto.getExpiryTime();
-        gatewaySignedJWTParseCache = initCache(maxSize, expiryTime);
-        gatewayTokenCache = initCache(maxSize, expiryTime);
-        gatewayKeyCache = initCache(maxSize, expiryTime);
-        invalidTokenCache = initCache(maxSize, expiryTime);
-        gatewayJWTTokenCache = initCache(maxSize, expiryTime);
-        getGatewayInternalKeyCache = initCache(maxSize, expiryTime);
-        getGatewayInternalKeyDataCache = initCache(maxSize, expiryTime);
-        getInvalidGatewayInternalKeyCache = initCache(maxSize, expiryTime);
-        getGatewayAPIKeyCache = initCache(maxSize, expiryTime);
-        getInvalidGatewayAPIKeyCache = initCache(maxSize, expiryTime);
-        getGatewayAPIKeyDataCache = initCache(maxSize, expiryTime);
-
+        List<EnforcerCache<?, ?>> cacheList = new ArrayList<>();
+        gatewaySignedJWTParseCache = initCache(SIGNED_JWT_PARSE_CACHE, cacheDto, cacheList);
+        gatewayTokenCache = initCache(GATEWAY_TOKEN_CACHE, cacheDto, cacheList);
+        gatewayJWTTokenCache = initCache(BACKEND_JWT_CACHE, cacheDto, cacheList);
+        getGatewayInternalKeyDataCache = initCache(INTERNAL_KEY_DATA_CACHE, cacheDto, cacheList);
+        getInvalidGatewayInternalKeyCache = initCache(INVALID_INTERNAL_KEY_CACHE, cacheDto, cacheList);
+        getGatewayAPIKeyDataCache = initCache(API_KEY_DATA_CACHE, cacheDto, cacheList);
+        getInvalidGatewayAPIKeyCache = initCache(INVALID_API_KEY_CACHE, cacheDto, cacheList);
+        subscriptionValidationCache = initCache(SUBSCRIPTION_VALIDATION_CACHE, cacheDto, cacheList);
+        graphQLQueryCache = initCache(GRAPHQL_QUERY_CACHE,
+                cacheDto.getMaximumSize(GRAPHQL_QUERY_CACHE, GRAPHQL_QUERY_CACHE_MAXIMUM_SIZE),
+                cacheDto.getExpiryTime(GRAPHQL_QUERY_CACHE, GRAPHQL_QUERY_CACHE_EXPIRY_TIME), cacheList);
+        graphQLPersistedQueryCache = initCache(GRAPHQL_PERSISTED_QUERY_CACHE,
+                cacheDto.getMaximumSize(GRAPHQL_PERSISTED_QUERY_CACHE, GRAPHQL_PERSISTED_QUERY_CACHE_MAXIMUM_SIZE),
+                cacheDto.getExpiryTime(GRAPHQL_PERSISTED_QUERY_CACHE, GRAPHQL_PERSISTED_QUERY_CACHE_EXPIRY_TIME),
+                cacheList);
+        // Decisions expire after the TTL of their policies, within the expiry time of the cache.
+        opaDecisionCache = initCache(OPA_DECISION_CACHE, cacheDto, cacheList);
+        caches = Collections.unmodifiableList(cacheList);
+
+        if (JMXUtils.isJMXMetricsEnabled()) {
+            CacheMetrics.getInstance();
+        }
+        if (MetricsManager.isMetricsEnabled()) {
+            ScheduledExecutorService metricsReporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-metrics-reporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsReporter.scheduleAtFixedRate(new CacheMetricsReporter(caches), METRICS_REPORT_INTERVAL_MINUTES,
+                    METRICS_REPORT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        }
     }
 
-    private static LoadingCache initCache(int maxSize, int expiryTime) {
-        return CacheBuilder.newBuilder()
-                .maximumSize(maxSize)                                  // maximum 10000 tokens can be cached
-                .expireAfterAccess(expiryTime, TimeUnit.MINUTES)      // cache will expire after 15 minutes of access
-                .build(new CacheLoader<String, String>() {            // build the cacheloader
-                    @Override public String load(String s) throws Exception {
-                        return JWTConstants.UNAVAILABLE;
-                    }
-
-                });
+    private static <V> EnforcerCache<String, V> initCache(String name, CacheDto cacheDto,
+                                                          List<EnforcerCache<?, ?>> cacheList) {
+        return initCache(name, cacheDto.getMaximumSize(name), cacheDto.getExpiryTime(name), cacheList);
     }
 
+    private static <V> EnforcerCache<String, V> initCache(String name, int maximumSize, int expiryTime,
+                                                          List<EnforcerCache<?, ?>> cacheList) {
+        EnforcerCache<String, V> cache = new EnforcerCache<>(name, maximumSize, expiryTime);
+        cacheList.add(cache);
+        return cache;
+    }
 
     /**
-     * @return Gateway Internal Key cache
+     * @return all the caches
      */
-    public static LoadingCache getGatewayInternalKeyCache() {
-        return getGatewayInternalKeyCache;
+    public static List<EnforcerCache<?, ?>> getCaches() {
+        return caches;
     }
 
     /**
      * @return Gateway Internal Key data cache
      */
-    public static LoadingCache getGatewayInternalKeyDataCache() {
+    public static EnforcerCache<String, JWTTokenPayloadInfo> getGatewayInternalKeyDataCache() {
         return getGatewayInternalKeyDataCache;
     }
 
     /**
      * @return Gateway Internal Key invalid data cache
      */
-    public static LoadingCache getInvalidGatewayInternalKeyCache() {
+    public static EnforcerCache<String, String> getInvalidGatewayInternalKeyCache() {
         return getInvalidGatewayInternalKeyCache;
     }
 
@@ -103,56 +147,64 @@ public class CacheProvider {
      *
      * @return SignedJWT ParsedCache
      */
-    public static LoadingCache getGatewaySignedJWTParseCache() {
+    public static EnforcerCache<String, SignedJWTInfo> getGatewaySignedJWTParseCache() {
         return gatewaySignedJWTParseCache;
     }
 
     /**
-     * @return gateway token cache
+     * @return gateway token cache, holding the parsed JWT and its validation result against the token signature
      */
-    public static LoadingCache getGatewayTokenCache() {
+    public static EnforcerCache<String, TokenCacheEntry> getGatewayTokenCache() {
         return gatewayTokenCache;
     }
 
     /**
-     * @return gateway key cache
+     * @return backend JWT cache, holding the generated tokens with their expiry
      */
-    public static LoadingCache getGatewayKeyCache() {
-        return gatewayKeyCache;
+    public static EnforcerCache<String, BackendJwtCacheEntry> getGatewayJWTTokenCache() {
+        return gatewayJWTTokenCache;
     }
 
     /**
-     * @return gateway invalid token cache
+     * @return Gateway API key data cache
      */
-    public static LoadingCache getInvalidTokenCache() {
-        return invalidTokenCache;
+    public static EnforcerCache<String, JWTTokenPayloadInfo> getGatewayAPIKeyDataCache() {
+        return getGatewayAPIKeyDataCache;
     }
 
     /**
-     * @return JWT token cache
+     * @return Gateway API key invalid data cache
      */
-    public static LoadingCache getGatewayJWTTokenCache() {
-        return gatewayJWTTokenCache;
+    public static EnforcerCache<String, String> getInvalidGatewayAPIKeyCache() {
+        return getInvalidGatewayAPIKeyCache;
     }
 
     /**
-     * @return Gateway API key cache
+     * @return subscription validation cache, holding the validation results with the generation of the subscription
+     * data store they were derived from
      */
-    public static LoadingCache getGatewayAPIKeyCache() {
-        return getGatewayAPIKeyCache;
+    public static EnforcerCache<String, SubscriptionValidationCacheEntry> getSubscriptionValidationCache() {
+        return subscriptionValidationCache;
     }
 
     /**
-     * @return Gateway API key data cache
+     * @return GraphQL query cache, holding the parsed queries of all the GraphQL APIs
      */
-    public static LoadingCache getGatewayAPIKeyDataCache() {
-        return getGatewayAPIKeyDataCache;
+    public static EnforcerCache<String, ParsedGraphQLQuery> getGraphQLQueryCache() {
+        return graphQLQueryCache;
     }
 
     /**
-     * @return Gateway API key invalid data cache
+     * @return GraphQL persisted query cache, holding the queries persisted by the clients of all the GraphQL APIs
      */
-    public static LoadingCache getInvalidGatewayAPIKeyCache() {
-        return getInvalidGatewayAPIKeyCache;
+    public static EnforcerCache<String, String> getGraphQLPersistedQueryCache() {
+        return graphQLPersistedQueryCache;
+    }
+
+    /**
+     * @return OPA decision cache, holding the decisions of all the OPA policies with decision caching enabled
+     */
+    public static EnforcerCache<String, String> getOPADecisionCache() {
+        return opaDecisionCache;
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typed cache used by the enforcer, with its own size and expiry settings.
+ * <p>
+ * The cache is backed by Caffeine, which evicts using W-TinyLFU once the maximum size is reached. Hence entries
+ * which are frequently used (ex: tokens of active clients) are kept over the ones seen only once. Entries expire a
+ * fixed time after they are written. An entry can be given an earlier expiry time as well (ex: the expiry of the
+ * token it is derived from). Hit, miss and eviction counts are recorded for the metrics.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class EnforcerCache<K, V> {
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final String name;
+    private final int maximumSize;
+    private final int expiryTime;
+    private final Cache<K, Entry<V>> cache;
+
+    /**
+     * Create a cache.
+     *
+     * @param name        name of the cache, used in the metrics
+     * @param maximumSize maximum number of entries
+     * @param expiryTime  time in minutes after which an entry expires once written
+     */
+    public EnforcerCache(String name, int maximumSize, int expiryTime) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.expiryTime = expiryTime;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry<K, V>(TimeUnit.MINUTES.toNanos(expiryTime)))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param key key of the entry
+     * @return the cached value, or null if there is no unexpired entry for the key
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Add an entry which expires after the expiry time of the cache.
+     *
+     * @param key   key of the entry
+     * @param value value of the entry
+     */
+    public void put(K key, V value) {
+        cache.put(key, new Entry<>(value, NO_EXPIRY));
+    }
+
+    /**
+     * Add an entry which expires after the expiry time of the cache, or at the given time if it is earlier.
+     *
+     * @param key       key of the entry
+     * @param value     value of the entry
+     * @param expiresAt time in milliseconds at which the entry expires
+     */
+    public void put(K key, V value, long expiresAt) {
+        cache.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getExpiryTime() {
+        return expiryTime;
+    }
+
+    /**
+     * @return number of entries in the cache, once the pending evictions and expired entries are removed
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Expires an entry after the expiry time of the cache once it is written, or at its own expiry time if it is
+     * earlier. Reading an entry does not extend its lifetime.
+     */
+    private static class EntryExpiry<K, V> implements Expiry<K, Entry<V>> {
+        private final long expiryTimeNanos;
+
+        private EntryExpiry(long expiryTimeNanos) {
+            this.expiryTimeNanos = expiryTimeNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            if (entry.expiresAt == NO_EXPIRY) {
+                return expiryTimeNanos;
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(entry.expiresAt - System.currentTimeMillis());
+            return Math.max(0, Math.min(expiryTimeNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
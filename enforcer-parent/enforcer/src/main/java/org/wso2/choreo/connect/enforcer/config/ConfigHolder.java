@@ -47,7 +47,6 @@ import org.wso2.choreo.connect.discovery.config.enforcer.Keypair;
 import org.wso2.choreo.connect.discovery.config.enforcer.Management;
 import org.wso2.choreo.connect.discovery.config.enforcer.Metrics;
 import org.wso2.choreo.connect.discovery.config.enforcer.MutualSSL;
-import org.wso2.choreo.connect.discovery.config.enforcer.PublisherPool;
 import org.wso2.choreo.connect.discovery.config.enforcer.RestServer;
 import org.wso2.choreo.connect.discovery.config.enforcer.Service;
 import org.wso2.choreo.connect.discovery.config.enforcer.Soap;
@@ -82,6 +81,7 @@ import org.wso2.choreo.connect.enforcer.constants.Constants;
 import org.wso2.choreo.connect.enforcer.constants.JwtConstants;
 import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
 import org.wso2.choreo.connect.enforcer.jwks.BackendJWKSDto;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWSVerifierHolder;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.conf.AgentConfiguration;
 import org.wso2.choreo.connect.enforcer.util.BackendJwtUtils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
@@ -270,6 +270,8 @@ public class ConfigHolder {
         } catch (KeyStoreException | CertificateException | NoSuchAlgorithmException | IOException e) {
             logger.error("Error while initiating the truststore for JWT related public certificates", e);
         }
+        // Release the verifiers of the certificates in the previous truststore.
+        JWSVerifierHolder.getInstance().invalidateAll();
         for (Issuer jwtIssuer : cdsIssuers) {
             ExtendedTokenIssuerDto issuerDto = new ExtendedTokenIssuerDto(jwtIssuer.getIssuer());
 
@@ -375,15 +377,9 @@ public class ConfigHolder {
         agentConf.setSocketTimeoutMS(binaryAgent.getSocketTimeoutMS());
         agentConf.setTrustStore(trustStore);
 
-        PublisherPool pool = binary.getPool();
         ThrottlePublisherConfigDto pubConf = new ThrottlePublisherConfigDto();
         pubConf.setUserName(binary.getUsername());
         pubConf.setPassword(binary.getPassword());
-        pubConf.setInitIdleObjectDataPublishingAgents(pool.getInitIdleObjectDataPublishingAgents());
-        pubConf.setMaxIdleDataPublishingAgents(pool.getMaxIdleDataPublishingAgents());
-        pubConf.setPublisherThreadPoolCoreSize(pool.getPublisherThreadPoolCoreSize());
-        pubConf.setPublisherThreadPoolKeepAliveTime(pool.getPublisherThreadPoolKeepAliveTime());
-        pubConf.setPublisherThreadPoolMaximumSize(pool.getPublisherThreadPoolMaximumSize());
 
         processTMPublisherURLGroup(binary.getUrlGroupList(), pubConf);
 
@@ -583,8 +579,33 @@ public class ConfigHolder {
         cacheDto.setEnabled(cache.getEnable());
         cacheDto.setMaximumSize(cache.getMaximumSize());
         cacheDto.setExpiryTime(cache.getExpiryTime());
+        populateCacheSettings(cacheDto, getEnvVarConfig().getCacheSettings());
         config.setCacheDto(cacheDto);
     }
+
+    private void populateCacheSettings(CacheDto cacheDto, String cacheSettings) {
+        if (StringUtils.isBlank(cacheSettings)) {
+            return;
+        }
+        for (String cacheSetting : cacheSettings.split(",")) {
+            String[] parts = cacheSetting.trim().split(":");
+            if (parts.length == 3) {
+                try {
+                    int maximumSize = Integer.parseInt(parts[1].trim());
+                    int expiryTime = Integer.parseInt(parts[2].trim());
+                    if (maximumSize > 0 && expiryTime > 0) {
+                        cacheDto.setMaximumSize(parts[0].trim(), maximumSize);
+                        cacheDto.setExpiryTime(parts[0].trim(), expiryTime);
+                        continue;
+                    }
+                } catch (NumberFormatException e) {
+                    // Logged below
+                }
+            }
+            logger.warn("Ignoring the invalid cache setting: {}. Expected format is "
+                    + "<cache name>:<maximum size>:<expiry time in minutes>, with positive values", cacheSetting);
+        }
+    }
     private void populateAnalyticsConfig(Analytics analyticsConfig) {
 
         AnalyticsReceiverConfigDTO serverConfig = new AnalyticsReceiverConfigDTO();
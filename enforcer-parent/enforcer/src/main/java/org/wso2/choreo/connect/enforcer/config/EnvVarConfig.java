@@ -19,12 +19,20 @@
 package org.wso2.choreo.connect.enforcer.config;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.constants.Constants;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Holds and returns the configuration values retrieved from the environment variables.
  */
 public class EnvVarConfig {
+    private static final Logger logger = LogManager.getLogger(EnvVarConfig.class);
     private static final String TRUSTED_CA_CERTS_PATH = "TRUSTED_CA_CERTS_PATH";
     private static final String TRUST_DEFAULT_CERTS = "TRUST_DEFAULT_CERTS";
     private static final String ADAPTER_HOST_NAME = "ADAPTER_HOST_NAME";
@@ -40,6 +48,14 @@ public class EnvVarConfig {
     public static final String XDS_MAX_RETRIES = "XDS_MAX_RETRIES";
     public static final String XDS_RETRY_PERIOD = "XDS_RETRY_PERIOD";
     public static final String HOSTNAME = "HOSTNAME";
+    public static final String API_INIT_PARALLELISM = "API_INIT_PARALLELISM";
+    public static final String THROTTLE_DECISION_MAX_COUNT = "THROTTLE_DECISION_MAX_COUNT";
+    public static final String CACHE_SETTINGS = "CACHE_SETTINGS";
+    public static final String JWKS_REFRESH_INTERVAL = "JWKS_REFRESH_INTERVAL";
+    public static final String REVOKED_TOKEN_BLOOM_FILTER_ENABLED = "REVOKED_TOKEN_BLOOM_FILTER_ENABLED";
+    public static final String ACCESS_LOG_QUEUE_SIZE = "ACCESS_LOG_QUEUE_SIZE";
+    public static final String ACCESS_LOG_WORKER_COUNT = "ACCESS_LOG_WORKER_COUNT";
+    public static final String GRAPHQL_PERSISTED_QUERY_APIS = "GRAPHQL_PERSISTED_QUERY_APIS";
 
     // Since the container is running in linux container, path separator is not needed.
     private static final String DEFAULT_TRUSTED_CA_CERTS_PATH = "/home/wso2/security/truststore";
@@ -55,6 +71,19 @@ public class EnvVarConfig {
     public static final String DEFAULT_XDS_MAX_RETRIES = Integer.toString(Constants.MAX_XDS_RETRIES);
     public static final String DEFAULT_XDS_RETRY_PERIOD = Integer.toString(Constants.XDS_DEFAULT_RETRY);
     public static final String DEFAULT_HOSTNAME = "Unassigned";
+    // APIs are initialized sequentially on the API discovery thread by default.
+    public static final String DEFAULT_API_INIT_PARALLELISM = "1";
+    public static final String DEFAULT_THROTTLE_DECISION_MAX_COUNT = "100000";
+    // All the caches use the cache configuration of the enforcer by default.
+    public static final String DEFAULT_CACHE_SETTINGS = "";
+    // In seconds
+    public static final String DEFAULT_JWKS_REFRESH_INTERVAL = "600";
+    public static final String DEFAULT_REVOKED_TOKEN_BLOOM_FILTER_ENABLED = "true";
+    // Number of access log messages received from the router, which are queued until they are processed.
+    public static final String DEFAULT_ACCESS_LOG_QUEUE_SIZE = "10000";
+    public static final String DEFAULT_ACCESS_LOG_WORKER_COUNT = "2";
+    // Automatic persisted queries are not enabled for any GraphQL API by default.
+    public static final String DEFAULT_GRAPHQL_PERSISTED_QUERY_APIS = "";
 
     private static EnvVarConfig instance;
     private final String trustedAdapterCertsPath;
@@ -74,6 +103,14 @@ public class EnvVarConfig {
     private final String xdsMaxRetries;
     private final String xdsRetryPeriod;
     private final String instanceIdentifier;
+    private final int apiInitParallelism;
+    private final int throttleDecisionMaxCount;
+    private final String cacheSettings;
+    private final int jwksRefreshInterval;
+    private final String revokedTokenBloomFilterEnabled;
+    private final int accessLogQueueSize;
+    private final int accessLogWorkerCount;
+    private final Set<String> graphQLPersistedQueryApis;
 
     private EnvVarConfig() {
         trustedAdapterCertsPath = retrieveEnvVarOrDefault(TRUSTED_CA_CERTS_PATH,
@@ -99,6 +136,19 @@ public class EnvVarConfig {
         // HOSTNAME environment property is readily available in docker and kubernetes, and it represents the Pod
         // name in Kubernetes context, containerID in docker context.
         instanceIdentifier = retrieveEnvVarOrDefault(HOSTNAME, DEFAULT_HOSTNAME);
+        apiInitParallelism = retrievePositiveIntEnvVarOrDefault(API_INIT_PARALLELISM, DEFAULT_API_INIT_PARALLELISM);
+        throttleDecisionMaxCount = retrievePositiveIntEnvVarOrDefault(THROTTLE_DECISION_MAX_COUNT,
+                DEFAULT_THROTTLE_DECISION_MAX_COUNT);
+        cacheSettings = retrieveEnvVarOrDefault(CACHE_SETTINGS, DEFAULT_CACHE_SETTINGS);
+        jwksRefreshInterval = retrievePositiveIntEnvVarOrDefault(JWKS_REFRESH_INTERVAL, DEFAULT_JWKS_REFRESH_INTERVAL);
+        revokedTokenBloomFilterEnabled = retrieveEnvVarOrDefault(REVOKED_TOKEN_BLOOM_FILTER_ENABLED,
+                DEFAULT_REVOKED_TOKEN_BLOOM_FILTER_ENABLED);
+        accessLogQueueSize = retrievePositiveIntEnvVarOrDefault(ACCESS_LOG_QUEUE_SIZE, DEFAULT_ACCESS_LOG_QUEUE_SIZE);
+        accessLogWorkerCount = retrievePositiveIntEnvVarOrDefault(ACCESS_LOG_WORKER_COUNT,
+                DEFAULT_ACCESS_LOG_WORKER_COUNT);
+        graphQLPersistedQueryApis = Collections.unmodifiableSet(Arrays.stream(
+                retrieveEnvVarOrDefault(GRAPHQL_PERSISTED_QUERY_APIS, DEFAULT_GRAPHQL_PERSISTED_QUERY_APIS).split(","))
+                .map(String::trim).filter(StringUtils::isNotEmpty).collect(Collectors.toSet()));
     }
 
     public static EnvVarConfig getInstance() {
@@ -120,6 +170,30 @@ public class EnvVarConfig {
         return System.getenv(variable);
     }
 
+    /**
+     * Retrieve an environment variable which should be a positive integer. The default value is used, with a
+     * warning, if the variable is not a positive integer.
+     *
+     * @param variable     name of the environment variable
+     * @param defaultValue default value of the variable
+     * @return value of the variable
+     */
+    private int retrievePositiveIntEnvVarOrDefault(String variable, String defaultValue) {
+        String value = retrieveEnvVarOrDefault(variable, defaultValue);
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            intValue = 0;
+        }
+        if (intValue > 0) {
+            return intValue;
+        }
+        logger.warn("Invalid value {} for {}, which should be a positive integer. Hence using the default value {}",
+                value, variable, defaultValue);
+        return Integer.parseInt(defaultValue);
+    }
+
     public String getTrustedAdapterCertsPath() {
         return trustedAdapterCertsPath;
     }
@@ -180,4 +254,54 @@ public class EnvVarConfig {
     public String getInstanceIdentifier() {
         return instanceIdentifier;
     }
+
+    public int getApiInitParallelism() {
+        return apiInitParallelism;
+    }
+
+    /**
+     * @return maximum number of throttle decisions held by the enforcer
+     */
+    public int getThrottleDecisionMaxCount() {
+        return throttleDecisionMaxCount;
+    }
+
+    /**
+     * Get the size and expiry settings of individual caches, in
+     * {@code <cache name>:<maximum size>:<expiry time in minutes>} format, separated by commas.
+     *
+     * @return cache settings
+     */
+    public String getCacheSettings() {
+        return cacheSettings;
+    }
+
+    /**
+     * @return interval in seconds, at which the JWKS of the token issuers are refreshed
+     */
+    public int getJwksRefreshInterval() {
+        return jwksRefreshInterval;
+    }
+
+    public String getRevokedTokenBloomFilterEnabled() {
+        return revokedTokenBloomFilterEnabled;
+    }
+
+    public int getAccessLogQueueSize() {
+        return accessLogQueueSize;
+    }
+
+    public int getAccessLogWorkerCount() {
+        return accessLogWorkerCount;
+    }
+
+    /**
+     * Get the base paths of the GraphQL APIs which accept automatic persisted queries, configured separated by
+     * commas.
+     *
+     * @return base paths of the APIs
+     */
+    public Set<String> getGraphQLPersistedQueryApis() {
+        return graphQLPersistedQueryApis;
+    }
 }
@@ -18,6 +18,9 @@
 
 package org.wso2.choreo.connect.enforcer.config.dto;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Holds the configurations related to caching used for token validation.
  */
@@ -25,6 +28,9 @@ public class CacheDto {
     private boolean enabled;
     private int maximumSize;
     private int expiryTime;
+    // Settings of individual caches, overriding the above.
+    private final Map<String, Integer> cacheMaximumSizes = new HashMap<>();
+    private final Map<String, Integer> cacheExpiryTimes = new HashMap<>();
 
     public boolean isEnabled() {
         return enabled;
@@ -49,4 +55,28 @@ public class CacheDto {
     public void setExpiryTime(int expiryTime) {
         this.expiryTime = expiryTime;
     }
+
+    public int getMaximumSize(String cacheName) {
+        return cacheMaximumSizes.getOrDefault(cacheName, maximumSize);
+    }
+
+    public int getMaximumSize(String cacheName, int defaultMaximumSize) {
+        return cacheMaximumSizes.getOrDefault(cacheName, defaultMaximumSize);
+    }
+
+    public void setMaximumSize(String cacheName, int maximumSize) {
+        cacheMaximumSizes.put(cacheName, maximumSize);
+    }
+
+    public int getExpiryTime(String cacheName) {
+        return cacheExpiryTimes.getOrDefault(cacheName, expiryTime);
+    }
+
+    public int getExpiryTime(String cacheName, int defaultExpiryTime) {
+        return cacheExpiryTimes.getOrDefault(cacheName, defaultExpiryTime);
+    }
+
+    public void setExpiryTime(String cacheName, int expiryTime) {
+        cacheExpiryTimes.put(cacheName, expiryTime);
+    }
 }
@@ -101,6 +101,8 @@ public class APIConstants {
     public static final String CONTENT_TYPE_TEXT_XML = "text/xml";
     public static final String CONTENT_TYPE_SOAP_XML = "application/soap+xml";
     public static final String APPLICATION_GRAPHQL = "application/graphql";
+    // Request context property holding the hash of a GraphQL query to be persisted once the request is allowed.
+    public static final String GRAPHQL_PERSISTED_QUERY_HASH = "graphQLPersistedQueryHash";
     public static final String X_FORWARDED_FOR = "x-forwarded-for";
     public static final String PATH_HEADER = ":path";
     public static final String UPGRADE_HEADER = "upgrade";
@@ -372,6 +374,8 @@ public class APIConstants {
         public static final String ERROR_CODE = "code";
         public static final String ERROR_MESSAGE = "error_message";
         public static final String ERROR_DESCRIPTION = "error_description";
+        // Body of a direct response which is not an error response.
+        public static final String RESPONSE_PAYLOAD = "response_payload";
     }
 
     /**
@@ -68,6 +68,50 @@ public class APIKeyValidationInfoDTO implements Serializable {
     private String applicationUUID;
     private Map<String, String> appAttributes;
 
+    public APIKeyValidationInfoDTO() {
+    }
+
+    /**
+     * Creates a copy of the given validation info. Lists, maps and sets are shared with the given instance.
+     *
+     * @param other validation info to copy
+     */
+    public APIKeyValidationInfoDTO(APIKeyValidationInfoDTO other) {
+        this.authorized = other.authorized;
+        this.subscriber = other.subscriber;
+        this.tier = other.tier;
+        this.type = other.type;
+        this.contentAware = other.contentAware;
+        this.userType = other.userType;
+        this.endUserToken = other.endUserToken;
+        this.endUserName = other.endUserName;
+        this.applicationId = other.applicationId;
+        this.applicationName = other.applicationName;
+        this.applicationTier = other.applicationTier;
+        this.validationStatus = other.validationStatus;
+        this.validityPeriod = other.validityPeriod;
+        this.issuedTime = other.issuedTime;
+        this.authorizedDomains = other.authorizedDomains;
+        this.throttlingDataList = other.throttlingDataList;
+        this.spikeArrestLimit = other.spikeArrestLimit;
+        this.subscriberTenantDomain = other.subscriberTenantDomain;
+        this.spikeArrestUnit = other.spikeArrestUnit;
+        this.stopOnQuotaReach = other.stopOnQuotaReach;
+        this.productName = other.productName;
+        this.productProvider = other.productProvider;
+        this.keyManager = other.keyManager;
+        this.graphQLMaxDepth = other.graphQLMaxDepth;
+        this.graphQLMaxComplexity = other.graphQLMaxComplexity;
+        this.apiVersion = other.apiVersion;
+        this.apiUUID = other.apiUUID;
+        this.applicationUUID = other.applicationUUID;
+        this.appAttributes = other.appAttributes;
+        this.scopes = other.scopes;
+        this.apiName = other.apiName;
+        this.consumerKey = other.consumerKey;
+        this.apiPublisher = other.apiPublisher;
+    }
+
     public List<String> getThrottlingDataList() {
         return throttlingDataList;
     }
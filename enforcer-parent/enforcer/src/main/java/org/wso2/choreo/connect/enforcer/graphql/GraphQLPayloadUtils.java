@@ -35,11 +35,13 @@ import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
 import org.wso2.choreo.connect.discovery.api.GraphqlComplexity;
 import org.wso2.choreo.connect.enforcer.api.API;
 import org.wso2.choreo.connect.enforcer.api.APIFactory;
+import org.wso2.choreo.connect.enforcer.api.GraphQLAPI;
 import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.commons.model.GraphQLCustomComplexityInfoDTO;
 import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 
@@ -53,6 +55,15 @@ import java.util.Map;
  */
 public class GraphQLPayloadUtils {
     private static final Logger logger = LogManager.getLogger(GraphQLPayloadUtils.class);
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String PERSISTED_QUERY_VERSION = "version";
+    private static final String PERSISTED_QUERY_HASH = "sha256Hash";
+    private static final int SUPPORTED_PERSISTED_QUERY_VERSION = 1;
+    public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    // Response expected by the clients when the hash of a persisted query is not known, to send the query.
+    public static final String PERSISTED_QUERY_NOT_FOUND_RESPONSE = "{\"errors\":[{\"message\":\""
+            + PERSISTED_QUERY_NOT_FOUND + "\",\"extensions\":{\"code\":\"PERSISTED_QUERY_NOT_FOUND\"}}]}";
 
     /**
      * This method will decode the qraphQL query body.
@@ -63,14 +74,49 @@ public class GraphQLPayloadUtils {
      * @throws EnforcerException use for error response handling
      */
     public static ArrayList<ResourceConfig> buildGQLRequestContext(API api, String queryBody) throws EnforcerException {
-        GraphQLSchemaDTO graphQLSchemaDTO = api.getAPIConfig().getGraphQLSchemaDTO();
+        ParsedGraphQLQuery parsedQuery;
+        if (api instanceof GraphQLAPI) {
+            parsedQuery = ((GraphQLAPI) api).getQueryCache().getParsedQuery(queryBody);
+        } else {
+            parsedQuery = parseQuery(api.getAPIConfig().getGraphQLSchemaDTO(), queryBody);
+        }
+        if (parsedQuery.getValidationErrors() != null) {
+            throw new EnforcerException("Payload is invalid", new Exception(parsedQuery.getValidationErrors()));
+        }
+        ArrayList<ResourceConfig> resourceConfigs = new ArrayList<>();
+        for (String op : parsedQuery.getOperations()) {
+            ResourceConfig resourceConfig = APIFactory.getInstance().getMatchedResource(api, op,
+                    parsedQuery.getOperationType());
+            if (resourceConfig != null) {
+                resourceConfigs.add(resourceConfig);
+            } else {
+                logger.error("No matching operations found for {} in APIUUID : {} API : {}, version : {}", op,
+                        api.getAPIConfig().getName(), api.getAPIConfig().getUuid(),
+                        api.getAPIConfig().getVersion(),
+                        ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6705));
+                return new ArrayList<>();
+            }
+        }
+        return resourceConfigs;
+    }
+
+    /**
+     * Parse a GraphQL query, validate it against the schema and extract its operations.
+     *
+     * @param graphQLSchemaDTO schema of the API
+     * @param queryBody        graphQL query
+     * @return parsed query, along with the validation errors if the query is not valid against the schema
+     * @throws EnforcerException if the query syntax is invalid
+     */
+    static ParsedGraphQLQuery parseQuery(GraphQLSchemaDTO graphQLSchemaDTO, String queryBody)
+            throws EnforcerException {
         try {
             // Validate payload with graphQLSchema
             Document document = new Parser().parseDocument(queryBody);
             String validationErrors = validatePayloadWithSchema(graphQLSchemaDTO.getGraphQLSchema(), document);
+            ArrayList<String> operationList = new ArrayList<>();
+            String method = "";
             if (validationErrors == null) {
-                ArrayList<String> operationList = new ArrayList<>();
-                String method = "";
                 // Extract the operation type and operations from the payload
                 for (Definition definition : document.getDefinitions()) {
                     // we only allow one operation type per request
@@ -87,43 +133,73 @@ public class GraphQLPayloadUtils {
                         throw new EnforcerException("Operation definition cannot be empty");
                     }
                 }
-                ArrayList<ResourceConfig> resourceConfigs = new ArrayList<>();
-                for (String op : operationList) {
-                    ResourceConfig resourceConfig = APIFactory.getInstance().getMatchedResource(api, op, method);
-                    if (resourceConfig != null) {
-                        resourceConfigs.add(resourceConfig);
-                    } else {
-                        logger.error("No matching operations found for {} in APIUUID : {} API : {}, version : {}", op,
-                                api.getAPIConfig().getName(), api.getAPIConfig().getUuid(),
-                                api.getAPIConfig().getVersion(),
-                                ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6705));
-                        return new ArrayList<>();
-                    }
-                }
-                return resourceConfigs;
-            } else {
-                throw new EnforcerException("Payload is invalid", new Exception(validationErrors));
             }
+            return new ParsedGraphQLQuery(document, validationErrors, method, operationList);
         } catch (InvalidSyntaxException exception) {
             throw new EnforcerException("Invalid syntax", exception);
         }
     }
 
     /**
+     * Get the GraphQL query of a request. If automatic persisted queries are enabled for the API and the request
+     * follows the protocol, the query is resolved from the hash when the query is not sent. When the query is sent
+     * along with the hash, the hash is returned with the query to persist it once the request is allowed.
+     *
+     * @param api            matched api
      * @param requestPayload request payload
      * @param requestHeaders request headers
-     * @return
-     * @throws EnforcerException invalid payloads
+     * @return GraphQL query of the request
+     * @throws PersistedQueryNotFoundException if only the hash is sent, and there is no query persisted with it
+     * @throws EnforcerException               invalid payloads
      */
-    public static String getGQLRequestPayload(String requestPayload, Map<String, String> requestHeaders)
+    public static GraphQLRequestPayload getGQLRequestPayload(API api, String requestPayload,
+                                                             Map<String, String> requestHeaders)
+            throws EnforcerException {
+        GraphQLQueryCache persistedQueryCache = null;
+        if (api instanceof GraphQLAPI && ((GraphQLAPI) api).isPersistedQueriesEnabled()) {
+            persistedQueryCache = ((GraphQLAPI) api).getQueryCache();
+        }
+        return getGQLRequestPayload(persistedQueryCache, requestPayload, requestHeaders);
+    }
+
+    /**
+     * Get the GraphQL query of a request.
+     *
+     * @param persistedQueryCache cache holding the persisted queries of the API, or null if automatic persisted
+     *                            queries are not enabled for the API
+     * @param requestPayload      request payload
+     * @param requestHeaders      request headers
+     * @return GraphQL query of the request
+     * @throws PersistedQueryNotFoundException if only the hash is sent, and there is no query persisted with it
+     * @throws EnforcerException               invalid payloads
+     */
+    static GraphQLRequestPayload getGQLRequestPayload(GraphQLQueryCache persistedQueryCache, String requestPayload,
+                                                      Map<String, String> requestHeaders)
             throws EnforcerException {
         String queryBody = "";
+        String persistedQueryHash = null;
         if (!requestHeaders.containsKey(APIConstants.CONTENT_TYPE_HEADER) ||
                 (requestHeaders.containsKey(APIConstants.CONTENT_TYPE_HEADER) && APIConstants.APPLICATION_JSON
                         .equalsIgnoreCase(requestHeaders.get(APIConstants.CONTENT_TYPE_HEADER)))) {
             try {
                 JSONObject jsonObject = new JSONObject(requestPayload);
-                queryBody = jsonObject.getString(GraphQLConstants.GRAPHQL_QUERY.toLowerCase(Locale.ROOT));
+                String queryKey = GraphQLConstants.GRAPHQL_QUERY.toLowerCase(Locale.ROOT);
+                String sha256Hash = persistedQueryCache == null ? null : getPersistedQueryHash(jsonObject);
+                if (sha256Hash == null) {
+                    queryBody = jsonObject.getString(queryKey);
+                } else {
+                    queryBody = jsonObject.optString(queryKey);
+                    if (StringUtils.isBlank(queryBody)) {
+                        queryBody = persistedQueryCache.getPersistedQuery(sha256Hash);
+                        if (queryBody == null) {
+                            throw new PersistedQueryNotFoundException(PERSISTED_QUERY_NOT_FOUND);
+                        }
+                    } else if (GraphQLQueryCache.hashQuery(queryBody).equalsIgnoreCase(sha256Hash)) {
+                        persistedQueryHash = sha256Hash;
+                    } else {
+                        throw new EnforcerException("Provided sha256Hash does not match the query");
+                    }
+                }
             } catch (JSONException e) {
                 throw new EnforcerException("Invalid GraphQL query body structure");
             }
@@ -135,11 +211,52 @@ public class GraphQLPayloadUtils {
                     APIConstants.APPLICATION_JSON + " or " + APIConstants.APPLICATION_GRAPHQL);
         }
         if (StringUtils.isNotBlank(queryBody)) {
-            return queryBody;
+            return new GraphQLRequestPayload(queryBody, persistedQueryHash);
         }
         throw new EnforcerException("Query cannot be empty");
     }
 
+    /**
+     * Prepare the direct response sent when only the hash of a query is received, and there is no query persisted
+     * with it. The client sends the query along with the hash, upon this response.
+     *
+     * @param requestContext request context
+     */
+    public static void preparePersistedQueryNotFoundResponse(RequestContext requestContext) {
+        requestContext.getProperties().put(APIConstants.MessageFormat.STATUS_CODE,
+                APIConstants.StatusCodes.OK.getCode());
+        requestContext.getProperties().put(APIConstants.MessageFormat.RESPONSE_PAYLOAD,
+                PERSISTED_QUERY_NOT_FOUND_RESPONSE);
+        requestContext.addOrModifyHeaders(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
+    }
+
+    /**
+     * Get the query hash of a request following the automatic persisted queries protocol, which is sent as
+     * {@code "extensions": {"persistedQuery": {"version": 1, "sha256Hash": "<hash>"}}}.
+     *
+     * @param requestBody JSON body of the request
+     * @return hex encoded SHA-256 hash of the query, or null if the request does not carry a persisted query of a
+     * supported version, in which case the plain query of the request is used
+     * @throws EnforcerException if the persisted query hash is empty
+     */
+    private static String getPersistedQueryHash(JSONObject requestBody) throws EnforcerException {
+        JSONObject extensions = requestBody.optJSONObject(EXTENSIONS);
+        JSONObject persistedQuery = extensions == null ? null : extensions.optJSONObject(PERSISTED_QUERY);
+        if (persistedQuery == null) {
+            return null;
+        }
+        if (persistedQuery.optInt(PERSISTED_QUERY_VERSION) != SUPPORTED_PERSISTED_QUERY_VERSION) {
+            logger.debug("Unsupported persisted query version {}, hence using the query of the request",
+                    persistedQuery.opt(PERSISTED_QUERY_VERSION));
+            return null;
+        }
+        String sha256Hash = persistedQuery.optString(PERSISTED_QUERY_HASH);
+        if (StringUtils.isBlank(sha256Hash)) {
+            throw new EnforcerException("Persisted query hash cannot be empty");
+        }
+        return sha256Hash;
+    }
+
     /**
      * This method validate the payload.
      *
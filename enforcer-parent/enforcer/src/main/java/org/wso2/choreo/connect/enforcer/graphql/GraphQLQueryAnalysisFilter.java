@@ -46,12 +46,24 @@ import java.util.Map;
 public class GraphQLQueryAnalysisFilter implements Filter {
 
     private static final Logger logger = LogManager.getLogger(GraphQLQueryAnalysisFilter.class);
+    private final GraphQLQueryCache queryCache;
     private QueryAnalyzer queryAnalyzer;
+    // Custom complexity values of the API in the format expected by the query analyzer.
+    private String complexityPolicyDefinition;
+
+    /**
+     * @param queryCache parsed query cache of the API, where the analysis results of the queries are kept
+     */
+    public GraphQLQueryAnalysisFilter(GraphQLQueryCache queryCache) {
+        this.queryCache = queryCache;
+    }
 
     @Override
     public void init(APIConfig apiConfig, Map<String, String> configProperties) {
         GraphQLSchema schema = apiConfig.getGraphQLSchemaDTO().getGraphQLSchema();
         queryAnalyzer = new QueryAnalyzer(schema);
+        complexityPolicyDefinition = policyDefinitionToJson(apiConfig.getGraphQLSchemaDTO()
+                .getGraphQLCustomComplexityInfoDTO()).toJSONString();
     }
 
     @Override
@@ -73,7 +85,10 @@ public class GraphQLQueryAnalysisFilter implements Filter {
      */
     private boolean isDepthAndComplexityValid(RequestContext requestContext, String payload) {
         try {
-            return isDepthValid(requestContext, payload) && isComplexityValid(requestContext, payload);
+            // The query is already parsed when the request context is built, hence this is a cache hit.
+            ParsedGraphQLQuery parsedQuery = queryCache.getParsedQuery(payload);
+            return isDepthValid(requestContext, payload, parsedQuery)
+                    && isComplexityValid(requestContext, payload, parsedQuery);
         } catch (Exception e) {
             logger.error("Policy definition parsing failed for API UUID : {} API : {} version : {}",
                     requestContext.getMatchedAPI().getUuid(), requestContext.getMatchedAPI().getName(),
@@ -84,12 +99,16 @@ public class GraphQLQueryAnalysisFilter implements Filter {
         }
     }
 
-    private boolean isDepthValid(RequestContext requestContext, String payload) {
+    private boolean isDepthValid(RequestContext requestContext, String payload, ParsedGraphQLQuery parsedQuery) {
         int maxQueryDepth = -1;
         if (requestContext.getProperties().containsKey(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (Integer) requestContext.getProperties().get(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        QueryAnalyzerResponseDTO responseDTO = parsedQuery.getDepthAnalysis(maxQueryDepth);
+        if (responseDTO == null) {
+            responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+            parsedQuery.putDepthAnalysis(maxQueryDepth, responseDTO);
+        }
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(requestContext, GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -102,20 +121,23 @@ public class GraphQLQueryAnalysisFilter implements Filter {
         return true;
     }
 
-    private boolean isComplexityValid(RequestContext requestContext, String payload) {
+    private boolean isComplexityValid(RequestContext requestContext, String payload,
+                                      ParsedGraphQLQuery parsedQuery) {
         int queryComplexity = -1;
         if (requestContext.getProperties().containsKey(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
             queryComplexity = (Integer) requestContext.getProperties()
                     .get(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
         }
-        QueryAnalyzerResponseDTO responseDTO = null;
-        try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
-                    policyDefinitionToJson(requestContext.getMatchedAPI().getGraphQLSchemaDTO()
-                            .getGraphQLCustomComplexityInfoDTO()).toJSONString());
-        } catch (ParseException e) {
-            String errorMessage = "Policy definition parsing failed. ";
-            handleFailure(requestContext, GraphQLConstants.GRAPHQL_INVALID_QUERY, errorMessage, errorMessage);
+        QueryAnalyzerResponseDTO responseDTO = parsedQuery.getComplexityAnalysis(queryComplexity);
+        if (responseDTO == null) {
+            try {
+                responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity,
+                        complexityPolicyDefinition);
+                parsedQuery.putComplexityAnalysis(queryComplexity, responseDTO);
+            } catch (ParseException e) {
+                String errorMessage = "Policy definition parsing failed. ";
+                handleFailure(requestContext, GraphQLConstants.GRAPHQL_INVALID_QUERY, errorMessage, errorMessage);
+            }
         }
         if (responseDTO != null && !responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(requestContext, GraphQLConstants.GRAPHQL_QUERY_TOO_COMPLEX,
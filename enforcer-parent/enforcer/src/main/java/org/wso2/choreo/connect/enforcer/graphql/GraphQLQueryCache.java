@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import com.google.common.hash.Hashing;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Cache of the parsed queries of a GraphQL API, keyed by the SHA-256 hash of the query, so that large queries are
+ * not held as keys. Clients mostly repeat the same queries, hence a query is parsed and validated against the schema
+ * only when it is first received, and the request context builder and the query analysis filter share the result.
+ * <p>
+ * Queries persisted by clients using the automatic persisted queries protocol are held as well, keyed by the
+ * SHA-256 hash of the query.
+ * <p>
+ * The entries are held in the caches of {@link CacheProvider}, which are shared by all the GraphQL APIs. Keys are
+ * prefixed with an identifier of this instance, so that the entries of a redeployed API, which may have a different
+ * schema, are never served and are evicted in time.
+ */
+public class GraphQLQueryCache {
+    private final GraphQLSchemaDTO graphQLSchemaDTO;
+    private final EnforcerCache<String, ParsedGraphQLQuery> cache;
+    private final EnforcerCache<String, String> persistedQueries;
+    private final String keyPrefix = UUID.randomUUID() + ":";
+
+    public GraphQLQueryCache(GraphQLSchemaDTO graphQLSchemaDTO) {
+        this(graphQLSchemaDTO, CacheProvider.getGraphQLQueryCache(), CacheProvider.getGraphQLPersistedQueryCache());
+    }
+
+    GraphQLQueryCache(GraphQLSchemaDTO graphQLSchemaDTO, EnforcerCache<String, ParsedGraphQLQuery> cache,
+                      EnforcerCache<String, String> persistedQueries) {
+        this.graphQLSchemaDTO = graphQLSchemaDTO;
+        this.cache = cache;
+        this.persistedQueries = persistedQueries;
+    }
+
+    /**
+     * Get the parsed query, parsing it if it is not cached. Queries with invalid syntax are not cached.
+     *
+     * @param query GraphQL query
+     * @return parsed query
+     * @throws EnforcerException if the query syntax is invalid
+     */
+    public ParsedGraphQLQuery getParsedQuery(String query) throws EnforcerException {
+        String cacheKey = keyPrefix + hashQuery(query);
+        ParsedGraphQLQuery parsedQuery = cache.getIfPresent(cacheKey);
+        if (parsedQuery == null) {
+            parsedQuery = GraphQLPayloadUtils.parseQuery(graphQLSchemaDTO, query);
+            cache.put(cacheKey, parsedQuery);
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Get the persisted query of a hash.
+     *
+     * @param sha256Hash hex encoded SHA-256 hash of the query
+     * @return persisted query, or null if there is no query persisted with the hash
+     */
+    public String getPersistedQuery(String sha256Hash) {
+        return persistedQueries.getIfPresent(keyPrefix + sha256Hash.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Persist a query sent along with its hash, so that the clients can send only the hash afterwards. A query
+     * is persisted only once the request carrying it passes authentication and throttling, so that unauthenticated
+     * clients cannot fill the store.
+     *
+     * @param sha256Hash hex encoded SHA-256 hash of the query, verified against the query
+     * @param query      GraphQL query, validated against the schema
+     */
+    public void persistQuery(String sha256Hash, String query) {
+        persistedQueries.put(keyPrefix + sha256Hash.toLowerCase(Locale.ROOT), query);
+    }
+
+    /**
+     * Get the hash of a query, as used by the clients to refer to a persisted query.
+     *
+     * @param query GraphQL query
+     * @return hex encoded SHA-256 hash of the query
+     */
+    static String hashQuery(String query) {
+        return Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString();
+    }
+}
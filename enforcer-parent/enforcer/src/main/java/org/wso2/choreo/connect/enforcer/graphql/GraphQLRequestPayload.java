@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+/**
+ * GraphQL query of a request, along with the hash sent by the client when the query is to be persisted as per
+ * the automatic persisted queries protocol.
+ */
+public class GraphQLRequestPayload {
+    private final String query;
+    private final String persistedQueryHash;
+
+    GraphQLRequestPayload(String query, String persistedQueryHash) {
+        this.query = query;
+        this.persistedQueryHash = persistedQueryHash;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return hex encoded SHA-256 hash of the query if the client asked to persist it, or null otherwise
+     */
+    public String getPersistedQueryHash() {
+        return persistedQueryHash;
+    }
+}
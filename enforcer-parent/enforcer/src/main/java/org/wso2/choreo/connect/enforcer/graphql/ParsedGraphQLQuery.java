@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import graphql.language.Document;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Result of parsing a GraphQL query and validating it against the schema of an API. The depth and complexity
+ * analysis results of the query are kept with it, per limit, once the query analysis filter computes them.
+ */
+public class ParsedGraphQLQuery {
+    private final Document document;
+    private final String validationErrors;
+    private final String operationType;
+    private final List<String> operations;
+    private final Map<Integer, QueryAnalyzerResponseDTO> depthAnalyses = new ConcurrentHashMap<>();
+    private final Map<Integer, QueryAnalyzerResponseDTO> complexityAnalyses = new ConcurrentHashMap<>();
+
+    ParsedGraphQLQuery(Document document, String validationErrors, String operationType, List<String> operations) {
+        this.document = document;
+        this.validationErrors = validationErrors;
+        this.operationType = operationType;
+        this.operations = Collections.unmodifiableList(operations);
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * @return schema validation errors of the query, or null if the query is valid
+     */
+    public String getValidationErrors() {
+        return validationErrors;
+    }
+
+    /**
+     * @return operation type of the query (ex: QUERY, MUTATION)
+     */
+    public String getOperationType() {
+        return operationType;
+    }
+
+    public List<String> getOperations() {
+        return operations;
+    }
+
+    public QueryAnalyzerResponseDTO getDepthAnalysis(int maxQueryDepth) {
+        return depthAnalyses.get(maxQueryDepth);
+    }
+
+    public void putDepthAnalysis(int maxQueryDepth, QueryAnalyzerResponseDTO responseDTO) {
+        depthAnalyses.put(maxQueryDepth, responseDTO);
+    }
+
+    public QueryAnalyzerResponseDTO getComplexityAnalysis(int maxQueryComplexity) {
+        return complexityAnalyses.get(maxQueryComplexity);
+    }
+
+    public void putComplexityAnalysis(int maxQueryComplexity, QueryAnalyzerResponseDTO responseDTO) {
+        complexityAnalyses.put(maxQueryComplexity, responseDTO);
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+
+/**
+ * Thrown when a GraphQL request only carries the hash of a persisted query, which is not known by the enforcer.
+ * The client is expected to retry with the query as per the automatic persisted queries protocol.
+ */
+public class PersistedQueryNotFoundException extends EnforcerException {
+
+    public PersistedQueryNotFoundException(String msg) {
+        super(msg);
+    }
+}
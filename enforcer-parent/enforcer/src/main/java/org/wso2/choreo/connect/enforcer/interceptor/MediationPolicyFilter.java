@@ -33,11 +33,14 @@ import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
 import org.wso2.choreo.connect.enforcer.constants.GeneralErrorCodeConstants;
 import org.wso2.choreo.connect.enforcer.interceptor.opa.OPAClient;
+import org.wso2.choreo.connect.enforcer.interceptor.opa.OPADecisionCache;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,6 +50,9 @@ import java.util.regex.Pattern;
 public class MediationPolicyFilter implements Filter {
     private static final Logger log = LogManager.getLogger(MediationPolicyFilter.class);
     private static final String X_URI_MAPPING_PROPERTY = "x-uri-mapping";
+    // Decision caches of the OPA policies of the API, created when a policy is first applied. A new filter is
+    // created when the API is redeployed, hence the decisions of the previous policy configs are discarded.
+    private final Map<Policy, Optional<OPADecisionCache>> opaDecisionCaches = new ConcurrentHashMap<>();
 
     public MediationPolicyFilter() {
         OPAClient.init();
@@ -93,7 +99,7 @@ public class MediationPolicyFilter implements Filter {
                 return true;
             }
             case "OPA": {
-                return opaAuthValidation(requestContext, policy.getParameters());
+                return opaAuthValidation(requestContext, policy);
             }
         }
 
@@ -176,9 +182,12 @@ public class MediationPolicyFilter implements Filter {
         }
     }
 
-    private boolean opaAuthValidation(RequestContext requestContext, Map<String, String> policyAttrib) {
+    private boolean opaAuthValidation(RequestContext requestContext, Policy policy) {
+        Map<String, String> policyAttrib = policy.getParameters();
         try {
-            boolean isValid = OPAClient.getInstance().validateRequest(requestContext, policyAttrib);
+            OPADecisionCache decisionCache = opaDecisionCaches.computeIfAbsent(policy,
+                    p -> Optional.ofNullable(OPADecisionCache.fromPolicyAttributes(p.getParameters()))).orElse(null);
+            boolean isValid = OPAClient.getInstance().validateRequest(requestContext, policyAttrib, decisionCache);
             if (!isValid) {
                 log.error("OPA validation failed for the request: {} {}",
                         requestContext.getRequestPathTemplate(),
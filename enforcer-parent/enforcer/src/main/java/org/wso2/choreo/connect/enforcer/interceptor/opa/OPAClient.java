@@ -24,7 +24,6 @@ import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
@@ -36,6 +35,8 @@ import org.wso2.choreo.connect.enforcer.commons.opa.OPASecurityException;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.OPAClientMetrics;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
 import java.io.IOException;
@@ -46,6 +47,7 @@ import java.security.KeyStore;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * HTTP Client which send requests to OPA server by selecting the implementation of {@link OPARequestGenerator}
@@ -56,15 +58,28 @@ public class OPAClient {
     private static final String DEFAULT_REQUEST_GENERATOR_CLASS =
             "org.wso2.choreo.connect.enforcer.commons.model.RequestContext.OPADefaultRequestGenerator";
     private static final OPAClient opaClient = new OPAClient();
+    private static boolean initialized = false;
 
     private final OPARequestGenerator defaultRequestGenerator = new OPADefaultRequestGenerator();
-    private final Map<String, OPARequestGenerator> requestGeneratorMap = new HashMap<>();
+    private volatile Map<String, OPARequestGenerator> requestGeneratorMap = new HashMap<>();
+    private final LongAdder decisionCacheHitCount = new LongAdder();
+    private final LongAdder decisionCacheMissCount = new LongAdder();
 
     private OPAClient() {
     }
 
-    public static void init() {
-        getInstance().loadRequestGenerators();
+    /**
+     * Load the request generators available in the classpath. The classpath is scanned only for the first
+     * invocation, hence this can be called whenever an API using OPA policies is initialized.
+     */
+    public static synchronized void init() {
+        if (!initialized) {
+            getInstance().loadRequestGenerators();
+            if (JMXUtils.isJMXMetricsEnabled()) {
+                OPAClientMetrics.getInstance();
+            }
+            initialized = true;
+        }
     }
 
     public static OPAClient getInstance() {
@@ -73,6 +88,21 @@ public class OPAClient {
 
     public boolean validateRequest(RequestContext requestContext, Map<String, String> policyAttrib)
             throws OPASecurityException {
+        return validateRequest(requestContext, policyAttrib, null);
+    }
+
+    /**
+     * Validate the request with the OPA policy. If a decision cache is given, the OPA server is called only if
+     * there is no cached decision for the generated payload.
+     *
+     * @param requestContext request context
+     * @param policyAttrib   attributes of the OPA policy
+     * @param decisionCache  decision cache of the policy, or null if the decisions are not cached
+     * @return <code>true</code> if valid, <code>false</code> otherwise
+     * @throws OPASecurityException If an authentication failure or system error occurs.
+     */
+    public boolean validateRequest(RequestContext requestContext, Map<String, String> policyAttrib,
+                                   OPADecisionCache decisionCache) throws OPASecurityException {
         String requestGeneratorClassName = policyAttrib.get("requestGenerator");
         OPARequestGenerator requestGenerator = requestGeneratorMap.get(requestGeneratorClassName);
         if (requestGenerator == null) {
@@ -119,19 +149,44 @@ public class OPAClient {
         // calling OPA server and validate response
         String requestBody = requestGenerator.generateRequest(policyName, ruleName, additionalParameters,
                 requestContext);
-        String opaResponse = callOPAServer(evaluatingPolicyUrl, requestBody, token, clientOptions);
+        String opaResponse;
+        if (decisionCache != null) {
+            String cacheKey = decisionCache.getKey(requestBody);
+            opaResponse = decisionCache.get(cacheKey);
+            if (opaResponse != null) {
+                decisionCacheHitCount.increment();
+            } else {
+                decisionCacheMissCount.increment();
+                opaResponse = callOPAServer(evaluatingPolicyUrl, requestBody, token, clientOptions);
+                decisionCache.put(cacheKey, opaResponse);
+            }
+        } else {
+            opaResponse = callOPAServer(evaluatingPolicyUrl, requestBody, token, clientOptions);
+        }
         return requestGenerator.handleResponse(policyName, ruleName, opaResponse, additionalParameters,
                 requestContext);
     }
 
+    public long getDecisionCacheHitCount() {
+        return decisionCacheHitCount.sum();
+    }
+
+    public long getDecisionCacheMissCount() {
+        return decisionCacheMissCount.sum();
+    }
+
     private void loadRequestGenerators() {
+        // A new map is published instead of modifying the existing one, as requests may be validated
+        // concurrently while APIs are being initialized.
+        Map<String, OPARequestGenerator> generatorMap = new HashMap<>();
         ServiceLoader<OPARequestGenerator> loader = ServiceLoader.load(OPARequestGenerator.class);
         for (OPARequestGenerator generator : loader) {
-            requestGeneratorMap.put(generator.getClass().getName(), generator);
+            generatorMap.put(generator.getClass().getName(), generator);
         }
-        requestGeneratorMap.put("", defaultRequestGenerator);
-        requestGeneratorMap.put(null, defaultRequestGenerator);
-        requestGeneratorMap.put(DEFAULT_REQUEST_GENERATOR_CLASS, defaultRequestGenerator);
+        generatorMap.put("", defaultRequestGenerator);
+        generatorMap.put(null, defaultRequestGenerator);
+        generatorMap.put(DEFAULT_REQUEST_GENERATOR_CLASS, defaultRequestGenerator);
+        requestGeneratorMap = generatorMap;
     }
 
     private static String callOPAServer(String serverEp, String payload, String token,
@@ -139,29 +194,29 @@ public class OPAClient {
         try {
             URL url = new URL(serverEp);
             KeyStore opaKeyStore = ConfigHolder.getInstance().getOpaKeyStore();
-            try (CloseableHttpClient httpClient = (CloseableHttpClient) FilterUtils.getHttpClient(url.getProtocol(),
-                    opaKeyStore, clientOptions)) {
-                HttpPost httpPost = new HttpPost(serverEp);
-                HttpEntity reqEntity = new ByteArrayEntity(payload.getBytes(Charset.defaultCharset()));
-                httpPost.setEntity(reqEntity);
-                httpPost.setHeader(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
-                if (StringUtils.isNotEmpty(token)) {
-                    httpPost.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
-                            APIConstants.AUTHORIZATION_BEARER + token);
-                }
-                try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
-                    int statusCode = response.getStatusLine().getStatusCode();
-                    if (statusCode == 200) {
-                        HttpEntity entity = response.getEntity();
-                        try (InputStream content = entity.getContent()) {
-                            return IOUtils.toString(content, Charset.defaultCharset());
-                        }
-                    } else {
-                        log.error("Unexpected HTTP response code responded by the OPA server, HTTP code: {} {}",
-                                statusCode, ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6106));
-                        throw new OPASecurityException(APIConstants.StatusCodes.INTERNAL_SERVER_ERROR.getCode(),
-                                APISecurityConstants.OPA_REQUEST_FAILURE);
+            HttpPost httpPost = new HttpPost(serverEp);
+            HttpEntity reqEntity = new ByteArrayEntity(payload.getBytes(Charset.defaultCharset()));
+            httpPost.setEntity(reqEntity);
+            httpPost.setHeader(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
+            if (StringUtils.isNotEmpty(token)) {
+                httpPost.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                        APIConstants.AUTHORIZATION_BEARER + token);
+            }
+            // The client is shared across requests, hence only the lease of the client is closed here.
+            try (OPAHttpClientRegistry.HttpClientLease lease = OPAHttpClientRegistry.getInstance()
+                    .leaseHttpClient(url, opaKeyStore, clientOptions);
+                 CloseableHttpResponse response = lease.getHttpClient().execute(httpPost)) {
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (statusCode == 200) {
+                    HttpEntity entity = response.getEntity();
+                    try (InputStream content = entity.getContent()) {
+                        return IOUtils.toString(content, Charset.defaultCharset());
                     }
+                } else {
+                    log.error("Unexpected HTTP response code responded by the OPA server, HTTP code: {} {}",
+                            statusCode, ErrorDetails.errorLog(LoggingConstants.Severity.MINOR, 6106));
+                    throw new OPASecurityException(APIConstants.StatusCodes.INTERNAL_SERVER_ERROR.getCode(),
+                            APISecurityConstants.OPA_REQUEST_FAILURE);
                 }
             }
         } catch (IOException e) {
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import com.google.common.hash.Hashing;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the decisions of an OPA policy, enabled with the {@code decisionCacheEnabled} policy attribute.
+ * <p>
+ * A decision is the raw response of the OPA server, stored against a hash of the payload sent to the server, so
+ * that identical inputs are evaluated once within the TTL. The default payload includes all the transport headers
+ * of the request, hence {@code decisionCacheKeyFields} can list the fields of the {@code input} object (ex:
+ * {@code method,path,transportHeaders.host}) the key is derived from instead. The {@code authenticationContext}
+ * field is always included in such a key, so that a decision made for one user or token is not served to another.
+ * <p>
+ * Decisions of all the policies are held in the OPA decision cache of {@link CacheProvider}, each expiring after the
+ * TTL of its policy. The cache is sized with the {@code opaDecision} cache setting. The decision cache of a policy
+ * is held by the mediation policy filter of the API and prefixes its keys with its own identifier, hence the
+ * decisions of a redeployed API are never served.
+ */
+public class OPADecisionCache {
+    private static final Logger log = LogManager.getLogger(OPADecisionCache.class);
+
+    static final String ENABLED = "decisionCacheEnabled";
+    static final String TTL = "decisionCacheTTL";
+    static final String KEY_FIELDS = "decisionCacheKeyFields";
+    static final int DEFAULT_TTL_SECONDS = 60;
+    private static final String INPUT = "input";
+    private static final String AUTHENTICATION_CONTEXT = "authenticationContext";
+    private static final String FIELD_SEPARATOR = ",";
+
+    private final EnforcerCache<String, String> decisions;
+    private final long ttlMillis;
+    private final String keyPrefix = UUID.randomUUID() + ":";
+    // Paths of the input fields included in the key, or null if the whole payload is the key.
+    private final String[][] keyFields;
+
+    OPADecisionCache(EnforcerCache<String, String> decisions, int ttlSeconds, String keyFields) {
+        this.decisions = decisions;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        if (StringUtils.isBlank(keyFields)) {
+            this.keyFields = null;
+        } else {
+            this.keyFields = Arrays.stream(keyFields.split(FIELD_SEPARATOR))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .filter(field -> !AUTHENTICATION_CONTEXT.equals(field))
+                    .map(field -> field.split("\\."))
+                    .toArray(String[][]::new);
+        }
+    }
+
+    /**
+     * Create the decision cache of a policy if it is enabled in the policy attributes.
+     *
+     * @param policyAttrib attributes of the OPA policy
+     * @return the decision cache, or null if the cache is not enabled for the policy
+     */
+    public static OPADecisionCache fromPolicyAttributes(Map<String, String> policyAttrib) {
+        if (policyAttrib == null || !Boolean.parseBoolean(policyAttrib.get(ENABLED))) {
+            return null;
+        }
+        int ttl = NumberUtils.toInt(policyAttrib.get(TTL), DEFAULT_TTL_SECONDS);
+        if (ttl <= 0) {
+            log.warn("OPA decision cache is disabled for the policy: {}, as the TTL: {} is not positive",
+                    policyAttrib.get("policy"), ttl);
+            return null;
+        }
+        return new OPADecisionCache(CacheProvider.getOPADecisionCache(), ttl, policyAttrib.get(KEY_FIELDS));
+    }
+
+    /**
+     * Get the cache key of an OPA request payload.
+     *
+     * @param requestBody payload sent to the OPA server
+     * @return hash of the payload, or of the key fields of the payload if they are configured
+     */
+    String getKey(String requestBody) {
+        String keySource = requestBody;
+        if (keyFields != null) {
+            try {
+                JSONObject payload = new JSONObject(requestBody);
+                JSONObject input = payload.optJSONObject(INPUT);
+                keySource = buildKeySource(input != null ? input : payload);
+            } catch (JSONException e) {
+                // Custom request generators may not produce a JSON object. Whole payload is used as the key.
+                log.debug("OPA request payload is not a JSON object, hence the whole payload is used as the key");
+            }
+        }
+        return keyPrefix + Hashing.sha256().hashString(keySource, StandardCharsets.UTF_8).toString();
+    }
+
+    String get(String key) {
+        return decisions.getIfPresent(key);
+    }
+
+    void put(String key, String opaResponse) {
+        decisions.put(key, opaResponse, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private String buildKeySource(JSONObject input) {
+        StringBuilder keySource = new StringBuilder();
+        keySource.append(AUTHENTICATION_CONTEXT).append('=').append(input.opt(AUTHENTICATION_CONTEXT)).append('\n');
+        for (String[] path : keyFields) {
+            Object value = input;
+            for (String field : path) {
+                value = value instanceof JSONObject ? ((JSONObject) value).opt(field) : null;
+            }
+            // Field paths are included so that a value cannot be mistaken for the value of another field.
+            keySource.append(String.join(".", path)).append('=').append(value).append('\n');
+        }
+        return keySource.toString();
+    }
+}
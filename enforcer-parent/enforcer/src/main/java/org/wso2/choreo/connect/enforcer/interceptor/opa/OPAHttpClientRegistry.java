@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.security.KeyStore;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived HTTP clients used to call the OPA servers. A client, with its own connection pool, is created for each
+ * combination of the OPA server, the client keystore and the client options, so that the connections (and the TLS
+ * sessions) to the OPA server are reused across requests. Connections idle for longer than
+ * {@link #IDLE_CONNECTION_TIMEOUT_SECONDS} are closed by the client.
+ * <p>
+ * Clients are leased for each request. When a client is created for a new keystore, after the configuration is
+ * reloaded, the clients of the previous keystores are removed, and each is closed once the requests it is leased to
+ * are completed.
+ */
+public class OPAHttpClientRegistry {
+    private static final Logger log = LogManager.getLogger(OPAHttpClientRegistry.class);
+    private static final OPAHttpClientRegistry instance = new OPAHttpClientRegistry();
+    static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
+    private final Map<ClientKey, PooledHttpClient> clients = new ConcurrentHashMap<>();
+
+    OPAHttpClientRegistry() {
+    }
+
+    public static OPAHttpClientRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Lease the HTTP client for an OPA server, for a request. The lease should be closed once the response is
+     * consumed, which releases the client without closing it.
+     *
+     * @param url            URL of the OPA server
+     * @param clientKeyStore keystore with key and cert for client
+     * @param options        HTTP client options, as in {@link FilterUtils.HTTPClientOptions}
+     * @return lease of the HTTP client
+     * @throws IOException if the connection manager of the client could not be created
+     */
+    public HttpClientLease leaseHttpClient(URL url, KeyStore clientKeyStore, Map<String, String> options)
+            throws IOException {
+        ClientKey key = new ClientKey(url.getProtocol() + "://" + url.getAuthority(), clientKeyStore, options);
+        while (true) {
+            PooledHttpClient pooledClient = clients.get(key);
+            if (pooledClient == null) {
+                pooledClient = clients.computeIfAbsent(key, k -> createClient(url.getProtocol(), clientKeyStore,
+                        k.options));
+                if (pooledClient == null) {
+                    throw new IOException("Error while creating the connection manager for the OPA server: " +
+                            key.origin);
+                }
+                retireStaleClients(clientKeyStore);
+            }
+            // A client retired after it was looked up may have been closed already.
+            if (pooledClient.acquire()) {
+                return new HttpClientLease(pooledClient);
+            }
+        }
+    }
+
+    /**
+     * @return number of HTTP clients, which is the number of connection pools
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * @return connection pool statistics summed across all the clients
+     */
+    public PoolStats getTotalStats() {
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (PooledHttpClient pooledClient : clients.values()) {
+            PoolStats stats = pooledClient.connectionManager.getTotalStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    /**
+     * Remove the clients created for keystores other than the current one. Each is closed once it is no longer
+     * leased, which also stops the idle connection evictor thread of the client.
+     *
+     * @param currentKeyStore keystore of the current configuration
+     */
+    private void retireStaleClients(KeyStore currentKeyStore) {
+        for (Map.Entry<ClientKey, PooledHttpClient> client : clients.entrySet()) {
+            if (client.getKey().keyStore != currentKeyStore && clients.remove(client.getKey(), client.getValue())) {
+                client.getValue().retire();
+            }
+        }
+    }
+
+    private static PooledHttpClient createClient(String protocol, KeyStore clientKeyStore,
+                                                 Map<String, String> options) {
+        PoolingHttpClientConnectionManager connectionManager = FilterUtils.getConnectionManager(protocol,
+                clientKeyStore, options);
+        if (connectionManager == null) {
+            // Returning null does not add a client to the registry.
+            return null;
+        }
+        CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(FilterUtils.getRequestConfig(options))
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .build();
+        return new PooledHttpClient(httpClient, connectionManager);
+    }
+
+    /**
+     * Lease of a shared HTTP client, held for the duration of a request.
+     */
+    public static class HttpClientLease implements AutoCloseable {
+        private final PooledHttpClient pooledClient;
+        private boolean released;
+
+        private HttpClientLease(PooledHttpClient pooledClient) {
+            this.pooledClient = pooledClient;
+        }
+
+        /**
+         * @return HTTP client, which should not be closed by the caller
+         */
+        public CloseableHttpClient getHttpClient() {
+            return pooledClient.httpClient;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                pooledClient.release();
+            }
+        }
+    }
+
+    private static class PooledHttpClient {
+        private final CloseableHttpClient httpClient;
+        private final PoolingHttpClientConnectionManager connectionManager;
+        // Number of leases of the client, guarded by this client.
+        private int leaseCount;
+        private boolean retired;
+        private boolean closed;
+
+        PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager) {
+            this.httpClient = httpClient;
+            this.connectionManager = connectionManager;
+        }
+
+        synchronized boolean acquire() {
+            if (closed) {
+                return false;
+            }
+            leaseCount++;
+            return true;
+        }
+
+        synchronized void release() {
+            leaseCount--;
+            if (retired && leaseCount == 0) {
+                close();
+            }
+        }
+
+        synchronized void retire() {
+            retired = true;
+            if (leaseCount == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            closed = true;
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Error while closing the HTTP client of an OPA server", e);
+            }
+        }
+    }
+
+    private static class ClientKey {
+        private final String origin;
+        // Keystores are compared by identity, which changes only when the configuration is reloaded.
+        private final KeyStore keyStore;
+        private final Map<String, String> options;
+
+        ClientKey(String origin, KeyStore keyStore, Map<String, String> options) {
+            this.origin = origin;
+            this.keyStore = keyStore;
+            this.options = new HashMap<>(options);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ClientKey that = (ClientKey) o;
+            return origin.equals(that.origin) && keyStore == that.keyStore && options.equals(that.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(origin, System.identityHashCode(keyStore), options);
+        }
+    }
+}
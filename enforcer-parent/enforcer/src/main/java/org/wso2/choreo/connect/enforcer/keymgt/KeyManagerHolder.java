@@ -33,6 +33,8 @@ import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.discovery.KeyManagerDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWKSetHolder;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWSVerifierHolder;
 import org.wso2.choreo.connect.enforcer.util.TLSUtils;
 
 import java.io.ByteArrayInputStream;
@@ -43,9 +45,11 @@ import java.security.cert.CertificateFactory;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * KeyManager holder class for Micro gateway.
@@ -173,5 +177,15 @@ public class KeyManagerHolder {
         // add the updated issuer list replacing the existing one
         tokenIssuerMap.clear();
         tokenIssuerMap.putAll(kmIssuerMap);
+
+        // Release the verifiers of the certificates of the replaced issuers.
+        JWSVerifierHolder.getInstance().invalidateAll();
+        Set<String> jwksUrls = new HashSet<>();
+        for (ExtendedTokenIssuerDto tokenIssuer : kmIssuerMap.values()) {
+            if (tokenIssuer.getJwksConfigurationDTO().isEnabled()) {
+                jwksUrls.add(tokenIssuer.getJwksConfigurationDTO().getUrl());
+            }
+        }
+        JWKSetHolder.getInstance().retainKeySets(jwksUrls);
     }
 }
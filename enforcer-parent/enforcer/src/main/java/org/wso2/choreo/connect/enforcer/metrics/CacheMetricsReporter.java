@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the hit, miss and eviction counts of the caches since the previous run, and their sizes, through the
+ * metrics exporter. This is expected to be run periodically from a single thread.
+ */
+public class CacheMetricsReporter implements Runnable {
+
+    private static final Logger LOGGER = LogManager.getLogger(CacheMetricsReporter.class);
+    private final List<EnforcerCache<?, ?>> caches;
+    // Counts published in the previous run, by the metric name.
+    private final Map<String, Long> previousCounts = new HashMap<>();
+
+    public CacheMetricsReporter(List<EnforcerCache<?, ?>> caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public void run() {
+        try {
+            MetricsExporter metricsExporter = MetricsManager.getInstance();
+            if (metricsExporter == null) {
+                return;
+            }
+            HashMap<String, Double> metrics = new HashMap<>();
+            for (EnforcerCache<?, ?> cache : caches) {
+                String prefix = cache.getName() + ".";
+                addCountSincePreviousRun(metrics, prefix + MetricsConstants.CACHE_HIT_COUNT, cache.getHitCount());
+                addCountSincePreviousRun(metrics, prefix + MetricsConstants.CACHE_MISS_COUNT, cache.getMissCount());
+                addCountSincePreviousRun(metrics, prefix + MetricsConstants.CACHE_EVICTION_COUNT,
+                        cache.getEvictionCount());
+                metrics.put(prefix + MetricsConstants.CACHE_SIZE, (double) cache.size());
+            }
+            metricsExporter.trackMetrics(metrics);
+        } catch (RuntimeException e) {
+            // An exception would stop the periodic runs.
+            LOGGER.error("Error while publishing the cache metrics", e);
+        }
+    }
+
+    private void addCountSincePreviousRun(HashMap<String, Double> metrics, String metricName, long count) {
+        Long previousCount = previousCounts.put(metricName, count);
+        metrics.put(metricName, (double) (count - (previousCount == null ? 0 : previousCount)));
+    }
+}
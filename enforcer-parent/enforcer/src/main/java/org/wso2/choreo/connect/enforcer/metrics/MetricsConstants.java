@@ -29,4 +29,11 @@ public class MetricsConstants {
     public static final String REQUEST_MEDIATION_LATENCY = "requestMediationLatency";
     public static final String BACKEND_LATENCY = "backendLatency";
     public static final String RESPONSE_CODE = "responseCode";
+    public static final String API_UPDATE_LATENCY = "apiUpdateLatency";
+    public static final String JWKS_REFRESH_LATENCY = "jwksRefreshLatency";
+    // Cache metrics are published as <cache name>.<metric>
+    public static final String CACHE_HIT_COUNT = "hitCount";
+    public static final String CACHE_MISS_COUNT = "missCount";
+    public static final String CACHE_EVICTION_COUNT = "evictionCount";
+    public static final String CACHE_SIZE = "size";
 }
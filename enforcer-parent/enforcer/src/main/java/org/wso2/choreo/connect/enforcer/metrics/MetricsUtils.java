@@ -25,7 +25,6 @@ import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.wso2.carbon.apimgt.common.analytics.collectors.AnalyticsDataProvider;
 import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
 import org.wso2.choreo.connect.enforcer.analytics.ChoreoAnalyticsProvider;
 import org.wso2.choreo.connect.enforcer.constants.AnalyticsConstants;
@@ -52,8 +51,8 @@ public class MetricsUtils {
 
             UInt32Value httpResponseProperties = logEntry.getResponse().getResponseCode();
             metricsExporter.trackMetric(MetricsConstants.RESPONSE_CODE, httpResponseProperties.getValue());
-            AnalyticsDataProvider provider = new ChoreoAnalyticsProvider(logEntry);
-            Latencies latencies = provider.getLatencies();
+            // Only the timings are required, hence the enforcer metadata of the entry is not decoded.
+            Latencies latencies = ChoreoAnalyticsProvider.getLatencies(logEntry.getCommonProperties());
 
             // handle do not publish event
             if ((!StringUtils.isEmpty(logEntry.getResponse().getResponseCodeDetails()))
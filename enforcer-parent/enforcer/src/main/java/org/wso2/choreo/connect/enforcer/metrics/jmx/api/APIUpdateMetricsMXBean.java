@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the API updates received from the API discovery service.
+ */
+public interface APIUpdateMetricsMXBean {
+
+    /**
+     * Getter for the total number of API updates processed.
+     *
+     * @return long
+     */
+    public long getTotalUpdateCount();
+
+    /**
+     * Getter for the time taken to apply the last API update in milliseconds.
+     *
+     * @return long
+     */
+    public long getLastUpdateTimeMillis();
+
+    /**
+     * Getter for the average time taken to apply an API update in milliseconds.
+     *
+     * @return double
+     */
+    public double getAverageUpdateTimeMillis();
+
+    /**
+     * Getter for the maximum time taken to apply an API update in milliseconds.
+     *
+     * @return long
+     */
+    public long getMaxUpdateTimeMillis();
+
+    /**
+     * Getter for the number of APIs which were initialized (added or changed) in the last update.
+     *
+     * @return int
+     */
+    public int getLastInitializedApiCount();
+
+    /**
+     * Getter for the number of APIs which were unchanged and reused in the last update.
+     *
+     * @return int
+     */
+    public int getLastUnchangedApiCount();
+
+    /**
+     * Getter for the number of APIs which were removed in the last update.
+     *
+     * @return int
+     */
+    public int getLastRemovedApiCount();
+
+    /**
+     * Resets all the metrics to their initial values.
+     */
+    public void resetAPIUpdateMetrics();
+}
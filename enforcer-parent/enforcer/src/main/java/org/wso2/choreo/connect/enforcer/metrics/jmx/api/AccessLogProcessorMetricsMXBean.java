@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the access log processing for analytics and metrics.
+ */
+public interface AccessLogProcessorMetricsMXBean {
+
+    /**
+     * Getter for the number of access log messages waiting to be processed.
+     *
+     * @return int
+     */
+    public int getQueuedMessageCount();
+
+    /**
+     * Getter for the maximum number of access log messages that can wait to be processed.
+     *
+     * @return int
+     */
+    public int getQueueCapacity();
+
+    /**
+     * Getter for the total number of access log entries processed.
+     *
+     * @return long
+     */
+    public long getProcessedEntryCount();
+
+    /**
+     * Getter for the total number of access log entries dropped, as the queue was full.
+     *
+     * @return long
+     */
+    public long getDroppedEntryCount();
+
+    /**
+     * Getter for the total number of access log messages dropped, as the queue was full.
+     *
+     * @return long
+     */
+    public long getDroppedMessageCount();
+}
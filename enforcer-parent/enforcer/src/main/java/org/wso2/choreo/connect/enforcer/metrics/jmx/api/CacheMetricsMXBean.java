@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+import java.util.Map;
+
+/**
+ * MBean API for the metrics of the caches of the enforcer, by the cache name.
+ */
+public interface CacheMetricsMXBean {
+
+    /**
+     * Getter for the total number of lookups which found an entry, by the cache name.
+     *
+     * @return Map
+     */
+    public Map<String, Long> getHitCounts();
+
+    /**
+     * Getter for the total number of lookups which did not find an entry, by the cache name.
+     *
+     * @return Map
+     */
+    public Map<String, Long> getMissCounts();
+
+    /**
+     * Getter for the total number of entries evicted due to the size limit or expiry, by the cache name.
+     *
+     * @return Map
+     */
+    public Map<String, Long> getEvictionCounts();
+
+    /**
+     * Getter for the current number of entries, by the cache name.
+     *
+     * @return Map
+     */
+    public Map<String, Long> getSizes();
+}
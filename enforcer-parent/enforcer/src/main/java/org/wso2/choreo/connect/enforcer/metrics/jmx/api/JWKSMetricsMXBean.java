@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the JWKS fetched from the token issuers.
+ */
+public interface JWKSMetricsMXBean {
+
+    /**
+     * Getter for the total number of JWKS refreshes, including the failed ones.
+     *
+     * @return long
+     */
+    public long getTotalRefreshCount();
+
+    /**
+     * Getter for the number of JWKS refreshes which failed.
+     *
+     * @return long
+     */
+    public long getFailedRefreshCount();
+
+    /**
+     * Getter for the number of unknown key IDs which did not trigger a refresh, since the JWKS was fetched
+     * recently.
+     *
+     * @return long
+     */
+    public long getRateLimitedRefreshCount();
+
+    /**
+     * Getter for the time taken by the last JWKS refresh in milliseconds.
+     *
+     * @return long
+     */
+    public long getLastRefreshTimeMillis();
+
+    /**
+     * Getter for the average time taken by a JWKS refresh in milliseconds.
+     *
+     * @return double
+     */
+    public double getAverageRefreshTimeMillis();
+
+    /**
+     * Getter for the maximum time taken by a JWKS refresh in milliseconds.
+     *
+     * @return long
+     */
+    public long getMaxRefreshTimeMillis();
+
+    /**
+     * Resets all the metrics to their initial values.
+     */
+    public void resetJWKSMetrics();
+}
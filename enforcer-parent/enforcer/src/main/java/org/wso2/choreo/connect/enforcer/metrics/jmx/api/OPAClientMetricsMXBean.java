@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the HTTP connection pools used to call the OPA servers.
+ */
+public interface OPAClientMetricsMXBean {
+
+    /**
+     * Getter for the number of HTTP clients, each having its own connection pool.
+     *
+     * @return int
+     */
+    public int getHttpClientCount();
+
+    /**
+     * Getter for the number of connections in use.
+     *
+     * @return int
+     */
+    public int getLeasedConnectionCount();
+
+    /**
+     * Getter for the number of idle connections kept for reuse.
+     *
+     * @return int
+     */
+    public int getAvailableConnectionCount();
+
+    /**
+     * Getter for the number of requests waiting for a connection.
+     *
+     * @return int
+     */
+    public int getPendingConnectionRequestCount();
+
+    /**
+     * Getter for the maximum number of connections across the pools.
+     *
+     * @return int
+     */
+    public int getMaxConnectionCount();
+
+    /**
+     * Getter for the number of OPA decisions served from the decision caches.
+     *
+     * @return long
+     */
+    public long getDecisionCacheHitCount();
+
+    /**
+     * Getter for the number of OPA requests not found in the decision caches.
+     *
+     * @return long
+     */
+    public long getDecisionCacheMissCount();
+}
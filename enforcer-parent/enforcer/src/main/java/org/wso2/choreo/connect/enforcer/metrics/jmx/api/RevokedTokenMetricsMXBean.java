@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the revoked token store.
+ */
+public interface RevokedTokenMetricsMXBean {
+
+    /**
+     * Getter for the number of revoked tokens in the store.
+     *
+     * @return int
+     */
+    public int getRevokedTokenCount();
+
+    /**
+     * Getter for the approximate heap memory used by the revoked tokens, in bytes.
+     *
+     * @return long
+     */
+    public long getEstimatedMemoryBytes();
+
+    /**
+     * Getter for the number of expired tokens purged from the store.
+     *
+     * @return long
+     */
+    public long getPurgedTokenCount();
+
+    /**
+     * Getter for whether a Bloom filter is used in front of the store.
+     *
+     * @return boolean
+     */
+    public boolean isBloomFilterEnabled();
+
+    /**
+     * Getter for the number of lookups which passed the Bloom filter but were not revoked.
+     *
+     * @return long
+     */
+    public long getBloomFilterFalsePositiveCount();
+}
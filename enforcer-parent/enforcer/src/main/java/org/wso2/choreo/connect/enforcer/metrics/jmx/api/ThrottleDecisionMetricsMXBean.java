@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the throttle decisions received from the traffic manager.
+ */
+public interface ThrottleDecisionMetricsMXBean {
+
+    /**
+     * Getter for the number of throttle decisions currently held.
+     *
+     * @return int
+     */
+    public int getThrottleDecisionCount();
+
+    /**
+     * Getter for the maximum number of throttle decisions that can be held.
+     *
+     * @return int
+     */
+    public int getMaxThrottleDecisionCount();
+
+    /**
+     * Getter for the total number of throttle decisions removed after being reset.
+     *
+     * @return long
+     */
+    public long getExpiredThrottleDecisionCount();
+
+    /**
+     * Getter for the total number of throttle decisions evicted before being reset, as the maximum count was
+     * reached.
+     *
+     * @return long
+     */
+    public long getEvictedThrottleDecisionCount();
+}
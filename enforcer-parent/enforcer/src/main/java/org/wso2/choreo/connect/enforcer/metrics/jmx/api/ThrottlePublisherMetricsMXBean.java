@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.api;
+
+/**
+ * MBean API for the metrics of the throttle events published to the traffic manager.
+ */
+public interface ThrottlePublisherMetricsMXBean {
+
+    /**
+     * Getter for the total number of throttle events accepted by the event queue.
+     *
+     * @return long
+     */
+    public long getPublishedEventCount();
+
+    /**
+     * Getter for the total number of throttle events dropped, as the event queue was full.
+     *
+     * @return long
+     */
+    public long getDroppedEventCount();
+
+    /**
+     * Getter for the number of free slots in the event queue.
+     *
+     * @return long
+     */
+    public long getEventQueueRemainingCapacity();
+}
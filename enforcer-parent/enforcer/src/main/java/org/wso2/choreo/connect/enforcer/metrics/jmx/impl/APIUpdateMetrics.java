@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.APIUpdateMetricsMXBean;
+
+/**
+ * Singleton MBean for the metrics of the API updates received from the API discovery service.
+ */
+public class APIUpdateMetrics implements APIUpdateMetricsMXBean {
+
+    private static APIUpdateMetrics apiUpdateMetricsMBean = null;
+
+    private long totalUpdateCount = 0;
+    private long lastUpdateTimeMillis = 0;
+    private double averageUpdateTimeMillis = 0;
+    private long maxUpdateTimeMillis = 0;
+    private int lastInitializedApiCount = 0;
+    private int lastUnchangedApiCount = 0;
+    private int lastRemovedApiCount = 0;
+
+    private APIUpdateMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton APIUpdateMetrics instance.
+     *
+     * @return APIUpdateMetrics
+     */
+    public static APIUpdateMetrics getInstance() {
+        if (apiUpdateMetricsMBean == null) {
+            synchronized (APIUpdateMetrics.class) {
+                if (apiUpdateMetricsMBean == null) {
+                    apiUpdateMetricsMBean = new APIUpdateMetrics();
+                }
+            }
+        }
+        return apiUpdateMetricsMBean;
+    }
+
+    public synchronized void recordMetric(long updateTimeMillis, int initializedApiCount, int unchangedApiCount,
+                                          int removedApiCount) {
+        this.totalUpdateCount += 1;
+        this.lastUpdateTimeMillis = updateTimeMillis;
+        this.averageUpdateTimeMillis = this.averageUpdateTimeMillis +
+                (updateTimeMillis - this.averageUpdateTimeMillis) / totalUpdateCount;
+        this.maxUpdateTimeMillis = Math.max(this.maxUpdateTimeMillis, updateTimeMillis);
+        this.lastInitializedApiCount = initializedApiCount;
+        this.lastUnchangedApiCount = unchangedApiCount;
+        this.lastRemovedApiCount = removedApiCount;
+    }
+
+    @Override
+    public long getTotalUpdateCount() {
+        return totalUpdateCount;
+    }
+
+    @Override
+    public long getLastUpdateTimeMillis() {
+        return lastUpdateTimeMillis;
+    }
+
+    @Override
+    public double getAverageUpdateTimeMillis() {
+        return averageUpdateTimeMillis;
+    }
+
+    @Override
+    public long getMaxUpdateTimeMillis() {
+        return maxUpdateTimeMillis;
+    }
+
+    @Override
+    public int getLastInitializedApiCount() {
+        return lastInitializedApiCount;
+    }
+
+    @Override
+    public int getLastUnchangedApiCount() {
+        return lastUnchangedApiCount;
+    }
+
+    @Override
+    public int getLastRemovedApiCount() {
+        return lastRemovedApiCount;
+    }
+
+    @Override
+    public synchronized void resetAPIUpdateMetrics() {
+        this.totalUpdateCount = 0;
+        this.lastUpdateTimeMillis = 0;
+        this.averageUpdateTimeMillis = 0;
+        this.maxUpdateTimeMillis = 0;
+        this.lastInitializedApiCount = 0;
+        this.lastUnchangedApiCount = 0;
+        this.lastRemovedApiCount = 0;
+    }
+}
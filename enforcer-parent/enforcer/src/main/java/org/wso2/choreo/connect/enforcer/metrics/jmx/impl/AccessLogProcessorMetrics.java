@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.analytics.AccessLogProcessor;
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.AccessLogProcessorMetricsMXBean;
+
+/**
+ * Singleton MBean for the metrics of the access log processing. The values are read when requested.
+ */
+public class AccessLogProcessorMetrics implements AccessLogProcessorMetricsMXBean {
+
+    private static AccessLogProcessorMetrics accessLogProcessorMetricsMBean = null;
+
+    private AccessLogProcessorMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton AccessLogProcessorMetrics instance.
+     *
+     * @return AccessLogProcessorMetrics
+     */
+    public static AccessLogProcessorMetrics getInstance() {
+        if (accessLogProcessorMetricsMBean == null) {
+            synchronized (AccessLogProcessorMetrics.class) {
+                if (accessLogProcessorMetricsMBean == null) {
+                    accessLogProcessorMetricsMBean = new AccessLogProcessorMetrics();
+                }
+            }
+        }
+        return accessLogProcessorMetricsMBean;
+    }
+
+    @Override
+    public int getQueuedMessageCount() {
+        return AccessLogProcessor.getInstance().getQueueSize();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return AccessLogProcessor.getInstance().getQueueCapacity();
+    }
+
+    @Override
+    public long getProcessedEntryCount() {
+        return AccessLogProcessor.getInstance().getProcessedEntryCount();
+    }
+
+    @Override
+    public long getDroppedEntryCount() {
+        return AccessLogProcessor.getInstance().getDroppedEntryCount();
+    }
+
+    @Override
+    public long getDroppedMessageCount() {
+        return AccessLogProcessor.getInstance().getDroppedMessageCount();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.CacheMetricsMXBean;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Singleton MBean for the metrics of the caches of the enforcer. The values are read from the caches when
+ * requested.
+ */
+public class CacheMetrics implements CacheMetricsMXBean {
+
+    private static CacheMetrics cacheMetricsMBean = null;
+
+    private CacheMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton CacheMetrics instance.
+     *
+     * @return CacheMetrics
+     */
+    public static CacheMetrics getInstance() {
+        if (cacheMetricsMBean == null) {
+            synchronized (CacheMetrics.class) {
+                if (cacheMetricsMBean == null) {
+                    cacheMetricsMBean = new CacheMetrics();
+                }
+            }
+        }
+        return cacheMetricsMBean;
+    }
+
+    @Override
+    public Map<String, Long> getHitCounts() {
+        return collect(EnforcerCache::getHitCount);
+    }
+
+    @Override
+    public Map<String, Long> getMissCounts() {
+        return collect(EnforcerCache::getMissCount);
+    }
+
+    @Override
+    public Map<String, Long> getEvictionCounts() {
+        return collect(EnforcerCache::getEvictionCount);
+    }
+
+    @Override
+    public Map<String, Long> getSizes() {
+        return collect(EnforcerCache::size);
+    }
+
+    private static Map<String, Long> collect(ToLongFunction<EnforcerCache<?, ?>> metric) {
+        Map<String, Long> values = new HashMap<>();
+        for (EnforcerCache<?, ?> cache : CacheProvider.getCaches()) {
+            values.put(cache.getName(), metric.applyAsLong(cache));
+        }
+        return values;
+    }
+}
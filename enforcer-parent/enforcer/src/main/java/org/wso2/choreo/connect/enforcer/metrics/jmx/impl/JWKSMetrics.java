@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.JWKSMetricsMXBean;
+
+/**
+ * Singleton MBean for the metrics of the JWKS fetched from the token issuers.
+ */
+public class JWKSMetrics implements JWKSMetricsMXBean {
+
+    private static JWKSMetrics jwksMetricsMBean = null;
+
+    private long totalRefreshCount = 0;
+    private long failedRefreshCount = 0;
+    private long rateLimitedRefreshCount = 0;
+    private long lastRefreshTimeMillis = 0;
+    private double averageRefreshTimeMillis = 0;
+    private long maxRefreshTimeMillis = 0;
+
+    private JWKSMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton JWKSMetrics instance.
+     *
+     * @return JWKSMetrics
+     */
+    public static JWKSMetrics getInstance() {
+        if (jwksMetricsMBean == null) {
+            synchronized (JWKSMetrics.class) {
+                if (jwksMetricsMBean == null) {
+                    jwksMetricsMBean = new JWKSMetrics();
+                }
+            }
+        }
+        return jwksMetricsMBean;
+    }
+
+    public synchronized void recordRefresh(long refreshTimeMillis, boolean failed) {
+        this.totalRefreshCount += 1;
+        if (failed) {
+            this.failedRefreshCount += 1;
+        }
+        this.lastRefreshTimeMillis = refreshTimeMillis;
+        this.averageRefreshTimeMillis = this.averageRefreshTimeMillis +
+                (refreshTimeMillis - this.averageRefreshTimeMillis) / totalRefreshCount;
+        this.maxRefreshTimeMillis = Math.max(this.maxRefreshTimeMillis, refreshTimeMillis);
+    }
+
+    public synchronized void recordRateLimitedRefresh() {
+        this.rateLimitedRefreshCount += 1;
+    }
+
+    @Override
+    public long getTotalRefreshCount() {
+        return totalRefreshCount;
+    }
+
+    @Override
+    public long getFailedRefreshCount() {
+        return failedRefreshCount;
+    }
+
+    @Override
+    public long getRateLimitedRefreshCount() {
+        return rateLimitedRefreshCount;
+    }
+
+    @Override
+    public long getLastRefreshTimeMillis() {
+        return lastRefreshTimeMillis;
+    }
+
+    @Override
+    public double getAverageRefreshTimeMillis() {
+        return averageRefreshTimeMillis;
+    }
+
+    @Override
+    public long getMaxRefreshTimeMillis() {
+        return maxRefreshTimeMillis;
+    }
+
+    @Override
+    public synchronized void resetJWKSMetrics() {
+        this.totalRefreshCount = 0;
+        this.failedRefreshCount = 0;
+        this.rateLimitedRefreshCount = 0;
+        this.lastRefreshTimeMillis = 0;
+        this.averageRefreshTimeMillis = 0;
+        this.maxRefreshTimeMillis = 0;
+    }
+}
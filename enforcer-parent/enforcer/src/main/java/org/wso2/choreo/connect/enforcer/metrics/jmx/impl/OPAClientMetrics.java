@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.interceptor.opa.OPAClient;
+import org.wso2.choreo.connect.enforcer.interceptor.opa.OPAHttpClientRegistry;
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.OPAClientMetricsMXBean;
+
+/**
+ * Singleton MBean for the metrics of the OPA HTTP connection pools and decision caches. The values are read when
+ * requested.
+ */
+public class OPAClientMetrics implements OPAClientMetricsMXBean {
+
+    private static OPAClientMetrics opaClientMetricsMBean = null;
+
+    private OPAClientMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton OPAClientMetrics instance.
+     *
+     * @return OPAClientMetrics
+     */
+    public static OPAClientMetrics getInstance() {
+        if (opaClientMetricsMBean == null) {
+            synchronized (OPAClientMetrics.class) {
+                if (opaClientMetricsMBean == null) {
+                    opaClientMetricsMBean = new OPAClientMetrics();
+                }
+            }
+        }
+        return opaClientMetricsMBean;
+    }
+
+    @Override
+    public int getHttpClientCount() {
+        return OPAHttpClientRegistry.getInstance().getClientCount();
+    }
+
+    @Override
+    public int getLeasedConnectionCount() {
+        return OPAHttpClientRegistry.getInstance().getTotalStats().getLeased();
+    }
+
+    @Override
+    public int getAvailableConnectionCount() {
+        return OPAHttpClientRegistry.getInstance().getTotalStats().getAvailable();
+    }
+
+    @Override
+    public int getPendingConnectionRequestCount() {
+        return OPAHttpClientRegistry.getInstance().getTotalStats().getPending();
+    }
+
+    @Override
+    public int getMaxConnectionCount() {
+        return OPAHttpClientRegistry.getInstance().getTotalStats().getMax();
+    }
+
+    @Override
+    public long getDecisionCacheHitCount() {
+        return OPAClient.getInstance().getDecisionCacheHitCount();
+    }
+
+    @Override
+    public long getDecisionCacheMissCount() {
+        return OPAClient.getInstance().getDecisionCacheMissCount();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.RevokedTokenMetricsMXBean;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.RevokedJWTDataHolder;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.RevokedTokenStore;
+
+/**
+ * Singleton MBean for the metrics of the revoked token store. The values are read from the store when requested.
+ */
+public class RevokedTokenMetrics implements RevokedTokenMetricsMXBean {
+
+    private static RevokedTokenMetrics revokedTokenMetricsMBean = null;
+
+    private RevokedTokenMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton RevokedTokenMetrics instance.
+     *
+     * @return RevokedTokenMetrics
+     */
+    public static RevokedTokenMetrics getInstance() {
+        if (revokedTokenMetricsMBean == null) {
+            synchronized (RevokedTokenMetrics.class) {
+                if (revokedTokenMetricsMBean == null) {
+                    revokedTokenMetricsMBean = new RevokedTokenMetrics();
+                }
+            }
+        }
+        return revokedTokenMetricsMBean;
+    }
+
+    @Override
+    public int getRevokedTokenCount() {
+        return getStore().size();
+    }
+
+    @Override
+    public long getEstimatedMemoryBytes() {
+        return getStore().getEstimatedMemoryBytes();
+    }
+
+    @Override
+    public long getPurgedTokenCount() {
+        return getStore().getPurgedCount();
+    }
+
+    @Override
+    public boolean isBloomFilterEnabled() {
+        return getStore().isBloomFilterEnabled();
+    }
+
+    @Override
+    public long getBloomFilterFalsePositiveCount() {
+        return getStore().getBloomFilterFalsePositiveCount();
+    }
+
+    private static RevokedTokenStore getStore() {
+        return RevokedJWTDataHolder.getInstance().getRevokedTokenStore();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.ThrottleDecisionMetricsMXBean;
+
+/**
+ * Singleton MBean for the metrics of the throttle decisions received from the traffic manager.
+ */
+public class ThrottleDecisionMetrics implements ThrottleDecisionMetricsMXBean {
+
+    private static ThrottleDecisionMetrics throttleDecisionMetricsMBean = null;
+
+    private int throttleDecisionCount = 0;
+    private int maxThrottleDecisionCount = 0;
+    private long expiredThrottleDecisionCount = 0;
+    private long evictedThrottleDecisionCount = 0;
+
+    private ThrottleDecisionMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton ThrottleDecisionMetrics instance.
+     *
+     * @return ThrottleDecisionMetrics
+     */
+    public static ThrottleDecisionMetrics getInstance() {
+        if (throttleDecisionMetricsMBean == null) {
+            synchronized (ThrottleDecisionMetrics.class) {
+                if (throttleDecisionMetricsMBean == null) {
+                    throttleDecisionMetricsMBean = new ThrottleDecisionMetrics();
+                }
+            }
+        }
+        return throttleDecisionMetricsMBean;
+    }
+
+    public synchronized void recordMetric(int decisionCount, int maxDecisionCount, long expiredDecisionCount,
+                                          long evictedDecisionCount) {
+        this.throttleDecisionCount = decisionCount;
+        this.maxThrottleDecisionCount = maxDecisionCount;
+        this.expiredThrottleDecisionCount = expiredDecisionCount;
+        this.evictedThrottleDecisionCount = evictedDecisionCount;
+    }
+
+    @Override
+    public synchronized int getThrottleDecisionCount() {
+        return throttleDecisionCount;
+    }
+
+    @Override
+    public synchronized int getMaxThrottleDecisionCount() {
+        return maxThrottleDecisionCount;
+    }
+
+    @Override
+    public synchronized long getExpiredThrottleDecisionCount() {
+        return expiredThrottleDecisionCount;
+    }
+
+    @Override
+    public synchronized long getEvictedThrottleDecisionCount() {
+        return evictedThrottleDecisionCount;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.metrics.jmx.impl;
+
+import org.wso2.choreo.connect.enforcer.jmx.MBeanRegistrator;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.api.ThrottlePublisherMetricsMXBean;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.publisher.ThrottleDataPublisher;
+
+/**
+ * Singleton MBean for the metrics of the throttle events published to the traffic manager. The values are read
+ * from the publisher when requested, so that publishing an event does not update the MBean.
+ */
+public class ThrottlePublisherMetrics implements ThrottlePublisherMetricsMXBean {
+
+    private static ThrottlePublisherMetrics throttlePublisherMetricsMBean = null;
+
+    private ThrottlePublisherMetrics() {
+        MBeanRegistrator.registerMBean(this);
+    }
+
+    /**
+     * Getter for the Singleton ThrottlePublisherMetrics instance.
+     *
+     * @return ThrottlePublisherMetrics
+     */
+    public static ThrottlePublisherMetrics getInstance() {
+        if (throttlePublisherMetricsMBean == null) {
+            synchronized (ThrottlePublisherMetrics.class) {
+                if (throttlePublisherMetricsMBean == null) {
+                    throttlePublisherMetricsMBean = new ThrottlePublisherMetrics();
+                }
+            }
+        }
+        return throttlePublisherMetricsMBean;
+    }
+
+    @Override
+    public long getPublishedEventCount() {
+        return ThrottleDataPublisher.getPublishedEventCount();
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return ThrottleDataPublisher.getDroppedEventCount();
+    }
+
+    @Override
+    public long getEventQueueRemainingCapacity() {
+        return ThrottleDataPublisher.getEventQueueRemainingCapacity();
+    }
+}
@@ -22,11 +22,13 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import net.minidev.json.JSONObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.exception.APISecurityException;
 import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
 import org.wso2.choreo.connect.enforcer.constants.GeneralErrorCodeConstants;
@@ -163,6 +165,19 @@ public class KeyValidator {
 
         SubscriptionDataStore datastore = SubscriptionDataHolder.getInstance()
                 .getTenantSubscriptionStore(apiTenantDomain);
+        String cacheKey = null;
+        long generation = 0;
+        if (datastore != null && isSubscriptionValidationCacheEnabled()) {
+            cacheKey = getValidationCacheKey(apiTenantDomain, uuid, keyManager, consumerKey);
+        }
+        if (cacheKey != null) {
+            // Generation is read before the data, so that a result derived from changing data is not reused.
+            generation = datastore.getGeneration();
+            APIKeyValidationInfoDTO cachedInfo = getCachedValidationInfo(cacheKey, generation);
+            if (cachedInfo != null) {
+                return cachedInfo;
+            }
+        }
         //TODO add a check to see whether datastore is initialized an load data using rest api if it is not loaded
         // TODO: (VirajSalaka) Handle the scenario where the event is dropped.
         if (datastore != null) {
@@ -203,6 +218,9 @@ public class KeyValidator {
             //Scenario where validation failed and message is not set
             infoDTO.setValidationStatus(APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
         }
+        if (cacheKey != null) {
+            putCachedValidationInfo(cacheKey, generation, infoDTO);
+        }
         log.debug("After validating subscriptions");
         return infoDTO;
     }
@@ -227,16 +245,33 @@ public class KeyValidator {
         Application app = null;
         Subscription sub = null;
 
+        String keyType = (String) payload.getClaim(APIConstants.JwtTokenConstants.KEY_TYPE);
+        if (keyType == null) {
+            keyType = APIConstants.API_KEY_TYPE_PRODUCTION;
+        }
+        JSONObject appObject = (JSONObject) payload.getClaim(APIConstants.JwtTokenConstants.APPLICATION);
         SubscriptionDataStore datastore = SubscriptionDataHolder.getInstance()
                 .getTenantSubscriptionStore(apiTenantDomain);
+        String cacheKey = null;
+        long generation = 0;
+        String appUuid = appObject == null ? null : appObject.getAsString("uuid");
+        if (datastore != null && isSubscriptionValidationCacheEnabled()) {
+            cacheKey = getValidationCacheKey(apiTenantDomain, apiUuid, appUuid, keyType);
+        }
+        if (cacheKey != null) {
+            // Generation is read before the data, so that a result derived from changing data is not reused.
+            generation = datastore.getGeneration();
+            APIKeyValidationInfoDTO cachedInfo = getCachedValidationInfo(cacheKey, generation);
+            if (cachedInfo != null) {
+                return cachedInfo;
+            }
+        }
         //TODO add a check to see whether datastore is initialized an load data using rest api if it is not loaded
         // TODO: (VirajSalaka) Handle the scenario where the event is dropped.
         if (datastore != null) {
             api = datastore.getApiByContextAndVersion(apiUuid);
             if (api != null) {
-                JSONObject appObject = (JSONObject) payload.getClaim(APIConstants.JwtTokenConstants.APPLICATION);
-                String appUuid = appObject.getAsString("uuid");
-                if (!appObject.isEmpty() && !appUuid.isEmpty()) {
+                if (appUuid != null && !appUuid.isEmpty()) {
                     app = datastore.getApplicationById(appUuid);
                     if (app != null) {
                         sub = datastore.getSubscriptionById(app.getUUID(), api.getApiUUID());
@@ -261,10 +296,6 @@ public class KeyValidator {
             log.error("Subscription data store is null for tenant domain " + apiTenantDomain);
         }
 
-        String keyType = (String) payload.getClaim(APIConstants.JwtTokenConstants.KEY_TYPE);
-        if (keyType == null) {
-            keyType = APIConstants.API_KEY_TYPE_PRODUCTION;
-        }
         APIKeyValidationInfoDTO infoDTO = new APIKeyValidationInfoDTO();
         if (api != null && app != null && sub != null) {
             validate(infoDTO, datastore, api, keyType, app, sub);
@@ -273,10 +304,53 @@ public class KeyValidator {
             //Scenario where validation failed and message is not set
             infoDTO.setValidationStatus(APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
         }
+        if (cacheKey != null) {
+            putCachedValidationInfo(cacheKey, generation, infoDTO);
+        }
         log.debug("After validating subscriptions with API key.");
         return infoDTO;
     }
 
+    private static boolean isSubscriptionValidationCacheEnabled() {
+        return CacheProvider.getSubscriptionValidationCache() != null
+                && ConfigHolder.getInstance().getConfig().getCacheDto().isEnabled();
+    }
+
+    /**
+     * Build the key of a subscription validation result from the given parts.
+     *
+     * @param keyParts parts of the key
+     * @return the cache key, or null if any part is not known, in which case the result should not be cached
+     */
+    static String getValidationCacheKey(String... keyParts) {
+        for (String keyPart : keyParts) {
+            if (keyPart == null) {
+                return null;
+            }
+        }
+        return String.join(":", keyParts);
+    }
+
+    /**
+     * Get a copy of the cached validation result, if it was derived from the current generation of the
+     * subscription data. Callers modify the returned result, hence the cached instance is not returned.
+     */
+    private static APIKeyValidationInfoDTO getCachedValidationInfo(String cacheKey, long generation) {
+        SubscriptionValidationCacheEntry cacheEntry = CacheProvider.getSubscriptionValidationCache()
+                .getIfPresent(cacheKey);
+        if (cacheEntry != null && cacheEntry.getGeneration() == generation) {
+            log.debug("Subscription validation result is retrieved from the cache.");
+            return new APIKeyValidationInfoDTO(cacheEntry.getValidationInfo());
+        }
+        return null;
+    }
+
+    private static void putCachedValidationInfo(String cacheKey, long generation,
+                                                APIKeyValidationInfoDTO infoDTO) {
+        CacheProvider.getSubscriptionValidationCache().put(cacheKey,
+                new SubscriptionValidationCacheEntry(generation, new APIKeyValidationInfoDTO(infoDTO)));
+    }
+
     private static void validate(APIKeyValidationInfoDTO infoDTO, SubscriptionDataStore datastore,
                                              API api, String keyType, Application app, Subscription sub) {
         String subscriptionStatus = sub.getSubscriptionState();
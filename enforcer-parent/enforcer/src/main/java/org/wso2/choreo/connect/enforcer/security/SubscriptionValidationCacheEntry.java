@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security;
+
+import org.wso2.choreo.connect.enforcer.dto.APIKeyValidationInfoDTO;
+
+/**
+ * Entry of the subscription validation cache. The result of a subscription validation is valid as long as the
+ * subscription data store is at the generation it was derived from.
+ */
+public class SubscriptionValidationCacheEntry {
+    private final long generation;
+    private final APIKeyValidationInfoDTO validationInfo;
+
+    public SubscriptionValidationCacheEntry(long generation, APIKeyValidationInfoDTO validationInfo) {
+        this.generation = generation;
+        this.validationInfo = validationInfo;
+    }
+
+    /**
+     * @return generation of the subscription data store which the result was derived from
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return result of the subscription validation. This is shared across requests and should not be modified.
+     */
+    public APIKeyValidationInfoDTO getValidationInfo() {
+        return validationInfo;
+    }
+}
@@ -185,7 +185,7 @@ public class APIKeyAuthenticator extends APIKeyHandler {
             checkInRevokedMap(tokenIdentifier, splitToken);
 
             // Verifies the token if it is found in cache
-            JWTTokenPayloadInfo jwtTokenPayloadInfo = (JWTTokenPayloadInfo)
+            JWTTokenPayloadInfo jwtTokenPayloadInfo =
                     CacheProvider.getGatewayAPIKeyDataCache().getIfPresent(tokenIdentifier);
             boolean isVerified = isVerifiedApiKeyInCache(tokenIdentifier, apiKey, payload, splitToken,
                     "API Key", jwtTokenPayloadInfo);
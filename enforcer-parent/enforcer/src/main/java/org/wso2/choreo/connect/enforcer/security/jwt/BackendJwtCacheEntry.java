@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security.jwt;
+
+/**
+ * Entry of the backend JWT cache. The expiry of the token is held as a timestamp, so that a cached token is checked
+ * without decoding it.
+ */
+public class BackendJwtCacheEntry {
+    private final String token;
+    private final long validUntil;
+    private final long refreshAt;
+
+    /**
+     * @param token      backend JWT
+     * @param validUntil time in milliseconds until which the token can be sent to the backend
+     * @param refreshAt  time in milliseconds after which the token should be regenerated
+     */
+    public BackendJwtCacheEntry(String token, long validUntil, long refreshAt) {
+        this.token = token;
+        this.validUntil = validUntil;
+        this.refreshAt = refreshAt;
+    }
+
+    /**
+     * @return backend JWT
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * @return time in milliseconds until which the token can be sent to the backend
+     */
+    public long getValidUntil() {
+        return validUntil;
+    }
+
+    /**
+     * @param currentTimeMillis current time in milliseconds
+     * @return whether the token is about to expire, and should be regenerated
+     */
+    public boolean isRefreshDue(long currentTimeMillis) {
+        return currentTimeMillis >= refreshAt;
+    }
+}
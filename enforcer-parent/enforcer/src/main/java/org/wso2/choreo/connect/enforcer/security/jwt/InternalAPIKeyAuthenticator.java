@@ -138,7 +138,7 @@ public class InternalAPIKeyAuthenticator extends APIKeyHandler {
                 String apiContext = requestContext.getMatchedAPI().getBasePath();
 
                 // Verify token when it is found in cache
-                JWTTokenPayloadInfo jwtTokenPayloadInfo = (JWTTokenPayloadInfo)
+                JWTTokenPayloadInfo jwtTokenPayloadInfo =
                         CacheProvider.getGatewayInternalKeyDataCache().getIfPresent(tokenIdentifier);
 
                 boolean isVerified = isVerifiedApiKeyInCache(tokenIdentifier, internalKey, payload, splitToken,
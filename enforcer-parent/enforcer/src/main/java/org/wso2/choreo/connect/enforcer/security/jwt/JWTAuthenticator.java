@@ -18,7 +18,6 @@
 package org.wso2.choreo.connect.enforcer.security.jwt;
 
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.util.DateUtils;
 import io.opentelemetry.context.Scope;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -61,7 +60,6 @@ import org.wso2.choreo.connect.enforcer.util.JWTUtils;
 
 import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -151,6 +149,8 @@ public class JWTAuthenticator implements Authenticator {
             String name = requestContext.getMatchedAPI().getName();
             String version = requestContext.getMatchedAPI().getVersion();
             context = context + "/" + version;
+            String tokenSignature;
+            TokenCacheEntry tokenCacheEntry = null;
             SignedJWTInfo signedJWTInfo;
             Scope decodeTokenHeaderSpanScope = null;
             try {
@@ -160,7 +160,15 @@ public class JWTAuthenticator implements Authenticator {
                     Utils.setTag(decodeTokenHeaderSpan, APIConstants.LOG_TRACE_ID,
                             ThreadContext.get(APIConstants.LOG_TRACE_ID));
                 }
-                signedJWTInfo = JWTUtils.getSignedJwt(jwtToken);
+                tokenSignature = JWTUtils.getTokenSignature(jwtToken);
+                if (isGatewayTokenCacheEnabled) {
+                    tokenCacheEntry = CacheProvider.getGatewayTokenCache().getIfPresent(tokenSignature);
+                    if (tokenCacheEntry != null && !tokenCacheEntry.isOf(jwtToken)) {
+                        tokenCacheEntry = null;
+                    }
+                }
+                signedJWTInfo = tokenCacheEntry != null ? tokenCacheEntry.getSignedJWTInfo()
+                        : JWTUtils.parseSignedJwt(jwtToken);
             } catch (ParseException | IllegalArgumentException e) {
                 log.debug("Failed to decode the token header. {}", e.getMessage());
                 throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
@@ -173,22 +181,24 @@ public class JWTAuthenticator implements Authenticator {
                 }
             }
             JWTClaimsSet claims = signedJWTInfo.getJwtClaimsSet();
-            String jwtTokenIdentifier = getJWTTokenIdentifier(signedJWTInfo);
+            String jwtTokenIdentifier = tokenCacheEntry != null ? tokenCacheEntry.getTokenIdentifier()
+                    : getJWTTokenIdentifier(signedJWTInfo);
 
-            String jwtHeader = signedJWTInfo.getSignedJWT().getHeader().toString();
             if (StringUtils.isNotEmpty(jwtTokenIdentifier)) {
                 if (RevokedJWTDataHolder.isJWTTokenSignatureExistsInRevokedMap(jwtTokenIdentifier)) {
                     if (log.isDebugEnabled()) {
+                        String jwtHeader = signedJWTInfo.getSignedJWT().getHeader().toString();
                         log.debug("Token retrieved from the revoked jwt token map. Token: "
                                 + FilterUtils.getMaskedToken(jwtHeader));
+                        log.debug("Invalid JWT token. " + FilterUtils.getMaskedToken(jwtHeader));
                     }
-                    log.debug("Invalid JWT token. " + FilterUtils.getMaskedToken(jwtHeader));
                     throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
                             APISecurityConstants.API_AUTH_INVALID_CREDENTIALS, "Invalid JWT token");
                 }
 
             }
-            JWTValidationInfo validationInfo = getJwtValidationInfo(signedJWTInfo, jwtTokenIdentifier);
+            JWTValidationInfo validationInfo = getJwtValidationInfo(signedJWTInfo, jwtTokenIdentifier, tokenSignature,
+                    tokenCacheEntry);
             if (validationInfo != null) {
                 if (validationInfo.isValid()) {
                     // Validate subscriptions
@@ -521,92 +531,64 @@ public class JWTAuthenticator implements Authenticator {
         return api;
     }
 
-    private JWTValidationInfo getJwtValidationInfo(SignedJWTInfo signedJWTInfo, String jti)
-            throws APISecurityException {
-
-        String jwtHeader = signedJWTInfo.getSignedJWT().getHeader().toString();
-        JWTValidationInfo jwtValidationInfo = null;
-        if (isGatewayTokenCacheEnabled &&
-                !SignedJWTInfo.ValidationStatus.NOT_VALIDATED.equals(signedJWTInfo.getValidationStatus())) {
-            Object cacheToken = CacheProvider.getGatewayTokenCache().getIfPresent(jti);
-            if (cacheToken != null && (Boolean) cacheToken &&
-                    SignedJWTInfo.ValidationStatus.VALID.equals(signedJWTInfo.getValidationStatus())) {
-                if (CacheProvider.getGatewayKeyCache().getIfPresent(jti) != null) {
-                    JWTValidationInfo tempJWTValidationInfo =
-                            (JWTValidationInfo) CacheProvider.getGatewayKeyCache()
-                                    .getIfPresent(jti);
-                    checkTokenExpiration(jti, tempJWTValidationInfo);
-                    jwtValidationInfo = tempJWTValidationInfo;
-                }
-            } else if (SignedJWTInfo.ValidationStatus.INVALID.equals(signedJWTInfo.getValidationStatus()) &&
-                    CacheProvider.getInvalidTokenCache().getIfPresent(jti) != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Token retrieved from the invalid token cache. Token: "
-                            + FilterUtils.getMaskedToken(jwtHeader));
-                }
-                log.debug("Invalid JWT token. " + FilterUtils.getMaskedToken(jwtHeader));
-                if (CacheProvider.getGatewayKeyCache().getIfPresent(jti) != null) {
-                    jwtValidationInfo = (JWTValidationInfo) CacheProvider.getGatewayKeyCache().getIfPresent(jti);
-                } else {
-                    log.warn("Token retrieved from the invalid token cache. But the validation info not found "
-                            + "in the key cache for the Token: " + FilterUtils.getMaskedToken(jwtHeader));
-                    jwtValidationInfo = new JWTValidationInfo();
-                    jwtValidationInfo.setValidationCode(APISecurityConstants.API_AUTH_GENERAL_ERROR);
-                    jwtValidationInfo.setValid(false);
+    private JWTValidationInfo getJwtValidationInfo(SignedJWTInfo signedJWTInfo, String jti, String tokenSignature,
+                                                   TokenCacheEntry tokenCacheEntry) throws APISecurityException {
+
+        if (tokenCacheEntry != null) {
+            JWTValidationInfo jwtValidationInfo = tokenCacheEntry.getValidationInfo();
+            if (jwtValidationInfo.isValid()) {
+                if (isTokenExpired(tokenCacheEntry)) {
+                    CacheProvider.getGatewayTokenCache().invalidate(tokenSignature);
+                    CacheProvider.getGatewayJWTTokenCache().invalidate(jti);
+                    // The cached validation info is shared by concurrent requests, so it is not modified.
+                    JWTValidationInfo expiredValidationInfo = new JWTValidationInfo();
+                    expiredValidationInfo.setValid(false);
+                    expiredValidationInfo.setValidationCode(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS);
+                    return expiredValidationInfo;
                 }
+            } else if (log.isDebugEnabled()) {
+                String jwtHeader = signedJWTInfo.getSignedJWT().getHeader().toString();
+                log.debug("Token retrieved from the invalid token cache. Token: "
+                        + FilterUtils.getMaskedToken(jwtHeader));
             }
+            return jwtValidationInfo;
         }
-        if (jwtValidationInfo == null) {
-
-            try {
-                jwtValidationInfo = jwtValidator.validateJWTToken(signedJWTInfo);
-                signedJWTInfo.setValidationStatus(jwtValidationInfo.isValid() ?
-                        SignedJWTInfo.ValidationStatus.VALID : SignedJWTInfo.ValidationStatus.INVALID);
-                if (isGatewayTokenCacheEnabled) {
-                    // Add token to tenant token cache
-                    if (jwtValidationInfo.isValid()) {
-                        CacheProvider.getGatewayTokenCache().put(jti, true);
-                    } else {
-                        CacheProvider.getInvalidTokenCache().put(jti, true);
-                    }
-                    CacheProvider.getGatewayKeyCache().put(jti, jwtValidationInfo);
 
+        try {
+            JWTValidationInfo jwtValidationInfo = jwtValidator.validateJWTToken(signedJWTInfo);
+            signedJWTInfo.setValidationStatus(jwtValidationInfo.isValid() ?
+                    SignedJWTInfo.ValidationStatus.VALID : SignedJWTInfo.ValidationStatus.INVALID);
+            if (isGatewayTokenCacheEnabled) {
+                // Add token to the gateway token cache, along with the validation result. A valid token is not
+                // kept beyond its expiry.
+                TokenCacheEntry newCacheEntry = new TokenCacheEntry(signedJWTInfo, jti, jwtValidationInfo);
+                if (jwtValidationInfo.isValid()) {
+                    long timestampSkewMillis = FilterUtils.getTimeStampSkewInSeconds() * 1000L;
+                    CacheProvider.getGatewayTokenCache().put(tokenSignature, newCacheEntry,
+                            newCacheEntry.getExpiryTime() + timestampSkewMillis);
+                } else {
+                    CacheProvider.getGatewayTokenCache().put(tokenSignature, newCacheEntry);
                 }
-                return jwtValidationInfo;
-            } catch (EnforcerException e) {
-                log.error("JWT Validation failed", e);
-                throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
-                        APISecurityConstants.API_AUTH_GENERAL_ERROR,
-                        APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE);
             }
+            return jwtValidationInfo;
+        } catch (EnforcerException e) {
+            log.error("JWT Validation failed", e);
+            throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR,
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE);
         }
-        return jwtValidationInfo;
     }
 
     /**
-     * Check whether the jwt token is expired or not.
+     * Check whether the cached jwt token is expired or not, allowing the timestamp skew.
      *
-     * @param tokenIdentifier The token Identifier of JWT.
-     * @param payload         The payload of the JWT token
-     * @return
+     * @param tokenCacheEntry The cache entry of the JWT token
+     * @return true if the token is expired
      */
-    private JWTValidationInfo checkTokenExpiration(String tokenIdentifier, JWTValidationInfo payload) {
-
-        long timestampSkew = FilterUtils.getTimeStampSkewInSeconds();
+    private boolean isTokenExpired(TokenCacheEntry tokenCacheEntry) {
 
-        Date now = new Date();
-        Date exp = new Date(payload.getExpiryTime());
-        if (!DateUtils.isAfter(exp, now, timestampSkew)) {
-            if (isGatewayTokenCacheEnabled) {
-                CacheProvider.getGatewayTokenCache().invalidate(tokenIdentifier);
-                CacheProvider.getGatewayJWTTokenCache().invalidate(tokenIdentifier);
-                CacheProvider.getInvalidTokenCache().put(tokenIdentifier, true);
-            }
-            payload.setValid(false);
-            payload.setValidationCode(APISecurityConstants.API_AUTH_INVALID_CREDENTIALS);
-            return payload;
-        }
-        return payload;
+        long timestampSkewMillis = FilterUtils.getTimeStampSkewInSeconds() * 1000L;
+        return tokenCacheEntry.getExpiryTime() + timestampSkewMillis <= System.currentTimeMillis();
     }
 
     private String getJWTTokenIdentifier(SignedJWTInfo signedJWTInfo) {
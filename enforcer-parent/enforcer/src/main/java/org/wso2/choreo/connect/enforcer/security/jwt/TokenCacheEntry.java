@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt;
+
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+
+/**
+ * Entry of the gateway token cache, keyed by the signature of a JWT. It holds everything the JWT authenticator
+ * needs for a token seen before, so that a request with a cached token is served with a single cache lookup.
+ */
+public class TokenCacheEntry {
+    private final SignedJWTInfo signedJWTInfo;
+    private final String tokenIdentifier;
+    private final JWTValidationInfo validationInfo;
+    private final long expiryTime;
+
+    public TokenCacheEntry(SignedJWTInfo signedJWTInfo, String tokenIdentifier, JWTValidationInfo validationInfo) {
+        this.signedJWTInfo = signedJWTInfo;
+        this.tokenIdentifier = tokenIdentifier;
+        this.validationInfo = validationInfo;
+        this.expiryTime = validationInfo.getExpiryTime();
+    }
+
+    /**
+     * @return parsed JWT
+     */
+    public SignedJWTInfo getSignedJWTInfo() {
+        return signedJWTInfo;
+    }
+
+    /**
+     * @return JWT ID of the token, or its signature if the token does not have a JWT ID
+     */
+    public String getTokenIdentifier() {
+        return tokenIdentifier;
+    }
+
+    /**
+     * @return result of the token validation. It is marked as invalid once the token is found to be expired.
+     */
+    public JWTValidationInfo getValidationInfo() {
+        return validationInfo;
+    }
+
+    /**
+     * @return expiry time of the token in milliseconds
+     */
+    public long getExpiryTime() {
+        return expiryTime;
+    }
+
+    /**
+     * Check whether this entry belongs to the given token. Tokens are cached by their signature only.
+     *
+     * @param token raw JWT
+     * @return {@code true} if the entry is of the given token
+     */
+    public boolean isOf(String token) {
+        return signedJWTInfo.getToken().equals(token);
+    }
+}
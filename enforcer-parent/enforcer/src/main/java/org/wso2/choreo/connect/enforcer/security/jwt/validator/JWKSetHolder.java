@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsConstants;
+import org.wso2.choreo.connect.enforcer.metrics.MetricsManager;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.JWKSMetrics;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+import org.wso2.choreo.connect.enforcer.util.JWTUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Singleton which holds the JWKS of the token issuers, with a signature verifier created for each RSA key.
+ * <p>
+ * The JWKS of an endpoint is fetched when a token signed by one of its keys is validated for the first time, and
+ * it is refreshed periodically afterwards. Concurrent requests which need the JWKS while it is being fetched wait
+ * for the same fetch. A token with an unknown key ID triggers a refetch only if the JWKS was not fetched within the
+ * last {@link #MIN_REFETCH_INTERVAL_MILLIS}, so that tokens with arbitrary key IDs cannot flood the JWKS endpoint.
+ */
+public class JWKSetHolder {
+    private static final Logger log = LogManager.getLogger(JWKSetHolder.class);
+
+    static final long MIN_REFETCH_INTERVAL_MILLIS = 30000;
+    private static volatile JWKSetHolder instance;
+
+    private final Map<String, IssuerKeySet> keySets = new ConcurrentHashMap<>();
+    // HTTP clients are kept per protocol, so that the connections to the JWKS endpoints are reused.
+    private final Map<String, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+    private final JWKSFetcher fetcher;
+
+    private JWKSetHolder() {
+        this.fetcher = this::fetch;
+    }
+
+    JWKSetHolder(JWKSFetcher fetcher) {
+        this.fetcher = fetcher;
+    }
+
+    public static JWKSetHolder getInstance() {
+        if (instance == null) {
+            synchronized (JWKSetHolder.class) {
+                if (instance == null) {
+                    JWKSetHolder jwkSetHolder = new JWKSetHolder();
+                    jwkSetHolder.startRefreshTask(ConfigHolder.getInstance().getEnvVarConfig()
+                            .getJwksRefreshInterval());
+                    instance = jwkSetHolder;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the signature verifier of a key in the JWKS of an endpoint. The JWKS is fetched if it is not available,
+     * or if it does not have the key and it was not fetched recently.
+     *
+     * @param jwksUrl JWKS endpoint of the token issuer
+     * @param keyID   key ID of the token
+     * @return the signature verifier, or null if the JWKS does not have an RSA key with the given key ID
+     * @throws EnforcerException if the JWKS could not be fetched
+     */
+    public JWSVerifier getVerifier(String jwksUrl, String keyID) throws EnforcerException {
+        return getVerifier(jwksUrl, keyID, System.currentTimeMillis());
+    }
+
+    JWSVerifier getVerifier(String jwksUrl, String keyID, long currentTimeMillis) throws EnforcerException {
+        IssuerKeySet keySet = keySets.computeIfAbsent(jwksUrl, IssuerKeySet::new);
+        JWSVerifier verifier = keySet.verifiers.get(keyID);
+        if (verifier != null) {
+            return verifier;
+        }
+        CompletableFuture<Void> refresh = keySet.refresh(currentTimeMillis, false);
+        if (refresh == null) {
+            log.debug("Key ID {} is not found in the JWKS of {}, which was fetched recently.", keyID, jwksUrl);
+            if (JMXUtils.isJMXMetricsEnabled()) {
+                JWKSMetrics.getInstance().recordRateLimitedRefresh();
+            }
+            return null;
+        }
+        try {
+            refresh.join();
+        } catch (CompletionException e) {
+            throw new EnforcerException("Error while retrieving the JWKS from " + jwksUrl, e.getCause());
+        }
+        return keySet.verifiers.get(keyID);
+    }
+
+    /**
+     * Drop the JWKS of the endpoints which are no longer used by any token issuer, so that they are not refreshed.
+     *
+     * @param jwksUrls JWKS endpoints of the current token issuers
+     */
+    public void retainKeySets(Collection<String> jwksUrls) {
+        keySets.keySet().retainAll(jwksUrls);
+    }
+
+    /**
+     * Refresh the JWKS of all the endpoints which were fetched before.
+     */
+    void refreshAll() {
+        for (IssuerKeySet keySet : keySets.values()) {
+            try {
+                keySet.refresh(System.currentTimeMillis(), true).join();
+            } catch (CompletionException e) {
+                log.error("Error while refreshing the JWKS from {}", keySet.jwksUrl, e.getCause());
+            }
+        }
+    }
+
+    private void startRefreshTask(long refreshIntervalSeconds) {
+        ScheduledExecutorService refreshService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshService.scheduleWithFixedDelay(this::refreshAll, refreshIntervalSeconds, refreshIntervalSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    private String fetch(String jwksUrl) throws IOException {
+        String protocol = new URL(jwksUrl).getProtocol();
+        CloseableHttpClient httpClient = httpClients.computeIfAbsent(protocol,
+                key -> (CloseableHttpClient) FilterUtils.getHttpClient(key));
+        return JWTUtils.retrieveJWKSConfiguration(httpClient, jwksUrl);
+    }
+
+    /**
+     * Fetches the JWKS from an endpoint.
+     */
+    interface JWKSFetcher {
+        String fetch(String jwksUrl) throws IOException;
+    }
+
+    /**
+     * JWKS of a single endpoint.
+     */
+    private class IssuerKeySet {
+        private final String jwksUrl;
+        // Replaced as a whole when the JWKS is refreshed, so that the keys removed from the JWKS are dropped.
+        private volatile Map<String, JWSVerifier> verifiers = Collections.emptyMap();
+        // Guarded by this
+        private long lastFetchTime;
+        private CompletableFuture<Void> inFlightRefresh;
+
+        private IssuerKeySet(String jwksUrl) {
+            this.jwksUrl = jwksUrl;
+        }
+
+        /**
+         * Fetch the JWKS in the calling thread, or return the fetch in progress if there is one.
+         *
+         * @param currentTimeMillis current time in milliseconds
+         * @param force             whether to fetch even if the JWKS was fetched recently
+         * @return the fetch, or null if the JWKS was fetched recently and the fetch is not forced
+         */
+        private CompletableFuture<Void> refresh(long currentTimeMillis, boolean force) {
+            CompletableFuture<Void> refresh;
+            synchronized (this) {
+                if (inFlightRefresh != null) {
+                    return inFlightRefresh;
+                }
+                // A failed fetch is also not retried until the interval passes.
+                if (!force && lastFetchTime > 0 && currentTimeMillis - lastFetchTime < MIN_REFETCH_INTERVAL_MILLIS) {
+                    return null;
+                }
+                refresh = new CompletableFuture<>();
+                inFlightRefresh = refresh;
+                lastFetchTime = currentTimeMillis;
+            }
+            try {
+                load();
+                refresh.complete(null);
+            } catch (IOException | ParseException | JOSEException | RuntimeException e) {
+                refresh.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    inFlightRefresh = null;
+                }
+            }
+            return refresh;
+        }
+
+        private void load() throws IOException, ParseException, JOSEException {
+            long startTime = System.nanoTime();
+            boolean failed = true;
+            try {
+                String jwksInfo = fetcher.fetch(jwksUrl);
+                if (jwksInfo == null) {
+                    throw new IOException("JWKS is not available at " + jwksUrl);
+                }
+                Map<String, JWSVerifier> newVerifiers = new HashMap<>();
+                for (JWK jwk : JWKSet.parse(jwksInfo).getKeys()) {
+                    if (jwk instanceof RSAKey && jwk.getKeyID() != null) {
+                        newVerifiers.put(jwk.getKeyID(), new RSASSAVerifier((RSAKey) jwk));
+                    }
+                }
+                verifiers = newVerifiers;
+                failed = false;
+                log.debug("Loaded {} RSA keys from the JWKS of {}", newVerifiers.size(), jwksUrl);
+            } finally {
+                long refreshTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                if (MetricsManager.isMetricsEnabled()) {
+                    MetricsManager.getInstance().trackMetric(MetricsConstants.JWKS_REFRESH_LATENCY, refreshTime);
+                }
+                if (JMXUtils.isJMXMetricsEnabled()) {
+                    JWKSMetrics.getInstance().recordRefresh(refreshTime, failed);
+                }
+            }
+        }
+    }
+}
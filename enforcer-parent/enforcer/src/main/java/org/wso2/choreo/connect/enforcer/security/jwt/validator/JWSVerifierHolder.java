@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
+
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Singleton which holds the signature verifiers created for the certificates of the token issuers and the
+ * certificates in the JWT truststore, so that a verifier is created only once per certificate.
+ * <p>
+ * The verifiers are held by the certificate itself, not by the issuer or the certificate alias. A request still
+ * holding a replaced issuer, or looking up a replaced truststore, gets the verifier of the certificate it has, and
+ * never serves that verifier for the new certificate. The verifiers are dropped when the token issuers or the
+ * truststore are updated, only to release the verifiers of the replaced certificates.
+ * <p>
+ * The verifiers of the keys in a JWKS are held by {@link JWKSetHolder}.
+ */
+public class JWSVerifierHolder {
+    private static final Logger log = LogManager.getLogger(JWSVerifierHolder.class);
+    private static final JWSVerifierHolder instance = new JWSVerifierHolder();
+
+    private final Map<Certificate, JWSVerifier> verifiers = new ConcurrentHashMap<>();
+
+    JWSVerifierHolder() {
+    }
+
+    public static JWSVerifierHolder getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the signature verifier of the certificate of a token issuer.
+     *
+     * @param tokenIssuer token issuer having a certificate
+     * @return the signature verifier
+     */
+    public JWSVerifier getVerifier(ExtendedTokenIssuerDto tokenIssuer) {
+        return getVerifier(tokenIssuer.getCertificate());
+    }
+
+    /**
+     * Get the signature verifier of a certificate in the JWT truststore.
+     *
+     * @param alias certificate alias
+     * @return the signature verifier
+     * @throws EnforcerException if the truststore does not have a certificate for the alias
+     */
+    public JWSVerifier getVerifier(String alias) throws EnforcerException {
+        return getVerifier(ConfigHolder.getInstance().getTrustStoreForJWT(), alias);
+    }
+
+    JWSVerifier getVerifier(KeyStore trustStore, String alias) throws EnforcerException {
+        Certificate publicCert;
+        try {
+            publicCert = trustStore.getCertificate(alias);
+        } catch (KeyStoreException e) {
+            throw new EnforcerException("Error while retrieving the certificate for JWT verification.", e);
+        }
+        if (publicCert == null) {
+            log.error("Couldn't find a public certificate to verify the signature");
+            throw new EnforcerException("Could not find the certificate for the token service.");
+        }
+        return getVerifier(publicCert);
+    }
+
+    /**
+     * Drop all the verifiers. This is called when the token issuers or the JWT truststore are updated.
+     */
+    public void invalidateAll() {
+        verifiers.clear();
+        log.debug("Cleared the JWS verifiers of the token issuers");
+    }
+
+    int size() {
+        return verifiers.size();
+    }
+
+    private JWSVerifier getVerifier(Certificate certificate) {
+        return verifiers.computeIfAbsent(certificate,
+                cert -> new RSASSAVerifier((RSAPublicKey) cert.getPublicKey()));
+    }
+}
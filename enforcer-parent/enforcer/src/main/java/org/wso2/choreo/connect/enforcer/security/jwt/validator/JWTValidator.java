@@ -18,9 +18,7 @@
 
 package org.wso2.choreo.connect.enforcer.security.jwt.validator;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.util.DateUtils;
@@ -37,8 +35,6 @@ import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
 import org.wso2.choreo.connect.enforcer.util.JWTUtils;
 
-import java.io.IOException;
-import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Date;
@@ -51,7 +47,6 @@ import java.util.Map;
  */
 public class JWTValidator {
     private static final Logger logger = LogManager.getLogger(JWTValidator.class);
-    private JWKSet jwkSet;
 
     public JWTValidator() {
     }
@@ -108,41 +103,27 @@ public class JWTValidator {
 
     protected boolean validateSignature(SignedJWT signedJWT, ExtendedTokenIssuerDto tokenIssuer)
             throws EnforcerException {
-        try {
-            String certificateAlias = tokenIssuer.getCertificateAlias();
-            String keyID = signedJWT.getHeader().getKeyID();
-            if (StringUtils.isNotEmpty(keyID)) {
-                if (tokenIssuer.getJwksConfigurationDTO().isEnabled() && StringUtils
-                        .isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
-                    // Check JWKSet Available in Cache
-                    if (jwkSet == null) {
-                        jwkSet = retrieveJWKSet(tokenIssuer);
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) == null) {
-                        jwkSet = retrieveJWKSet(tokenIssuer);
-                    }
-                    if (jwkSet.getKeyByKeyId(keyID) instanceof RSAKey) {
-                        RSAKey keyByKeyId = (RSAKey) jwkSet.getKeyByKeyId(keyID);
-                        RSAPublicKey rsaPublicKey = keyByKeyId.toRSAPublicKey();
-                        if (rsaPublicKey != null) {
-                            return JWTUtils.verifyTokenSignature(signedJWT, rsaPublicKey);
-                        }
-                    } else {
-                        throw new EnforcerException("Key Algorithm not supported");
-                    }
-                } else if (tokenIssuer.getCertificate() != null) {
-                    logger.debug("Retrieve certificate from Token issuer and validating");
-                    RSAPublicKey rsaPublicKey = (RSAPublicKey) tokenIssuer.getCertificate().getPublicKey();
-                    return JWTUtils.verifyTokenSignature(signedJWT, rsaPublicKey);
-                } else {
-                    //TODO: (VirajSalaka) Come up with a fix
-                    return JWTUtils.verifyTokenSignature(signedJWT, keyID);
+        String certificateAlias = tokenIssuer.getCertificateAlias();
+        String keyID = signedJWT.getHeader().getKeyID();
+        if (StringUtils.isNotEmpty(keyID)) {
+            if (tokenIssuer.getJwksConfigurationDTO().isEnabled() && StringUtils
+                    .isNotEmpty(tokenIssuer.getJwksConfigurationDTO().getUrl())) {
+                JWSVerifier jwsVerifier = JWKSetHolder.getInstance()
+                        .getVerifier(tokenIssuer.getJwksConfigurationDTO().getUrl(), keyID);
+                if (jwsVerifier != null) {
+                    return JWTUtils.verifyTokenSignature(signedJWT, jwsVerifier);
                 }
+                throw new EnforcerException("Key Algorithm not supported");
+            } else if (tokenIssuer.getCertificate() != null) {
+                logger.debug("Retrieve certificate from Token issuer and validating");
+                return JWTUtils.verifyTokenSignature(signedJWT, JWSVerifierHolder.getInstance()
+                        .getVerifier(tokenIssuer));
+            } else {
+                //TODO: (VirajSalaka) Come up with a fix
+                return JWTUtils.verifyTokenSignature(signedJWT, keyID);
             }
-            return JWTUtils.verifyTokenSignature(signedJWT, certificateAlias);
-        } catch (ParseException | JOSEException | IOException e) {
-            throw new EnforcerException("JWT Signature verification failed", e);
         }
+        return JWTUtils.verifyTokenSignature(signedJWT, certificateAlias);
     }
 
     protected boolean validateTokenExpiry(JWTClaimsSet jwtClaimsSet) {
@@ -153,12 +134,6 @@ public class JWTValidator {
         return exp == null || DateUtils.isAfter(exp, now, timestampSkew);
     }
 
-    private JWKSet retrieveJWKSet(ExtendedTokenIssuerDto tokenIssuer) throws IOException, ParseException {
-        String jwksInfo = JWTUtils.retrieveJWKSConfiguration(tokenIssuer.getJwksConfigurationDTO().getUrl());
-        jwkSet = JWKSet.parse(jwksInfo);
-        return jwkSet;
-    }
-
     private void createJWTValidationInfoFromJWT(JWTValidationInfo jwtValidationInfo, JWTClaimsSet jwtClaimsSet)
             throws ParseException {
         jwtValidationInfo.setIssuer(jwtClaimsSet.getIssuer());
@@ -20,21 +20,37 @@ package org.wso2.choreo.connect.enforcer.security.jwt.validator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.discovery.RevokedTokenDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.RevokedTokenMetrics;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
- *  Singleton which stores the revoked JWT map.
+ *  Singleton which stores the revoked JWTs. Revoked tokens are purged periodically once they have expired.
  */
 public class RevokedJWTDataHolder {
 
     private static final Logger log = LogManager.getLogger(RevokedJWTDataHolder.class);
-    private static Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final long PURGE_INTERVAL_MINUTES = 5;
+    private static final RevokedTokenStore revokedTokenStore = new RevokedTokenStore(Boolean.parseBoolean(
+            ConfigHolder.getInstance().getEnvVarConfig().getRevokedTokenBloomFilterEnabled()));
     private static RevokedJWTDataHolder instance = new RevokedJWTDataHolder();
 
     public void init() {
+        ScheduledExecutorService purgeService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "revoked-token-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        purgeService.scheduleWithFixedDelay(this::purgeExpiredTokens, PURGE_INTERVAL_MINUTES,
+                PURGE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        if (JMXUtils.isJMXMetricsEnabled()) {
+            RevokedTokenMetrics.getInstance();
+        }
         RevokedTokenDiscoveryClient revokedTokenDs = RevokedTokenDiscoveryClient.getInstance();
         revokedTokenDs.watchRevokedTokens();
     }
@@ -42,12 +58,12 @@ public class RevokedJWTDataHolder {
     /**
      * Adds a given key,value pair to the revoke map.
      * @param key key to be added.
-     * @param value value to be added.
+     * @param value expiry time of the token.
      */
     public void addRevokedJWTToMap(String key, Long value) {
         if (key != null && value != null) {
             log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
-            revokedJWTMap.put(key, value);
+            revokedTokenStore.put(key, value);
         }
     }
 
@@ -57,7 +73,7 @@ public class RevokedJWTDataHolder {
      * @return true if it exists and false otherwise.
      */
     public static boolean isJWTTokenSignatureExistsInRevokedMap(String jwtSignature) {
-        return revokedJWTMap.containsKey(jwtSignature);
+        return revokedTokenStore.contains(jwtSignature);
     }
 
     private RevokedJWTDataHolder() {
@@ -65,11 +81,11 @@ public class RevokedJWTDataHolder {
     }
 
     /**
-     * Fetches the revoke map.
-     * @return
+     * Fetches the store of the revoked tokens.
+     * @return revoked token store
      */
-    public Map<String, Long> getRevokedJWTMap() {
-        return revokedJWTMap;
+    public RevokedTokenStore getRevokedTokenStore() {
+        return revokedTokenStore;
     }
 
     /**
@@ -79,4 +95,15 @@ public class RevokedJWTDataHolder {
     public static RevokedJWTDataHolder getInstance() {
         return instance;
     }
+
+    private void purgeExpiredTokens() {
+        try {
+            int purged = revokedTokenStore.purge(System.currentTimeMillis());
+            if (purged > 0) {
+                log.debug("Purged {} expired tokens from the revoked token store", purged);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while purging the expired revoked tokens", e);
+        }
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifiers (JTIs or signatures) of the revoked tokens, with the expiry times of the tokens.
+ * <p>
+ * An identifier is kept as a 128 bit hash instead of the string itself, which is a few hundred characters for a
+ * signature. The hash function is seeded randomly, so that an identifier colliding with a revoked one cannot be
+ * crafted. A collision could only make a valid token to be rejected. An entry is purged once its token has expired
+ * beyond the allowed clock skew, as such a token is rejected regardless of the revocation. Tokens are accepted
+ * until their expiry time plus the clock skew, so an entry purged any earlier would make a revoked token valid again.
+ * <p>
+ * When enabled, a Bloom filter in front of the map answers most of the lookups of tokens which are not revoked.
+ * Entries cannot be removed from a Bloom filter, so it is rebuilt after the entries are purged, and when the number
+ * of insertions exceeds its capacity.
+ * <p>
+ * The hashes cannot be listed as token identifiers, so the identifiers of the most recently revoked tokens are kept
+ * separately, up to {@link #MAX_LISTED_TOKENS}, for the admin listing. Revocation checks do not use them.
+ */
+public class RevokedTokenStore {
+    static final int MAX_LISTED_TOKENS = 1000;
+    private static final int MIN_BLOOM_FILTER_CAPACITY = 10000;
+    private static final double BLOOM_FILTER_FPP = 0.01;
+    // Approximate heap size of an entry: map node, hash code with its byte array, and the boxed expiry time.
+    private static final long ENTRY_SIZE_BYTES = 112;
+    // Expiry times below this value are in seconds, since it is in 1973 as milliseconds.
+    private static final long MAX_EXPIRY_TIME_SECONDS = 100_000_000_000L;
+    private static final Funnel<HashCode> HASH_CODE_FUNNEL = (hashCode, sink) -> sink.putLong(hashCode.asLong());
+
+    private final HashFunction hashFunction = Hashing.murmur3_128(new SecureRandom().nextInt());
+    private final Map<HashCode, Long> revokedTokens = new ConcurrentHashMap<>();
+    // Guarded by this. Insertion ordered, the eldest entry is removed beyond MAX_LISTED_TOKENS.
+    private final Map<String, Long> listedTokens = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_LISTED_TOKENS;
+        }
+    };
+    private final boolean bloomFilterEnabled;
+    private final long clockSkewMillis;
+    private final AtomicLong purgedCount = new AtomicLong();
+    private final AtomicLong bloomFilterFalsePositiveCount = new AtomicLong();
+    // Replaced while holding the lock of the store. Lookups read it without locking.
+    private volatile BloomFilter<HashCode> bloomFilter;
+    private volatile long bloomFilterBits;
+    // Guarded by this
+    private long bloomFilterCapacity;
+    private long bloomFilterInsertions;
+
+    public RevokedTokenStore(boolean bloomFilterEnabled) {
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.clockSkewMillis = TimeUnit.SECONDS.toMillis(FilterUtils.getTimeStampSkewInSeconds());
+        if (bloomFilterEnabled) {
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * Add a revoked token.
+     *
+     * @param tokenIdentifier JTI or signature of the token
+     * @param expiryTime      expiry time of the token in milliseconds, or in seconds. The token is never purged if
+     *                        this is not positive.
+     */
+    public void put(String tokenIdentifier, long expiryTime) {
+        HashCode key = hash(tokenIdentifier);
+        long expiryTimeMillis = expiryTime > 0 && expiryTime < MAX_EXPIRY_TIME_SECONDS ? expiryTime * 1000
+                : expiryTime;
+        synchronized (this) {
+            // The map is updated before the filter, so that a lookup which passes the filter finds the entry.
+            revokedTokens.put(key, expiryTimeMillis);
+            listedTokens.put(tokenIdentifier, expiryTimeMillis);
+            if (bloomFilterEnabled) {
+                bloomFilter.put(key);
+                bloomFilterInsertions++;
+                if (bloomFilterInsertions > bloomFilterCapacity) {
+                    rebuildBloomFilter();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a token is revoked.
+     *
+     * @param tokenIdentifier JTI or signature of the token
+     * @return {@code true} if the token is revoked
+     */
+    public boolean contains(String tokenIdentifier) {
+        if (revokedTokens.isEmpty()) {
+            return false;
+        }
+        HashCode key = hash(tokenIdentifier);
+        BloomFilter<HashCode> filter = bloomFilter;
+        if (filter != null && !filter.mightContain(key)) {
+            return false;
+        }
+        boolean revoked = revokedTokens.containsKey(key);
+        if (!revoked && filter != null) {
+            bloomFilterFalsePositiveCount.incrementAndGet();
+        }
+        return revoked;
+    }
+
+    /**
+     * Get the expiry time of a revoked token.
+     *
+     * @param tokenIdentifier JTI or signature of the token
+     * @return expiry time in milliseconds, or null if the token is not revoked
+     */
+    public Long getExpiryTime(String tokenIdentifier) {
+        return revokedTokens.get(hash(tokenIdentifier));
+    }
+
+    /**
+     * Get the most recently revoked tokens, at most {@link #MAX_LISTED_TOKENS} of them. Older revoked tokens are
+     * still rejected, but are not listed.
+     *
+     * @return expiry times in milliseconds, by the token identifiers, from the least recently revoked
+     */
+    public synchronized Map<String, Long> getRecentlyRevokedTokens() {
+        return new LinkedHashMap<>(listedTokens);
+    }
+
+    /**
+     * Remove the tokens which have expired beyond the allowed clock skew.
+     *
+     * @param currentTimeMillis current time in milliseconds
+     * @return number of tokens removed
+     */
+    public synchronized int purge(long currentTimeMillis) {
+        int purged = 0;
+        Iterator<Long> expiryTimes = revokedTokens.values().iterator();
+        while (expiryTimes.hasNext()) {
+            long expiryTime = expiryTimes.next();
+            if (expiryTime > 0 && expiryTime + clockSkewMillis < currentTimeMillis) {
+                expiryTimes.remove();
+                purged++;
+            }
+        }
+        listedTokens.values().removeIf(expiryTime -> expiryTime > 0
+                && expiryTime + clockSkewMillis < currentTimeMillis);
+        if (purged > 0) {
+            purgedCount.addAndGet(purged);
+            if (bloomFilterEnabled) {
+                rebuildBloomFilter();
+            }
+        }
+        return purged;
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    public boolean isBloomFilterEnabled() {
+        return bloomFilterEnabled;
+    }
+
+    public long getPurgedCount() {
+        return purgedCount.get();
+    }
+
+    public long getBloomFilterFalsePositiveCount() {
+        return bloomFilterFalsePositiveCount.get();
+    }
+
+    /**
+     * Get the approximate heap memory used by the revoked tokens and the Bloom filter.
+     *
+     * @return memory in bytes
+     */
+    public long getEstimatedMemoryBytes() {
+        return revokedTokens.size() * ENTRY_SIZE_BYTES + bloomFilterBits / Byte.SIZE;
+    }
+
+    private HashCode hash(String tokenIdentifier) {
+        return hashFunction.hashString(tokenIdentifier, StandardCharsets.UTF_8);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        long capacity = Math.max(MIN_BLOOM_FILTER_CAPACITY, 2L * revokedTokens.size());
+        BloomFilter<HashCode> filter = BloomFilter.create(HASH_CODE_FUNNEL, capacity, BLOOM_FILTER_FPP);
+        for (HashCode key : revokedTokens.keySet()) {
+            filter.put(key);
+        }
+        bloomFilterCapacity = capacity;
+        bloomFilterInsertions = revokedTokens.size();
+        // Optimal number of bits for the capacity and the false positive probability, as used by the filter.
+        bloomFilterBits = (long) (-capacity * Math.log(BLOOM_FILTER_FPP) / (Math.log(2) * Math.log(2)));
+        bloomFilter = filter;
+    }
+}
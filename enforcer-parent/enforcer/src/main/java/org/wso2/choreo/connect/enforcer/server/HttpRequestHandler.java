@@ -36,6 +36,8 @@ import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.AdapterConstants;
 import org.wso2.choreo.connect.enforcer.constants.HttpConstants;
 import org.wso2.choreo.connect.enforcer.graphql.GraphQLPayloadUtils;
+import org.wso2.choreo.connect.enforcer.graphql.GraphQLRequestPayload;
+import org.wso2.choreo.connect.enforcer.graphql.PersistedQueryNotFoundException;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
 import java.util.ArrayList;
@@ -110,12 +112,24 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
         }
         ResourceConfig resourceConfig = null;
         ArrayList<ResourceConfig> resourceConfigs = null;
+        String persistedQueryHash = null;
         boolean isGraphQLAPI = api.getAPIConfig().getApiType().equals(APIConstants.ApiType.GRAPHQL);
         if (isGraphQLAPI && !HttpConstants.OPTIONS.equals(method)) {
             // need to decode the payload if request is graphql and a non option call.
             try {
-                requestPayload = GraphQLPayloadUtils.getGQLRequestPayload(requestPayload, headers);
+                GraphQLRequestPayload gqlRequestPayload = GraphQLPayloadUtils.getGQLRequestPayload(api,
+                        requestPayload, headers);
+                requestPayload = gqlRequestPayload.getQuery();
+                persistedQueryHash = gqlRequestPayload.getPersistedQueryHash();
                 resourceConfigs = GraphQLPayloadUtils.buildGQLRequestContext(api, requestPayload);
+            } catch (PersistedQueryNotFoundException exception) {
+                logger.debug("Persisted query is not found for the API {}", api.getAPIConfig().getName());
+                RequestContext requestContext = new RequestContext.Builder(requestPath).requestMethod(method)
+                        .matchedAPI(api.getAPIConfig()).headers(headers).requestID(requestID).address(address)
+                        .prodClusterHeader(prodCluster).sandClusterHeader(sandCluster).certificate(certificate)
+                        .requestTimeStamp(requestTimeInMillis).requestPayload(requestPayload).build();
+                GraphQLPayloadUtils.preparePersistedQueryNotFoundResponse(requestContext);
+                return requestContext;
             } catch (EnforcerException exception) {
                 logger.error("Error while processing the graphql api request for {}",
                         api.getAPIConfig().getName(),
@@ -135,16 +149,21 @@ public class HttpRequestHandler implements RequestHandler<CheckRequest, Response
                 return requestContext;
             }
         } else if (!isGraphQLAPI) {
-            resourceConfig = APIFactory.getInstance().getMatchedResource(api, pathTemplate, method);
+            resourceConfig = api.getMatchedResource(pathTemplate, method);
             if (resourceConfig != null) {
                 resourceConfigs = new ArrayList<>();
                 resourceConfigs.add(resourceConfig);
             }
         }
-        return new RequestContext.Builder(requestPath).matchedResourceConfigs(resourceConfigs).requestMethod(method)
-                .certificate(certificate).matchedAPI(api.getAPIConfig()).headers(headers).requestID(requestID)
-                .address(address).prodClusterHeader(prodCluster).sandClusterHeader(sandCluster)
-                .requestTimeStamp(requestTimeInMillis).pathTemplate(pathTemplate).requestPayload(requestPayload)
-                .build();
+        RequestContext requestContext = new RequestContext.Builder(requestPath)
+                .matchedResourceConfigs(resourceConfigs).requestMethod(method).certificate(certificate)
+                .matchedAPI(api.getAPIConfig()).headers(headers).requestID(requestID).address(address)
+                .prodClusterHeader(prodCluster).sandClusterHeader(sandCluster).requestTimeStamp(requestTimeInMillis)
+                .pathTemplate(pathTemplate).requestPayload(requestPayload).build();
+        if (persistedQueryHash != null) {
+            // The query is persisted by the API once the request is allowed.
+            requestContext.getProperties().put(APIConstants.GRAPHQL_PERSISTED_QUERY_HASH, persistedQueryHash);
+        }
+        return requestContext;
     }
 }
@@ -35,6 +35,7 @@ import org.wso2.choreo.connect.enforcer.tracing.TracingSpan;
 import org.wso2.choreo.connect.enforcer.tracing.TracingTracer;
 import org.wso2.choreo.connect.enforcer.tracing.Utils;
 import org.wso2.choreo.connect.enforcer.websocket.MetadataConstants;
+import org.wso2.choreo.connect.enforcer.websocket.WebSocketSessionContext;
 import org.wso2.choreo.connect.enforcer.websocket.WebSocketThrottleResponse;
 
 import java.net.URI;
@@ -42,10 +43,13 @@ import java.net.URISyntaxException;
 import java.util.Map;
 
 /**
- * WebSocketHandler handles requests coming through websocket frame service.
+ * WebSocketHandler handles requests coming through websocket frame service. A handler serves the frames of a single
+ * frame stream, which are received sequentially.
  */
 public class WebSocketHandler implements RequestHandler<WebSocketFrameRequest, WebSocketThrottleResponse> {
     private static final Logger logger = LogManager.getLogger(WebSocketHandler.class);
+    // Context of the connection of the stream, built from the first frame and reused for the rest of the frames.
+    private WebSocketSessionContext sessionContext;
 
     /**
      *
@@ -87,12 +91,39 @@ public class WebSocketHandler implements RequestHandler<WebSocketFrameRequest, W
         }
     }
 
+    /**
+     * Remove the context of the connection, once the stream is closed.
+     */
+    public void closeSession() {
+        sessionContext = null;
+    }
+
     /**
      * @param api - Matched WebSocket API
      * @param webSocketFrameRequest - WebSocketFrameRequest received from WebSocketFrameRequest
      * @return RequestContext - Build RequestContext by populating relevant fields from api and webSocketFrameRequest
      */
     private RequestContext buildRequestContext(WebSocketAPI api, WebSocketFrameRequest webSocketFrameRequest) {
+        Map<String, String> extAuthMetadata = webSocketFrameRequest.getMetadata().getExtAuthzMetadataMap();
+        String streamId = extAuthMetadata.get(MetadataConstants.GRPC_STREAM_ID);
+        WebSocketSessionContext session = sessionContext;
+        if (session == null || !StringUtils.equals(session.getStreamId(), streamId)) {
+            session = buildSessionContext(webSocketFrameRequest);
+            sessionContext = session;
+        }
+
+        // Extracting mgw_wasm_websocket filter metadata
+        int frameLength = webSocketFrameRequest.getFrameLength();
+        WebSocketFrameContext webSocketFrameContext = new WebSocketFrameContext(streamId, frameLength,
+                session.getRemoteIp());
+
+        return new RequestContext.Builder(session.getApiBasePath())
+                .authenticationContext(session.getAuthenticationContext())
+                .webSocketFrameContext(webSocketFrameContext).matchedAPI(api.getAPIConfig())
+                .requestID(session.getRequestId()).address(session.getClientIp(), session.getClientIpAddress()).build();
+    }
+
+    private WebSocketSessionContext buildSessionContext(WebSocketFrameRequest webSocketFrameRequest) {
         Map<String, String> extAuthMetadata = webSocketFrameRequest.getMetadata().getExtAuthzMetadataMap();
         // Extracting ext_authz metadata from WebSocketFrameRequest
         String apiName = extAuthMetadata.get(APIConstants.GW_API_NAME_PARAM);
@@ -122,13 +153,8 @@ public class WebSocketHandler implements RequestHandler<WebSocketFrameRequest, W
         String productProvider = extAuthMetadata.get(MetadataConstants.PRODUCT_PROVIDER);
         String apiPublisher = extAuthMetadata.get(MetadataConstants.API_PUBLISHER);
         String requestId = extAuthMetadata.get(MetadataConstants.REQUEST_ID);
-
-        // Extracting mgw_wasm_websocket filter metadata
-        int frameLength = webSocketFrameRequest.getFrameLength();
-        String remoteIp = webSocketFrameRequest.getRemoteIp();
         String streamId = extAuthMetadata.get(MetadataConstants.GRPC_STREAM_ID);
-
-        WebSocketFrameContext webSocketFrameContext = new WebSocketFrameContext(streamId, frameLength, remoteIp);
+        String remoteIp = webSocketFrameRequest.getRemoteIp();
 
         AuthenticationContext authenticationContext = new AuthenticationContext();
         authenticationContext.setApiName(apiName);
@@ -152,9 +178,8 @@ public class WebSocketHandler implements RequestHandler<WebSocketFrameRequest, W
         authenticationContext.setProductProvider(productProvider);
         authenticationContext.setApiPublisher(apiPublisher);
 
-        return new RequestContext.Builder(apiBasePath).authenticationContext(authenticationContext).
-                webSocketFrameContext(webSocketFrameContext).matchedAPI(api.getAPIConfig())
-                .requestID(requestId).address(extractIpAddress(remoteIp)).build();
+        return new WebSocketSessionContext(streamId, apiBasePath, requestId, remoteIp, extractIpAddress(remoteIp),
+                authenticationContext);
     }
 
     private String extractIpAddress(String remoteIpStringWithPort) {
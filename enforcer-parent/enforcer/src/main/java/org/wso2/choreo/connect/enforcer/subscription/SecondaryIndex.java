@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.subscription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Secondary index of the entities of the subscription data store, which maps an attribute of the entities (ex:
+ * the API UUID of subscriptions) to the entities having that attribute value.
+ * <p>
+ * The list of entities of an index key is immutable, and it is replaced atomically when an entity is added or
+ * removed, so that readers never observe a partially updated list. Entities for which the index key is null are
+ * not indexed.
+ *
+ * @param <T> type of the indexed entity
+ */
+class SecondaryIndex<T> {
+    private final Function<T, String> indexKeyFunction;
+    private final Function<T, Object> primaryKeyFunction;
+    private final Map<String, List<T>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Build the index of the given entities.
+     *
+     * @param indexKeyFunction   function returning the index key of an entity
+     * @param primaryKeyFunction function returning the key which the entity is stored against in the data store
+     * @param entities           entities to be indexed
+     */
+    SecondaryIndex(Function<T, String> indexKeyFunction, Function<T, Object> primaryKeyFunction,
+                   Collection<T> entities) {
+        this.indexKeyFunction = indexKeyFunction;
+        this.primaryKeyFunction = primaryKeyFunction;
+        Map<String, List<T>> groupedEntities = new ConcurrentHashMap<>();
+        for (T entity : entities) {
+            String indexKey = indexKeyFunction.apply(entity);
+            if (indexKey != null) {
+                groupedEntities.computeIfAbsent(indexKey, k -> new ArrayList<>()).add(entity);
+            }
+        }
+        groupedEntities.forEach((indexKey, list) -> entries.put(indexKey, Collections.unmodifiableList(list)));
+    }
+
+    /**
+     * Get the entities of an index key.
+     *
+     * @param indexKey index key
+     * @return immutable list of the entities, which is empty if there are no entities for the key
+     */
+    List<T> get(String indexKey) {
+        if (indexKey == null) {
+            return Collections.emptyList();
+        }
+        return entries.getOrDefault(indexKey, Collections.emptyList());
+    }
+
+    /**
+     * Update the index after an entity is added to the data store.
+     *
+     * @param previous entity replaced by the new entity in the data store, or null if there was no such entity
+     * @param entity   added entity
+     */
+    void update(T previous, T entity) {
+        if (previous != null) {
+            remove(previous);
+        }
+        String indexKey = indexKeyFunction.apply(entity);
+        if (indexKey == null) {
+            return;
+        }
+        Object primaryKey = primaryKeyFunction.apply(entity);
+        entries.compute(indexKey, (k, list) -> {
+            List<T> newList = new ArrayList<>();
+            if (list != null) {
+                for (T indexed : list) {
+                    if (!Objects.equals(primaryKeyFunction.apply(indexed), primaryKey)) {
+                        newList.add(indexed);
+                    }
+                }
+            }
+            newList.add(entity);
+            return Collections.unmodifiableList(newList);
+        });
+    }
+
+    /**
+     * Update the index after an entity is removed from the data store.
+     *
+     * @param entity removed entity
+     */
+    void remove(T entity) {
+        String indexKey = indexKeyFunction.apply(entity);
+        if (indexKey == null) {
+            return;
+        }
+        Object primaryKey = primaryKeyFunction.apply(entity);
+        entries.computeIfPresent(indexKey, (k, list) -> {
+            List<T> newList = new ArrayList<>(list.size());
+            for (T indexed : list) {
+                if (!Objects.equals(primaryKeyFunction.apply(indexed), primaryKey)) {
+                    newList.add(indexed);
+                }
+            }
+            // Returning null removes the index key.
+            return newList.isEmpty() ? null : Collections.unmodifiableList(newList);
+        });
+    }
+}
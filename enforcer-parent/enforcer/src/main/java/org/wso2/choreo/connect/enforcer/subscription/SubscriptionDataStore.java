@@ -34,6 +34,14 @@ import java.util.List;
  */
 public interface SubscriptionDataStore {
 
+    /**
+     * Gets the generation of the subscription data, which is incremented after each change of the data. A result
+     * derived from the data is up to date as long as the generation read before deriving it has not changed.
+     *
+     * @return generation of the subscription data
+     */
+    long getGeneration();
+
     /**
      * Gets an {@link Application} by Id.
      *
@@ -39,11 +39,12 @@ import org.wso2.choreo.connect.enforcer.models.Subscription;
 import org.wso2.choreo.connect.enforcer.models.SubscriptionPolicy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of the subscription data store.
@@ -72,7 +73,17 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private Map<String, SubscriptionPolicy> subscriptionPolicyMap;
     private Map<String, ApplicationPolicy> appPolicyMap;
     private Map<String, Subscription> subscriptionMap;
+    // Secondary indexes of the above maps, which are rebuilt with each snapshot of the map and updated with each
+    // incremental change.
+    private volatile SecondaryIndex<Subscription> subscriptionsByApi;
+    private volatile SecondaryIndex<Subscription> subscriptionsByApp;
+    private volatile SecondaryIndex<ApplicationKeyMapping> keyMappingsByApp;
+    private volatile SecondaryIndex<ApplicationKeyMapping> keyMappingsByConsumerKey;
+    private volatile SecondaryIndex<API> apisByContextAndVersion;
+    private volatile SecondaryIndex<API> defaultApisByContext;
     private String tenantDomain = APIConstants.SUPER_TENANT_DOMAIN_NAME;
+    // Incremented after each change of the subscription data.
+    private final AtomicLong generation = new AtomicLong();
 
     SubscriptionDataStoreImpl() {
     }
@@ -90,9 +101,47 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         this.appPolicyMap = new ConcurrentHashMap<>();
         this.apiPolicyMap = new ConcurrentHashMap<>();
         this.subscriptionMap = new ConcurrentHashMap<>();
+        indexSubscriptions(subscriptionMap.values());
+        indexApplicationKeyMappings(applicationKeyMappingMap.values());
+        indexApis(apiMap.values());
+        generation.incrementAndGet();
         initializeLoadingTasks();
     }
 
+    private void indexSubscriptions(Collection<Subscription> subscriptions) {
+        subscriptionsByApi = new SecondaryIndex<>(Subscription::getApiUUID, Subscription::getCacheKey,
+                subscriptions);
+        subscriptionsByApp = new SecondaryIndex<>(Subscription::getAppUUID, Subscription::getCacheKey,
+                subscriptions);
+    }
+
+    private void indexApplicationKeyMappings(Collection<ApplicationKeyMapping> applicationKeyMappings) {
+        keyMappingsByApp = new SecondaryIndex<>(ApplicationKeyMapping::getApplicationUUID,
+                ApplicationKeyMapping::getCacheKey, applicationKeyMappings);
+        keyMappingsByConsumerKey = new SecondaryIndex<>(ApplicationKeyMapping::getConsumerKey,
+                ApplicationKeyMapping::getCacheKey, applicationKeyMappings);
+    }
+
+    private void indexApis(Collection<API> apis) {
+        apisByContextAndVersion = new SecondaryIndex<>(
+                api -> SubscriptionDataStoreUtil.getAPICacheKey(api.getContext(), api.getApiVersion()),
+                API::getCacheKey, apis);
+        defaultApisByContext = new SecondaryIndex<>(SubscriptionDataStoreImpl::getDefaultVersionContext,
+                API::getCacheKey, apis);
+    }
+
+    private static String getDefaultVersionContext(API api) {
+        if (!api.isDefaultVersion() || api.getContext() == null) {
+            return null;
+        }
+        return api.getContext().replace("/" + api.getApiVersion(), "");
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation.get();
+    }
+
     @Override
     public Application getApplicationById(String appUUID) {
 
@@ -166,7 +215,9 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         if (log.isDebugEnabled()) {
             log.debug("Total Subscriptions in new cache: {}", newSubscriptionMap.size());
         }
+        indexSubscriptions(newSubscriptionMap.values());
         this.subscriptionMap = newSubscriptionMap;
+        generation.incrementAndGet();
     }
 
 
@@ -191,6 +242,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             log.debug("Total Applications in new cache: {}", newApplicationMap.size());
         }
         this.applicationMap = newApplicationMap;
+        generation.incrementAndGet();
     }
 
     public void addApis(List<APIs> apisList) {
@@ -212,7 +264,9 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         if (log.isDebugEnabled()) {
             log.debug("Total Apis in new cache: {}", newApiMap.size());
         }
+        indexApis(newApiMap.values());
         this.apiMap = newApiMap;
+        generation.incrementAndGet();
     }
 
     public void addApplicationPolicies(
@@ -233,6 +287,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             log.debug("Total Application Policies in new cache: {}", newAppPolicyMap.size());
         }
         this.appPolicyMap = newAppPolicyMap;
+        generation.incrementAndGet();
     }
 
     public void addSubscriptionPolicies(
@@ -258,6 +313,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             log.debug("Total Subscription Policies in new cache: {}", newSubscriptionPolicyMap.size());
         }
         this.subscriptionPolicyMap = newSubscriptionPolicyMap;
+        generation.incrementAndGet();
     }
 
     public void addApplicationKeyMappings(
@@ -279,7 +335,9 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         if (log.isDebugEnabled()) {
             log.debug("Total Application Key Mappings in new cache: {}", newApplicationKeyMappingMap.size());
         }
+        indexApplicationKeyMappings(newApplicationKeyMappingMap.values());
         this.applicationKeyMappingMap = newApplicationKeyMappingMap;
+        generation.incrementAndGet();
     }
 
     @Override
@@ -289,6 +347,8 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
             if (retrievedSubscription == null) {
                 subscriptionMap.put(subscription.getCacheKey(), subscription);
+                subscriptionsByApi.update(null, subscription);
+                subscriptionsByApp.update(null, subscription);
             } else {
                 if (subscription.getTimeStamp() < retrievedSubscription.getTimeStamp()) {
                     if (log.isDebugEnabled()) {
@@ -296,19 +356,30 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                     }
                 } else {
                     subscriptionMap.put(subscription.getCacheKey(), subscription);
+                    subscriptionsByApi.update(retrievedSubscription, subscription);
+                    subscriptionsByApp.update(retrievedSubscription, subscription);
                 }
             }
         }
+        generation.incrementAndGet();
     }
 
     @Override
     public void removeSubscription(Subscription subscription) {
-        subscriptionMap.remove(subscription.getCacheKey());
+        Subscription removedSubscription = subscriptionMap.remove(subscription.getCacheKey());
+        if (removedSubscription != null) {
+            subscriptionsByApi.remove(removedSubscription);
+            subscriptionsByApp.remove(removedSubscription);
+        }
+        generation.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateAPI(API api) {
-        apiMap.put(api.getCacheKey(), api);
+        API previousApi = apiMap.put(api.getCacheKey(), api);
+        apisByContextAndVersion.update(previousApi, api);
+        defaultApisByContext.update(previousApi, api);
+        generation.incrementAndGet();
     }
 
     @Override
@@ -317,52 +388,71 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public void removeAPI(API api) {
-        apiMap.remove(api.getCacheKey());
+        API removedApi = apiMap.remove(api.getCacheKey());
+        if (removedApi != null) {
+            apisByContextAndVersion.remove(removedApi);
+            defaultApisByContext.remove(removedApi);
+        }
+        generation.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
 
-        applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
-        applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(), applicationKeyMapping);
+        ApplicationKeyMapping previousKeyMapping = applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(),
+                applicationKeyMapping);
+        keyMappingsByApp.update(previousKeyMapping, applicationKeyMapping);
+        keyMappingsByConsumerKey.update(previousKeyMapping, applicationKeyMapping);
+        generation.incrementAndGet();
     }
 
     @Override
     public void removeApplicationKeyMapping(ApplicationKeyMapping applicationKeyMapping) {
-        applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
+        ApplicationKeyMapping removedKeyMapping = applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
+        if (removedKeyMapping != null) {
+            keyMappingsByApp.remove(removedKeyMapping);
+            keyMappingsByConsumerKey.remove(removedKeyMapping);
+        }
+        generation.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateSubscriptionPolicy(SubscriptionPolicy subscriptionPolicy) {
         subscriptionPolicyMap.remove(subscriptionPolicy.getCacheKey());
         subscriptionPolicyMap.put(subscriptionPolicy.getCacheKey(), subscriptionPolicy);
+        generation.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateApplicationPolicy(ApplicationPolicy applicationPolicy) {
         appPolicyMap.remove(applicationPolicy.getCacheKey());
         appPolicyMap.put(applicationPolicy.getCacheKey(), applicationPolicy);
+        generation.incrementAndGet();
     }
 
     @Override
     public void removeApplicationPolicy(ApplicationPolicy applicationPolicy) {
         appPolicyMap.remove(applicationPolicy.getCacheKey());
+        generation.incrementAndGet();
     }
 
     @Override
     public void removeSubscriptionPolicy(SubscriptionPolicy subscriptionPolicy) {
         subscriptionPolicyMap.remove(subscriptionPolicy.getCacheKey());
+        generation.incrementAndGet();
     }
 
     @Override
     public void addOrUpdateApplication(Application application) {
         applicationMap.remove(application.getId());
         applicationMap.put(application.getCacheKey(), application);
+        generation.incrementAndGet();
     }
 
     @Override
     public void removeApplication(Application application) {
         applicationMap.remove(application.getId());
+        generation.incrementAndGet();
     }
 
     @Override
@@ -372,27 +462,28 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public void removeApiPolicy(ApiPolicy apiPolicy) {
         apiPolicyMap.remove(apiPolicy.getCacheKey());
+        generation.incrementAndGet();
     }
 
     @Override
     public API getDefaultApiByContext(String context) {
-        Set<String> set = apiMap.keySet()
-                .stream()
-                .filter(s -> s.startsWith(context))
-                .collect(Collectors.toSet());
-        for (String key : set) {
-            API api = apiMap.get(key);
-            if (api.isDefaultVersion() && (api.getContext().replace("/" + api.getApiVersion(), "")).equals(context)) {
-                return api;
-            }
-        }
-        return null;
+        List<API> apis = defaultApisByContext.get(context);
+        return apis.isEmpty() ? null : apis.get(0);
     }
 
     @Override
     public List<API> getMatchingAPIs(String name, String context, String version, String uuid) {
         List<API> apiList = new ArrayList<>();
-        for (API api : apiMap.values()) {
+        Collection<API> candidates;
+        if (StringUtils.isNotEmpty(uuid)) {
+            API api = apiMap.get(uuid);
+            candidates = api == null ? Collections.emptyList() : Collections.singletonList(api);
+        } else if (StringUtils.isNotEmpty(context) && StringUtils.isNotEmpty(version)) {
+            candidates = apisByContextAndVersion.get(SubscriptionDataStoreUtil.getAPICacheKey(context, version));
+        } else {
+            candidates = apiMap.values();
+        }
+        for (API api : candidates) {
             boolean isNameMatching = true;
             boolean isContextMatching = true;
             boolean isVersionMatching = true;
@@ -418,11 +509,13 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public API getMatchingAPI(String context, String version) {
-        for (API api : apiMap.values()) {
-            if (StringUtils.isNotEmpty(context) && StringUtils.isNotEmpty(version)) {
-                if (api.getContext().equals(context) && api.getApiVersion().equals(version)) {
-                    return api;
-                }
+        if (StringUtils.isEmpty(context) || StringUtils.isEmpty(version)) {
+            return null;
+        }
+        for (API api : apisByContextAndVersion.get(SubscriptionDataStoreUtil.getAPICacheKey(context, version))) {
+            // Index keys of different context and version pairs may collide, as the context could contain periods.
+            if (api.getContext().equals(context) && api.getApiVersion().equals(version)) {
+                return api;
             }
         }
         return null;
@@ -431,7 +524,14 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<Application> getMatchingApplications(String name, String organizationID, String uuid) {
         List<Application> applicationList = new ArrayList<>();
-        for (Application application : applicationMap.values()) {
+        Collection<Application> candidates;
+        if (StringUtils.isNotEmpty(uuid)) {
+            Application application = applicationMap.get(uuid);
+            candidates = application == null ? Collections.emptyList() : Collections.singletonList(application);
+        } else {
+            candidates = applicationMap.values();
+        }
+        for (Application application : candidates) {
             boolean isNameMatching = true;
             boolean isOrgMatching = true;
             boolean isUUIDMatching = true;
@@ -454,8 +554,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<ApplicationKeyMapping> getMatchingKeyMapping(String applicationUUID, String consumerKey) {
         List<ApplicationKeyMapping> applicationKeyMappingList = new ArrayList<>();
+        Collection<ApplicationKeyMapping> candidates;
+        if (StringUtils.isNotEmpty(consumerKey)) {
+            candidates = keyMappingsByConsumerKey.get(consumerKey);
+        } else if (StringUtils.isNotEmpty(applicationUUID)) {
+            candidates = keyMappingsByApp.get(applicationUUID);
+        } else {
+            candidates = applicationKeyMappingMap.values();
+        }
 
-        for (ApplicationKeyMapping applicationKeyMapping : applicationKeyMappingMap.values()) {
+        for (ApplicationKeyMapping applicationKeyMapping : candidates) {
             boolean isConsumerKeyMatching = true;
             boolean isAppUUIDMatching = true;
 
@@ -475,8 +583,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public List<Subscription> getMatchingSubscriptions(String applicationUUID, String apiUUID, String state) {
         List<Subscription> subscriptionList = new ArrayList<>();
+        Collection<Subscription> candidates;
+        if (StringUtils.isNotEmpty(apiUUID)) {
+            candidates = subscriptionsByApi.get(apiUUID);
+        } else if (StringUtils.isNotEmpty(applicationUUID)) {
+            candidates = subscriptionsByApp.get(applicationUUID);
+        } else {
+            candidates = subscriptionMap.values();
+        }
 
-        for (Subscription subscription : subscriptionMap.values()) {
+        for (Subscription subscription : candidates) {
             boolean isApiUUIDMatch = true;
             boolean isAppUUIDMatch = true;
             boolean isStateMatch = true;
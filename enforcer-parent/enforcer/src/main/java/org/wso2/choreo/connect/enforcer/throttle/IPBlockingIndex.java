@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.wso2.choreo.connect.enforcer.throttle.dto.IPRange;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable index of the IP blocking conditions of a tenant, built once when the blocking conditions are received.
+ * <p>
+ * Fixed IPs are held in a hash set. IP ranges which fit in a {@code long} (all IPv4 ranges) are merged into
+ * sorted, non overlapping intervals, so that a client IP is matched against them with a binary search. Inverted
+ * conditions and wider IPv6 ranges are few, and they are evaluated one by one.
+ */
+public class IPBlockingIndex {
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final Set<String> fixedIps = new HashSet<>();
+    private final List<String> invertedFixedIps = new ArrayList<>();
+    // Inclusive bounds of the merged IP ranges, sorted by the starting IP.
+    private final long[] rangeStarts;
+    private final long[] rangeEnds;
+    private final List<IPRange> otherRanges = new ArrayList<>();
+
+    public IPBlockingIndex(Collection<IPRange> ipRanges) {
+        List<long[]> ranges = new ArrayList<>();
+        for (IPRange ipRange : ipRanges) {
+            if (ThrottleConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ipRange.isInvert()) {
+                    invertedFixedIps.add(ipRange.getFixedIp());
+                } else if (ipRange.getFixedIp() != null) {
+                    fixedIps.add(ipRange.getFixedIp());
+                }
+            } else if (ThrottleConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                BigInteger start = ipRange.getStartingIpBigIntValue();
+                BigInteger end = ipRange.getEndingIpBigIntValue();
+                if (!ipRange.isInvert() && end.compareTo(MAX_LONG) <= 0) {
+                    // Both ends of the range are excluded when matching the client IP.
+                    long from = start.longValue() + 1;
+                    long to = end.longValue() - 1;
+                    if (from <= to) {
+                        ranges.add(new long[]{from, to});
+                    }
+                } else {
+                    otherRanges.add(ipRange);
+                }
+            }
+        }
+
+        ranges.sort((r1, r2) -> Long.compare(r1[0], r2[0]));
+        List<long[]> merged = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        rangeStarts = new long[merged.size()];
+        rangeEnds = new long[merged.size()];
+        for (int i = 0; i < merged.size(); i++) {
+            rangeStarts[i] = merged.get(i)[0];
+            rangeEnds[i] = merged.get(i)[1];
+        }
+    }
+
+    /**
+     * Checks whether the given client IP is blocked by any of the conditions.
+     *
+     * @param ip      client IP
+     * @param ipValue numeric value of the client IP. If null, the client IP is parsed only if there are IP range
+     *                conditions.
+     * @return {@code true} if the IP is blocked, {@code false} otherwise
+     */
+    public boolean isBlocked(String ip, BigInteger ipValue) {
+        if (ip != null && fixedIps.contains(ip)) {
+            return true;
+        }
+        for (String invertedFixedIp : invertedFixedIps) {
+            if (ip == null || !ip.equals(invertedFixedIp)) {
+                return true;
+            }
+        }
+        if (rangeStarts.length == 0 && otherRanges.isEmpty()) {
+            return false;
+        }
+
+        if (ipValue == null) {
+            ipValue = ip == null ? BigInteger.ZERO : FilterUtils.ipToBigInteger(ip);
+        }
+        if (rangeStarts.length > 0 && ipValue.compareTo(MAX_LONG) <= 0 && isWithinRanges(ipValue.longValue())) {
+            return true;
+        }
+        for (IPRange ipRange : otherRanges) {
+            boolean isWithinRange = ipValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0
+                    && ipValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0;
+            if (isWithinRange != ipRange.isInvert()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWithinRanges(long ip) {
+        int low = 0;
+        int high = rangeStarts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ip < rangeStarts[mid]) {
+                high = mid - 1;
+            } else if (ip > rangeEnds[mid]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -20,8 +20,6 @@ package org.wso2.choreo.connect.enforcer.throttle;
 
 import org.wso2.choreo.connect.enforcer.throttle.databridge.publisher.ThrottleDataPublisher;
 
-import java.util.Map;
-
 /**
  * This class is used for ballerina interop invocations related to Global Throttle Event Publishing
  * via binary communication.
@@ -34,7 +32,7 @@ public class ThrottleAgent {
         throttleDataPublisher = new ThrottleDataPublisher();
     }
 
-    public static void publishNonThrottledEvent(Map<String, String> throttleEvent) {
-        throttleDataPublisher.publishNonThrottledEvent(throttleEvent);
+    public static void publishNonThrottledEvent(Object[] payload) {
+        throttleDataPublisher.publishNonThrottledEvent(payload);
     }
 }
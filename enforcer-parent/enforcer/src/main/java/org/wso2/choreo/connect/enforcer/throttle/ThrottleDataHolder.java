@@ -27,6 +27,8 @@ import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ThrottleConfigDto;
 import org.wso2.choreo.connect.enforcer.discovery.ThrottleDataDiscoveryClient;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ThrottleDecisionMetrics;
 import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
 import org.wso2.choreo.connect.enforcer.throttle.dto.IPRange;
 import org.wso2.choreo.connect.enforcer.throttle.dto.ThrottleCondition;
@@ -34,12 +36,17 @@ import org.wso2.choreo.connect.enforcer.throttle.utils.ThrottleUtils;
 import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
@@ -48,24 +55,40 @@ import java.util.regex.Pattern;
  */
 public class ThrottleDataHolder {
     private static final Logger log = LogManager.getLogger(ThrottleDataHolder.class);
+    // Reused to render the throttle keys of custom policies, as each filter thread evaluates many requests.
+    private static final ThreadLocal<StringBuilder> KEY_BUILDER = ThreadLocal.withInitial(StringBuilder::new);
 
-    private final Map<String, Long> throttleDecisions;
-    private Map<String, String> keyTemplates;
+    private final ThrottleDecisionStore throttleDecisions;
+    private final ScheduledExecutorService decisionExpiryService;
+    private volatile List<ThrottleKeyTemplate> keyTemplates;
     private Map<String, String> blockedConditions;
-    private Map<String, Set<IPRange>> blockedIpConditions;
-    private static ThrottleDataHolder instance;
+    private Map<String, IPBlockingIndex> blockedIpConditions;
+    private static volatile ThrottleDataHolder instance;
     private final Map<String, Map<String, List<ThrottleCondition>>> conditionData = new ConcurrentHashMap<>();
 
     private ThrottleDataHolder() {
-        this.throttleDecisions = new ConcurrentHashMap<>();
-        this.keyTemplates = new ConcurrentHashMap<>();
+        int maxDecisionCount = ConfigHolder.getInstance().getEnvVarConfig().getThrottleDecisionMaxCount();
+        this.throttleDecisions = new ThrottleDecisionStore(maxDecisionCount, System.currentTimeMillis());
+        this.decisionExpiryService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "throttle-decision-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.decisionExpiryService.scheduleAtFixedRate(this::expireThrottleDecisions,
+                ThrottleDecisionStore.TICK_DURATION_MILLIS, ThrottleDecisionStore.TICK_DURATION_MILLIS,
+                TimeUnit.MILLISECONDS);
+        this.keyTemplates = Collections.emptyList();
         this.blockedConditions = new ConcurrentHashMap<>();
         this.blockedIpConditions = new ConcurrentHashMap<>();
     }
 
     public static ThrottleDataHolder getInstance() {
         if (instance == null) {
-            instance = new ThrottleDataHolder();
+            synchronized (ThrottleDataHolder.class) {
+                if (instance == null) {
+                    instance = new ThrottleDataHolder();
+                }
+            }
         }
 
         return instance;
@@ -79,15 +102,21 @@ public class ThrottleDataHolder {
     }
 
     /**
-     * Add all key templates in a given map to the key template map.
+     * Replace the key templates with the templates in the given map. Each template is parsed once here, so that
+     * the throttle keys of requests are rendered without parsing the template.
      *
      * @param templates Map of key template
      */
     public void addKeyTemplates(Map<String, String> templates) {
         if (templates == null || templates.size() < 1) {
-            keyTemplates = new ConcurrentHashMap<>();
+            keyTemplates = Collections.emptyList();
+            return;
         }
-        keyTemplates = new ConcurrentHashMap<>(templates);
+        List<ThrottleKeyTemplate> compiledTemplates = new ArrayList<>(templates.size());
+        for (String template : templates.keySet()) {
+            compiledTemplates.add(new ThrottleKeyTemplate(template));
+        }
+        keyTemplates = Collections.unmodifiableList(compiledTemplates);
     }
 
     /**
@@ -133,7 +162,7 @@ public class ThrottleDataHolder {
      * @param key       throttle key to be added
      * @param timestamp throttle timestamp
      */
-    public void addThrottleData(String key, Long timestamp) {
+    public void addThrottleData(String key, long timestamp) {
         throttleDecisions.put(key, timestamp);
     }
 
@@ -146,6 +175,20 @@ public class ThrottleDataHolder {
         throttleDecisions.remove(key);
     }
 
+    private void expireThrottleDecisions() {
+        try {
+            throttleDecisions.expire(System.currentTimeMillis());
+            if (JMXUtils.isJMXMetricsEnabled()) {
+                ThrottleDecisionMetrics.getInstance().recordMetric(throttleDecisions.size(),
+                        throttleDecisions.getMaxDecisionCount(), throttleDecisions.getExpiredCount(),
+                        throttleDecisions.getEvictedCount());
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled expiry task.
+            log.error("Error occurred while removing expired throttle decisions", e);
+        }
+    }
+
 
     /**
      * Add all blocking conditions in a {@link List<String>} definition.
@@ -166,7 +209,7 @@ public class ThrottleDataHolder {
             blockedIpConditions = new ConcurrentHashMap<>();
             return;
         }
-        Map<String, Set<IPRange>> newConditions = new ConcurrentHashMap<>();
+        Map<String, Set<IPRange>> newConditions = new HashMap<>();
         for (IPCondition condition : conditions) {
             Set<IPRange> ipRanges = newConditions.get(condition.getTenantDomain());
             if (ipRanges == null) {
@@ -191,7 +234,11 @@ public class ThrottleDataHolder {
             newConditions.put(condition.getTenantDomain(), ipRanges);
         }
 
-        blockedIpConditions = newConditions;
+        Map<String, IPBlockingIndex> ipBlockingIndexes = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Set<IPRange>> entry : newConditions.entrySet()) {
+            ipBlockingIndexes.put(entry.getKey(), new IPBlockingIndex(entry.getValue()));
+        }
+        blockedIpConditions = ipBlockingIndexes;
     }
 
     /**
@@ -216,11 +263,31 @@ public class ThrottleDataHolder {
      */
     public boolean isRequestBlocked(String apiBlockingKey, String applicationBlockingKey, String userBlockingKey,
                                     String ipBlockingKey, String subscriptionBlockingKey, String apiTenantDomain) {
+        return isRequestBlocked(apiBlockingKey, applicationBlockingKey, userBlockingKey, ipBlockingKey, null,
+                subscriptionBlockingKey, apiTenantDomain);
+    }
+
+    /**
+     * Checks if a request is blocked by given blocking keys.
+     *
+     * @param apiBlockingKey          blocking key for API blocking
+     * @param applicationBlockingKey  blocking key for Application blocking
+     * @param userBlockingKey         blocking key for User blocking
+     * @param ipBlockingKey           blocking key for IP blocking
+     * @param ipValue                 numeric value of the IP already parsed for the request, or null to parse the
+     *                                IP only if it is required
+     * @param subscriptionBlockingKey blocking key for Subscription blocking
+     * @param apiTenantDomain         tenant domain of the current request
+     * @return {@code true} if request is blocked by any of the conditions, {@code false} otherwise
+     */
+    public boolean isRequestBlocked(String apiBlockingKey, String applicationBlockingKey, String userBlockingKey,
+                                    String ipBlockingKey, BigInteger ipValue, String subscriptionBlockingKey,
+                                    String apiTenantDomain) {
         return (blockedConditions.containsKey(apiBlockingKey)
                 || blockedConditions.containsKey(applicationBlockingKey)
                 || blockedConditions.containsKey(userBlockingKey)
                 || blockedConditions.containsKey(subscriptionBlockingKey)
-                || isIpLevelBlocked(apiTenantDomain, ipBlockingKey));
+                || isIpLevelBlocked(apiTenantDomain, ipBlockingKey, ipValue));
     }
 
     /**
@@ -234,21 +301,7 @@ public class ThrottleDataHolder {
      * @return throttle {@link Decision} defining the whether request is throttled or not
      */
     public Decision isThrottled(String key) {
-        Decision decision = new Decision();
-        Long timestamp = this.throttleDecisions.get(key);
-
-        if (timestamp != null) {
-            long currentTime = System.currentTimeMillis();
-            decision.setThrottled(true);
-            decision.setResetAt(timestamp);
-
-            if (timestamp < currentTime) {
-                this.throttleDecisions.remove(key);
-                decision.setThrottled(false);
-            }
-        }
-
-        return decision;
+        return throttleDecisions.get(key, System.currentTimeMillis());
     }
 
     /**
@@ -262,12 +315,11 @@ public class ThrottleDataHolder {
      */
     public Decision isAdvancedThrottled(String key, RequestContext context) {
         String conditionKey = null;
-        Decision decision = new Decision();
         Map<String, List<ThrottleCondition>> conditionGrps = conditionData.get(key);
         List<ThrottleCondition> defaultGrp = null;
 
         if (conditionGrps == null) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         log.debug("Found throttle condition in condition map");
@@ -300,24 +352,10 @@ public class ThrottleDataHolder {
 
             // if throttle data is not available for the combined key, conditional throttle decision
             // is no longer valid
-            Long timestamp = throttleDecisions.get(combinedThrottleKey);
-            if (timestamp == null) {
-                return decision;
-            }
-
-            long currentTime = System.currentTimeMillis();
-            if (timestamp < currentTime) {
-                this.throttleDecisions.remove(key);
-                this.conditionData.remove(key);
-                return decision;
-            }
-
-            decision.setThrottled(true);
-            decision.setResetAt(timestamp);
-            return decision;
+            return throttleDecisions.get(combinedThrottleKey, System.currentTimeMillis());
         }
 
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 
     /**
@@ -344,11 +382,11 @@ public class ThrottleDataHolder {
             ThrottleCondition.JWTClaimConditions claimConditions = condition.getJwtClaimConditions();
 
             if (ipCondition != null) {
-                if (!isMatchingIp(req.getClientIp(), ipCondition)) {
+                if (!isMatchingIp(req, ipCondition)) {
                     isThrottled = false;
                 }
             } else if (ipRangeCondition != null) {
-                if (!isWithinIpRange(req.getClientIp(), ipRangeCondition)) {
+                if (!isWithinIpRange(req, ipRangeCondition)) {
                     isThrottled = false;
                 }
             }
@@ -382,95 +420,53 @@ public class ThrottleDataHolder {
 
     /**
      * Verify if the request is throttled by a custom key template policy.
-     * This method call is an expensive operation and should not enabled by default.
-     * If we enabled this policy then all APIs available in system will have
-     * to go through this check.
+     * The key templates are parsed when they are received, and the throttle key of each template is rendered
+     * into a builder reused by the current thread. Therefore, only the rendered key is allocated per template.
      *
+     * @param clientIp numeric value of the client IP, or null if the client IP is not available
      * @return throttle {@link Decision}
      */
     public Decision isThrottledByCustomPolicy(String userID, String resourceKey, String apiContext, String apiVersion,
-                                              String appTenant, String apiTenant, int appId, String clientIp,
+                                              String appTenant, String apiTenant, int appId, BigInteger clientIp,
                                               String customPropertyString) {
-        Decision decision = new Decision();
-        if (keyTemplates.size() > 0) {
-            for (String key : keyTemplates.keySet()) {
-                key = key.replaceAll("\\$resourceKey", resourceKey);
-                key = key.replaceAll("\\$userId", userID);
-                key = key.replaceAll("\\$apiContext", apiContext);
-                key = key.replaceAll("\\$apiVersion", apiVersion);
-                key = key.replaceAll("\\$appTenant", appTenant);
-                key = key.replaceAll("\\$apiTenant", apiTenant);
-                key = key.replaceAll("\\$appId", String.valueOf(appId));
-
-                if (clientIp != null) {
-                    key = key.replaceAll("\\$clientIp", FilterUtils.ipToBigInteger(clientIp).toString());
-                }
-
-                // If custom throttle properties exist, populate the key template with custom properties.
-                if (!customPropertyString.equals("null")) {
-                    String[] customPropertyList = customPropertyString.split(" ");
-                    for (String customProperty : customPropertyList) {
-                        String[] propertyPair = customProperty.split("=");
-                        if (propertyPair.length == 2) {
-                            key = key.replaceAll("\\$customProperty." + propertyPair[0], propertyPair[1]);
-                        } else {
-                            log.debug("Invalid custom property string : {}", customProperty);
-                        }
-                    }
-                }
+        List<ThrottleKeyTemplate> templates = keyTemplates;
+        if (templates.isEmpty()) {
+            return Decision.NOT_THROTTLED;
+        }
 
-                decision = isThrottled(key);
-                if (decision.isThrottled()) {
-                    return decision;
-                }
+        String clientIpString = null;
+        StringBuilder keyBuilder = KEY_BUILDER.get();
+        for (ThrottleKeyTemplate template : templates) {
+            if (clientIpString == null && clientIp != null && template.isClientIpRequired()) {
+                clientIpString = clientIp.toString();
+            }
+            keyBuilder.setLength(0);
+            template.render(keyBuilder, resourceKey, userID, apiContext, apiVersion, appTenant, apiTenant, appId,
+                    clientIpString, customPropertyString);
+            Decision decision = isThrottled(keyBuilder.toString());
+            if (decision.isThrottled()) {
+                return decision;
             }
         }
 
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 
-    private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
-        Set<IPRange> ipRanges = blockedIpConditions.get(apiTenantDomain);
+    private boolean isIpLevelBlocked(String apiTenantDomain, String ip, BigInteger ipValue) {
+        IPBlockingIndex ipBlockingIndex = blockedIpConditions.get(apiTenantDomain);
 
-        if (ipRanges != null && ipRanges.size() > 0) {
+        if (ipBlockingIndex != null) {
             log.debug("Tenant {} contains block conditions", apiTenantDomain);
-            for (IPRange ipRange : ipRanges) {
-                if (ThrottleConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Blocked IP detected");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Blocked IP detected");
-                            return true;
-                        }
-                    }
-                } else if (ThrottleConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = FilterUtils.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Blocked IP detected in an IP Range");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Blocked IP detected in an IP Range");
-                            return true;
-                        }
-                    }
-                }
+            if (ipBlockingIndex.isBlocked(ip, ipValue)) {
+                log.debug("Blocked IP detected");
+                return true;
             }
         }
         return false;
     }
 
-    private boolean isMatchingIp(String clientIp, ThrottleCondition.IPCondition ipCondition) {
-        BigInteger longIp = FilterUtils.ipToBigInteger(clientIp);
-        boolean isMatched = (longIp.equals(ipCondition.getSpecificIp()));
+    private boolean isMatchingIp(RequestContext req, ThrottleCondition.IPCondition ipCondition) {
+        boolean isMatched = req.getClientIpValue().equals(ipCondition.getSpecificIp());
 
         if (ipCondition.isInvert()) {
             return !isMatched;
@@ -479,14 +475,14 @@ public class ThrottleDataHolder {
         return isMatched;
     }
 
-    private boolean isWithinIpRange(String clientIp, ThrottleCondition.IPCondition ipCondition) {
+    private boolean isWithinIpRange(RequestContext req, ThrottleCondition.IPCondition ipCondition) {
         boolean status;
 
-        if (StringUtils.isEmpty(clientIp)) {
+        if (StringUtils.isEmpty(req.getClientIp())) {
             return false;
         }
 
-        BigInteger currentIp = FilterUtils.ipToBigInteger(clientIp);
+        BigInteger currentIp = req.getClientIpValue();
         status = ipCondition.getStartingIp().compareTo(currentIp) <= 0
                 && ipCondition.getEndingIp().compareTo(currentIp) >= 0;
 
@@ -501,17 +497,16 @@ public class ThrottleDataHolder {
         boolean status = true;
         Map<String, String> headers = req.getHeaders();
 
-        for (Map.Entry<String, String> entry : conditions.getValues().entrySet()) {
+        // Header names of the patterns are already in lower case.
+        for (Map.Entry<String, Pattern> entry : conditions.getPatterns().entrySet()) {
             if (headers != null) {
-                String value = headers.get(StringUtils.lowerCase(entry.getKey()));
+                String value = headers.get(entry.getKey());
 
                 if (StringUtils.isEmpty(value)) {
                     status = false;
                     break;
                 }
-                Pattern pattern = Pattern.compile(entry.getValue());
-                Matcher matcher = pattern.matcher(value);
-                status = status && matcher.find();
+                status = status && entry.getValue().matcher(value).find();
             }
         }
 
@@ -525,16 +520,14 @@ public class ThrottleDataHolder {
     private boolean isJwtClaimPresent(JSONObject claims, ThrottleCondition.JWTClaimConditions conditions) {
         boolean status = true;
 
-        for (Map.Entry<String, String> jwtClaim : conditions.getValues().entrySet()) {
+        for (Map.Entry<String, Pattern> jwtClaim : conditions.getPatterns().entrySet()) {
             String value = claims.getAsString(jwtClaim.getKey());
             if (value == null) {
                 status = false;
                 break;
             }
 
-            Pattern pattern = Pattern.compile(jwtClaim.getValue());
-            Matcher matcher = pattern.matcher(value);
-            status = status && matcher.find();
+            status = status && jwtClaim.getValue().matcher(value).find();
         }
 
         if (conditions.isInvert()) {
@@ -548,16 +541,14 @@ public class ThrottleDataHolder {
         Map<String, String> queryParamMap = req.getQueryParameters();
         boolean status = true;
 
-        for (Map.Entry<String, String> queryParam : condition.getValues().entrySet()) {
+        for (Map.Entry<String, Pattern> queryParam : condition.getPatterns().entrySet()) {
             String value = queryParamMap.get(queryParam.getKey());
             if (value == null) {
                 status = false;
                 break;
             }
 
-            Pattern pattern = Pattern.compile(queryParam.getValue());
-            Matcher matcher = pattern.matcher(value);
-            status = status && matcher.find();
+            status = status && queryParam.getValue().matcher(value).find();
         }
 
         if (condition.isInvert()) {
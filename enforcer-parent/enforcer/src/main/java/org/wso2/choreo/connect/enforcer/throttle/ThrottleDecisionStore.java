@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the throttle decisions received from the traffic manager until they are reset.
+ * <p>
+ * Expired decisions are removed by a hashed timing wheel. Each throttle key is placed in the wheel slot of the
+ * tick in which its decision expires, and {@link #expire(long)} only visits the slots of the ticks passed since
+ * the previous run. Decisions expiring beyond one rotation of the wheel are rescheduled when their slot is
+ * visited. Lookups do not allocate; a throttled key returns the read only decision stored for it, and any other
+ * key returns {@link Decision#NOT_THROTTLED}.
+ * <p>
+ * The number of decisions is bounded by {@code maxDecisionCount}. When the store is full, a decision from the
+ * nearest occupied slot of the wheel, which is about to expire, is evicted to make room for the new one.
+ * Concurrent additions may exceed the bound momentarily.
+ */
+public class ThrottleDecisionStore {
+    private static final Logger log = LogManager.getLogger(ThrottleDecisionStore.class);
+
+    static final long TICK_DURATION_MILLIS = 1000;
+    static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Map<String, Decision> decisions = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private final int maxDecisionCount;
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    // Last tick visited by the expiry run. Only written by the expiry run.
+    private volatile long lastExpiredTick;
+
+    @SuppressWarnings("unchecked")
+    public ThrottleDecisionStore(int maxDecisionCount, long currentTimeMillis) {
+        this.maxDecisionCount = maxDecisionCount;
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastExpiredTick = currentTimeMillis / TICK_DURATION_MILLIS;
+    }
+
+    /**
+     * Store the throttle decision of a key until the given reset timestamp. An existing decision of the same key
+     * is replaced.
+     *
+     * @param key     throttle key
+     * @param resetAt timestamp in milliseconds at which the decision is reset
+     */
+    public void put(String key, long resetAt) {
+        if (decisions.size() >= maxDecisionCount && !decisions.containsKey(key)) {
+            evictNextExpiring();
+        }
+        decisions.put(key, Decision.throttledUntil(resetAt));
+        schedule(key, resetAt);
+    }
+
+    /**
+     * Remove the throttle decision of a key. The key is dropped from the timing wheel when its slot is visited.
+     *
+     * @param key throttle key
+     */
+    public void remove(String key) {
+        decisions.remove(key);
+    }
+
+    /**
+     * Get the throttle decision of a key.
+     *
+     * @param key               throttle key
+     * @param currentTimeMillis current time in milliseconds
+     * @return the stored decision if the key is throttled, {@link Decision#NOT_THROTTLED} otherwise
+     */
+    public Decision get(String key, long currentTimeMillis) {
+        Decision decision = decisions.get(key);
+        if (decision == null) {
+            return Decision.NOT_THROTTLED;
+        }
+        if (decision.getResetAt() < currentTimeMillis) {
+            if (decisions.remove(key, decision)) {
+                expiredCount.incrementAndGet();
+            }
+            return Decision.NOT_THROTTLED;
+        }
+        return decision;
+    }
+
+    /**
+     * Remove the decisions expired in the ticks passed since the previous run. This is expected to be called
+     * once per tick from a single thread.
+     *
+     * @param currentTimeMillis current time in milliseconds
+     */
+    public void expire(long currentTimeMillis) {
+        long currentTick = currentTimeMillis / TICK_DURATION_MILLIS;
+        long fromTick = lastExpiredTick + 1;
+        // If the expiry run was delayed for more than a rotation, visiting each slot once is sufficient.
+        if (currentTick - fromTick >= WHEEL_SIZE) {
+            fromTick = currentTick - WHEEL_SIZE + 1;
+        }
+        List<String> rescheduledKeys = new ArrayList<>();
+        int expired = 0;
+        for (long tick = fromTick; tick <= currentTick; tick++) {
+            Iterator<String> keys = wheel[(int) (tick & WHEEL_MASK)].iterator();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                keys.remove();
+                Decision decision = decisions.get(key);
+                if (decision == null) {
+                    continue;
+                }
+                if (decision.getResetAt() <= currentTimeMillis) {
+                    if (decisions.remove(key, decision)) {
+                        expired++;
+                    }
+                } else {
+                    rescheduledKeys.add(key);
+                }
+            }
+        }
+        lastExpiredTick = currentTick;
+        for (String key : rescheduledKeys) {
+            Decision decision = decisions.get(key);
+            if (decision != null) {
+                schedule(key, decision.getResetAt());
+            }
+        }
+        if (expired > 0) {
+            expiredCount.addAndGet(expired);
+            log.debug("Removed {} expired throttle decisions", expired);
+        }
+    }
+
+    public int size() {
+        return decisions.size();
+    }
+
+    public int getMaxDecisionCount() {
+        return maxDecisionCount;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    private void schedule(String key, long resetAt) {
+        // A key is never placed in a slot which the expiry run has already passed.
+        long tick = Math.max(resetAt / TICK_DURATION_MILLIS, lastExpiredTick + 1);
+        wheel[(int) (tick & WHEEL_MASK)].add(key);
+    }
+
+    private void evictNextExpiring() {
+        long fromTick = lastExpiredTick + 1;
+        for (long tick = fromTick; tick < fromTick + WHEEL_SIZE; tick++) {
+            for (String key : wheel[(int) (tick & WHEEL_MASK)]) {
+                Decision decision = decisions.get(key);
+                if (decision != null && decisions.remove(key, decision)) {
+                    evictedCount.incrementAndGet();
+                    log.debug("Throttle decision store is full. Evicted the decision of key: {}", key);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -46,9 +46,8 @@ import org.wso2.choreo.connect.enforcer.websocket.MetadataConstants;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -70,7 +69,7 @@ public class ThrottleFilter implements Filter {
     public boolean handleRequest(RequestContext requestContext) {
 
         // If global throttle event publishing is disabled, throttle filter should be skipped.
-        if (!ConfigHolder.getInstance().getConfig().getThrottleConfig().isGlobalPublishingEnabled()) {
+        if (!isGlobalThrottlingEnabled) {
             return true;
         }
 
@@ -121,8 +120,8 @@ public class ThrottleFilter implements Filter {
     }
 
     private void handleEventPublish(RequestContext requestContext) {
-        for (Map<String, String> event : getThrottleEventMap(requestContext)) {
-            ThrottleAgent.publishNonThrottledEvent(event);
+        for (Object[] payload : getThrottleEventPayloads(requestContext)) {
+            ThrottleAgent.publishNonThrottledEvent(payload);
         }
     }
 
@@ -178,7 +177,8 @@ public class ThrottleFilter implements Filter {
                             + "-" + authContext.getApplicationName() + ":" + authContext.getKeyType();
 
                     if (dataHolder.isRequestBlocked(apiContext, appBlockingKey, authorizedUser,
-                            reqContext.getClientIp(), subBlockingKey, apiTenantDomain)) {
+                            reqContext.getClientIp(), reqContext.getClientIpValue(), subBlockingKey,
+                            apiTenantDomain)) {
                         FilterUtils.setThrottleErrorToContext(reqContext,
                                 ThrottleConstants.BLOCKED_ERROR_CODE,
                                 ThrottleConstants.BLOCKING_MESSAGE,
@@ -273,7 +273,7 @@ public class ThrottleFilter implements Filter {
                     String resourceThrottleKey = getResourceThrottleKey(resourceConfig, apiContext, apiVersion);
                     Decision customDecision = dataHolder.isThrottledByCustomPolicy(authorizedUser,
                             resourceThrottleKey, apiContext, apiVersion, appTenant, apiTenantDomain, appId,
-                            clientIp, customPropertyString);
+                            clientIp != null ? reqContext.getClientIpValue() : null, customPropertyString);
                     log.debug("Custom policy throttle decision is {}", customDecision.isThrottled());
                     customDecisions.add(customDecision);
                 }
@@ -297,7 +297,7 @@ public class ThrottleFilter implements Filter {
                     return throttledCustomDecision;
                 }
             }
-            return new Decision();
+            return Decision.NOT_THROTTLED;
         } finally {
             if (Utils.tracingEnabled()) {
                 doThrottleSpanScope.close();
@@ -323,33 +323,32 @@ public class ThrottleFilter implements Filter {
 
     private Decision checkResourceThrottled(String throttleKey, String tier, RequestContext context) {
         log.debug("Checking if request is throttled at API/Resource level for tier: {}, key: {}", tier, throttleKey);
-        Decision decision = new Decision();
 
         if (ThrottleConstants.UNLIMITED_TIER.equals(tier)) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         if (isGlobalThrottlingEnabled) {
-            decision = dataHolder.isAdvancedThrottled(throttleKey, context);
+            Decision decision = dataHolder.isAdvancedThrottled(throttleKey, context);
             log.debug("API/Resource Level throttle decision: {}", decision.isThrottled());
             return decision;
         }
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 
     /**
-     * This will generate the throttling event map to be publish to the traffic manager.
+     * This will generate the throttling event payloads to be published to the traffic manager.
      * <p>
      * Note: since there could be multiple matching resources for a request (ex: graphQL API request),
      * there could be multiple throttle events
      *
      * @param requestContext request context
-     * @return List of Map of throttle event data
+     * @return list of throttle event payloads, indexed as defined in {@link ThrottleEventConstants}
      */
-    private ArrayList<Map<String, String>> getThrottleEventMap(RequestContext requestContext) {
+    private List<Object[]> getThrottleEventPayloads(RequestContext requestContext) {
         AuthenticationContext authContext = requestContext.getAuthenticationContext();
-        ArrayList<Map<String, String>> throttleEvents = new ArrayList<>();
-        Map<String, String> throttleEvent = new HashMap<>();
+        List<Object[]> throttleEvents = new ArrayList<>();
+        Object[] throttleEvent = new Object[ThrottleEventConstants.PAYLOAD_SIZE];
         APIConfig api = requestContext.getMatchedAPI();
 
         String basePath = api.getBasePath();
@@ -367,37 +366,37 @@ public class ThrottleFilter implements Filter {
             tenantDomain = APIConstants.SUPER_TENANT_DOMAIN_NAME;
         }
 
-        throttleEvent.put(ThrottleEventConstants.MESSAGE_ID, requestContext.getRequestID());
-        throttleEvent.put(ThrottleEventConstants.APP_KEY, authContext.getApplicationId() + ":" + authorizedUser);
-        throttleEvent.put(ThrottleEventConstants.APP_TIER, authContext.getApplicationTier());
-        throttleEvent.put(ThrottleEventConstants.API_KEY, apiContext);
-        throttleEvent.put(ThrottleEventConstants.API_TIER, apiTier);
-        throttleEvent.put(ThrottleEventConstants.SUBSCRIPTION_KEY, authContext.getApplicationId() + ":" +
-                apiContext);
-        throttleEvent.put(ThrottleEventConstants.SUBSCRIPTION_TIER, authContext.getTier());
+        throttleEvent[ThrottleEventConstants.MESSAGE_ID_INDEX] = requestContext.getRequestID();
+        throttleEvent[ThrottleEventConstants.APP_KEY_INDEX] = authContext.getApplicationId() + ":" + authorizedUser;
+        throttleEvent[ThrottleEventConstants.APP_TIER_INDEX] = authContext.getApplicationTier();
+        throttleEvent[ThrottleEventConstants.API_KEY_INDEX] = apiContext;
+        throttleEvent[ThrottleEventConstants.API_TIER_INDEX] = apiTier;
+        throttleEvent[ThrottleEventConstants.SUBSCRIPTION_KEY_INDEX] = authContext.getApplicationId() + ":" +
+                apiContext;
+        throttleEvent[ThrottleEventConstants.SUBSCRIPTION_TIER_INDEX] = authContext.getTier();
         // TODO: (Praminda) should publish with tenant domain?
-        throttleEvent.put(ThrottleEventConstants.USER_ID, authorizedUser);
-        throttleEvent.put(ThrottleEventConstants.API_CONTEXT, basePath);
-        throttleEvent.put(ThrottleEventConstants.API_VERSION, apiVersion);
-        throttleEvent.put(ThrottleEventConstants.APP_TENANT, authContext.getSubscriberTenantDomain());
-        throttleEvent.put(ThrottleEventConstants.API_TENANT, tenantDomain);
-        throttleEvent.put(ThrottleEventConstants.APP_ID, String.valueOf(authContext.getApplicationId()));
-        throttleEvent.put(ThrottleEventConstants.API_NAME, apiName);
-        throttleEvent.put(ThrottleEventConstants.PROPERTIES, getProperties(requestContext).toString());
+        throttleEvent[ThrottleEventConstants.USER_ID_INDEX] = authorizedUser;
+        throttleEvent[ThrottleEventConstants.API_CONTEXT_INDEX] = basePath;
+        throttleEvent[ThrottleEventConstants.API_VERSION_INDEX] = apiVersion;
+        throttleEvent[ThrottleEventConstants.APP_TENANT_INDEX] = authContext.getSubscriberTenantDomain();
+        throttleEvent[ThrottleEventConstants.API_TENANT_INDEX] = tenantDomain;
+        throttleEvent[ThrottleEventConstants.APP_ID_INDEX] = String.valueOf(authContext.getApplicationId());
+        throttleEvent[ThrottleEventConstants.API_NAME_INDEX] = apiName;
+        throttleEvent[ThrottleEventConstants.PROPERTIES_INDEX] = getProperties(requestContext).toString();
 
         // apiConfig instance will have the tier assigned only if openapi definition contains the
         // extension
         if (!StringUtils.isEmpty(api.getTier())) {
-            throttleEvent.put(ThrottleEventConstants.RESOURCE_KEY, apiContext);
-            throttleEvent.put(ThrottleEventConstants.RESOURCE_TIER, apiTier);
+            throttleEvent[ThrottleEventConstants.RESOURCE_KEY_INDEX] = apiContext;
+            throttleEvent[ThrottleEventConstants.RESOURCE_TIER_INDEX] = apiTier;
             throttleEvents.add(throttleEvent);
         } else {
             for (ResourceConfig resourceConfig : requestContext.getMatchedResourcePaths()) {
-                Map<String, String> throttleEventClone = new HashMap<>(throttleEvent);
+                Object[] throttleEventClone = throttleEvent.clone();
                 String resourceTier = getResourceTier(resourceConfig);
                 String resourceKey = getResourceThrottleKey(resourceConfig, basePath, apiVersion);
-                throttleEventClone.put(ThrottleEventConstants.RESOURCE_KEY, resourceKey);
-                throttleEventClone.put(ThrottleEventConstants.RESOURCE_TIER, resourceTier);
+                throttleEventClone[ThrottleEventConstants.RESOURCE_KEY_INDEX] = resourceKey;
+                throttleEventClone[ThrottleEventConstants.RESOURCE_TIER_INDEX] = resourceTier;
                 throttleEvents.add(throttleEventClone);
             }
         }
@@ -451,19 +450,18 @@ public class ThrottleFilter implements Filter {
                 .get(ThrottleConstants.CUSTOM_THROTTLE_PROPERTIES));
 
         if (remoteIP != null && remoteIP.length() > 0) {
-            try {
-                InetAddress address = InetAddress.getByName(remoteIP);
-                if (address instanceof Inet4Address) {
-                    jsonObMap.put(ThrottleConstants.IP, FilterUtils.ipToLong(remoteIP));
-                    jsonObMap.put(ThrottleConstants.IPV6, 0);
-                } else if (address instanceof Inet6Address) {
-                    jsonObMap.put(ThrottleConstants.IPV6, FilterUtils.ipToBigInteger(remoteIP));
-                    jsonObMap.put(ThrottleConstants.IP, 0);
-                }
-            } catch (UnknownHostException e) {
+            // The client IP is parsed once for the request and shared with the throttle condition evaluation.
+            InetAddress address = requestContext.getClientIpAddress();
+            if (address instanceof Inet4Address) {
+                jsonObMap.put(ThrottleConstants.IP, requestContext.getClientIpValue().longValue());
+                jsonObMap.put(ThrottleConstants.IPV6, 0);
+            } else if (address instanceof Inet6Address) {
+                jsonObMap.put(ThrottleConstants.IPV6, requestContext.getClientIpValue());
+                jsonObMap.put(ThrottleConstants.IP, 0);
+            } else {
                 //send empty value as ip
                 log.error("Error while parsing host IP {}", remoteIP,
-                        ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 6901), e);
+                        ErrorDetails.errorLog(LoggingConstants.Severity.MAJOR, 6901));
                 jsonObMap.put(ThrottleConstants.IPV6, 0);
                 jsonObMap.put(ThrottleConstants.IP, 0);
             }
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Key template of a custom throttle policy (ex: {@code $userId:$apiContext:$customProperty.region}), parsed into
+ * a list of tokens once when the template is received. Rendering the throttle key of a request appends the
+ * tokens to a builder instead of running a regex substitution for each variable.
+ * <p>
+ * A variable which has no value for the request (the client IP or an unknown custom property) is rendered as it
+ * is in the template.
+ */
+public class ThrottleKeyTemplate {
+    private static final String VARIABLE_PREFIX = "$";
+    private static final String CUSTOM_PROPERTY_PREFIX = "customProperty.";
+    // Indexes of the variables are used as the token types.
+    private static final String[] VARIABLES = {"resourceKey", "userId", "apiContext", "apiVersion", "appTenant",
+            "apiTenant", "appId", "clientIp"};
+    private static final int RESOURCE_KEY = 0;
+    private static final int USER_ID = 1;
+    private static final int API_CONTEXT = 2;
+    private static final int API_VERSION = 3;
+    private static final int APP_TENANT = 4;
+    private static final int API_TENANT = 5;
+    private static final int APP_ID = 6;
+    private static final int CLIENT_IP = 7;
+    private static final int LITERAL = -1;
+    private static final int CUSTOM_PROPERTY = -2;
+
+    private final String template;
+    // Token type is an index of VARIABLES, LITERAL or CUSTOM_PROPERTY.
+    private final int[] tokenTypes;
+    // Literal text, or the custom property name, of each token.
+    private final String[] tokenValues;
+    private final boolean clientIpRequired;
+
+    public ThrottleKeyTemplate(String template) {
+        this.template = template;
+        List<Integer> types = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < template.length()) {
+            if (template.startsWith(VARIABLE_PREFIX, index)) {
+                int nameStart = index + VARIABLE_PREFIX.length();
+                int variable = findVariable(template, nameStart);
+                int nameEnd = -1;
+                if (variable != LITERAL) {
+                    nameEnd = nameStart + VARIABLES[variable].length();
+                } else if (template.startsWith(CUSTOM_PROPERTY_PREFIX, nameStart)) {
+                    nameEnd = findPropertyNameEnd(template, nameStart + CUSTOM_PROPERTY_PREFIX.length());
+                    if (nameEnd > nameStart + CUSTOM_PROPERTY_PREFIX.length()) {
+                        variable = CUSTOM_PROPERTY;
+                    }
+                }
+                if (variable != LITERAL) {
+                    addLiteral(literal, types, values);
+                    types.add(variable);
+                    values.add(variable == CUSTOM_PROPERTY ?
+                            template.substring(nameStart + CUSTOM_PROPERTY_PREFIX.length(), nameEnd) : null);
+                    index = nameEnd;
+                    continue;
+                }
+            }
+            literal.append(template.charAt(index));
+            index++;
+        }
+        addLiteral(literal, types, values);
+
+        this.tokenTypes = new int[types.size()];
+        for (int i = 0; i < tokenTypes.length; i++) {
+            tokenTypes[i] = types.get(i);
+        }
+        this.tokenValues = values.toArray(new String[0]);
+        this.clientIpRequired = types.contains(CLIENT_IP);
+    }
+
+    /**
+     * Append the throttle key of a request to the given builder.
+     *
+     * @param builder              builder to append the key
+     * @param resourceKey          resource throttle key
+     * @param userId               authorized user
+     * @param apiContext           API context
+     * @param apiVersion           API version
+     * @param appTenant            tenant of the application
+     * @param apiTenant            tenant of the API
+     * @param appId                application ID
+     * @param clientIp             numeric value of the client IP, or null if it is not available
+     * @param customPropertyString custom throttle properties of the request in {@code name=value name=value}
+     *                             format, or {@code "null"} if there are no such properties
+     */
+    public void render(StringBuilder builder, String resourceKey, String userId, String apiContext,
+                       String apiVersion, String appTenant, String apiTenant, int appId, String clientIp,
+                       String customPropertyString) {
+        for (int i = 0; i < tokenTypes.length; i++) {
+            switch (tokenTypes[i]) {
+                case LITERAL:
+                    builder.append(tokenValues[i]);
+                    break;
+                case RESOURCE_KEY:
+                    builder.append(resourceKey);
+                    break;
+                case USER_ID:
+                    builder.append(userId);
+                    break;
+                case API_CONTEXT:
+                    builder.append(apiContext);
+                    break;
+                case API_VERSION:
+                    builder.append(apiVersion);
+                    break;
+                case APP_TENANT:
+                    builder.append(appTenant);
+                    break;
+                case API_TENANT:
+                    builder.append(apiTenant);
+                    break;
+                case APP_ID:
+                    builder.append(appId);
+                    break;
+                case CLIENT_IP:
+                    if (clientIp != null) {
+                        builder.append(clientIp);
+                    } else {
+                        builder.append(VARIABLE_PREFIX).append(VARIABLES[CLIENT_IP]);
+                    }
+                    break;
+                default:
+                    appendCustomProperty(builder, tokenValues[i], customPropertyString);
+            }
+        }
+    }
+
+    public boolean isClientIpRequired() {
+        return clientIpRequired;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    private static void appendCustomProperty(StringBuilder builder, String name, String customPropertyString) {
+        if (customPropertyString != null && !"null".equals(customPropertyString)) {
+            // Properties are in "name=value name=value" format. Pairs without exactly one '=' and a value are
+            // ignored. The first value of a property is used.
+            int start = 0;
+            while (start <= customPropertyString.length()) {
+                int end = customPropertyString.indexOf(' ', start);
+                if (end == -1) {
+                    end = customPropertyString.length();
+                }
+                int separator = customPropertyString.indexOf('=', start);
+                if (separator != -1 && separator + 1 < end) {
+                    int nextSeparator = customPropertyString.indexOf('=', separator + 1);
+                    boolean isValidPair = nextSeparator == -1 || nextSeparator >= end;
+                    if (isValidPair && separator - start == name.length()
+                            && customPropertyString.startsWith(name, start)) {
+                        builder.append(customPropertyString, separator + 1, end);
+                        return;
+                    }
+                }
+                start = end + 1;
+            }
+        }
+        builder.append(VARIABLE_PREFIX).append(CUSTOM_PROPERTY_PREFIX).append(name);
+    }
+
+    private static int findVariable(String template, int nameStart) {
+        int matched = LITERAL;
+        for (int i = 0; i < VARIABLES.length; i++) {
+            if (template.startsWith(VARIABLES[i], nameStart)
+                    && (matched == LITERAL || VARIABLES[i].length() > VARIABLES[matched].length())) {
+                matched = i;
+            }
+        }
+        return matched;
+    }
+
+    private static int findPropertyNameEnd(String template, int nameStart) {
+        int index = nameStart;
+        while (index < template.length()) {
+            char c = template.charAt(index);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static void addLiteral(StringBuilder literal, List<Integer> types, List<String> values) {
+        if (literal.length() > 0) {
+            types.add(LITERAL);
+            values.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+}
@@ -33,7 +33,9 @@ import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.DataPubli
 
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * API Used to communicate with Data Receivers WSO2 BAM/CEP. It can be used to send events to
@@ -63,10 +65,9 @@ public class DataPublisher {
     private long lastFailedEventTime;
 
     /**
-     * The current failed event count. A normal long is used here, rather
-     * than an AtomicLong, since this is not a critical stat.
+     * The current failed event count. Events are published concurrently from the request threads.
      */
-    private long failedEventCount;
+    private final AtomicLong failedEventCount = new AtomicLong();
 
     /**
      * Creates the DataPublisher instance for a specific user, and the it creates
@@ -96,6 +97,18 @@ public class DataPublisher {
         dataEndpointAgent.addDataPublisher(this);
     }
 
+    /**
+     * Creates the DataPublisher instance with receiver groups, of which the endpoints are already added.
+     *
+     * @param dataEndpointAgent Agent of the DataPublisher.
+     * @param endpointGroups    Receiver groups the events are published to.
+     */
+    public DataPublisher(DataEndpointAgent dataEndpointAgent, List<DataEndpointGroup> endpointGroups) {
+        this.dataEndpointAgent = dataEndpointAgent;
+        this.endpointGroups.addAll(endpointGroups);
+        dataEndpointAgent.addDataPublisher(this);
+    }
+
     /**
      * This validates the input that are passed in the DataPublisher creation,
      * and initiates the endpoints connection.
@@ -271,11 +284,11 @@ public class DataPublisher {
     }
 
     private void onEventQueueFull(DataEndpointGroup endpointGroup, Event event) {
-        this.failedEventCount++;
+        long failedEvents = this.failedEventCount.incrementAndGet();
         long currentTime = System.currentTimeMillis();
         if (currentTime - this.lastFailedEventTime > FAILED_EVENT_LOG_INTERVAL) {
             log.warn("Event queue is full, unable to process the event for endpoint group "
-                    + endpointGroup.toString() + ", " + this.failedEventCount + " events dropped so far.");
+                    + endpointGroup.toString() + ", " + failedEvents + " events dropped so far.");
             this.lastFailedEventTime = currentTime;
         }
         if (log.isDebugEnabled()) {
@@ -297,8 +310,9 @@ public class DataPublisher {
         boolean sent = true;
         for (DataEndpointGroup endpointGroup : endpointGroups) {
             try {
-                endpointGroup.tryPublish(event);
-                sent = true;
+                if (!endpointGroup.tryPublish(event)) {
+                    sent = false;
+                }
             } catch (EventQueueFullException e) {
                 this.onEventQueueFull(endpointGroup, event);
                 sent = false;
@@ -307,6 +321,31 @@ public class DataPublisher {
         return sent;
     }
 
+    /**
+     * Get the number of events dropped so far as an event queue was full.
+     *
+     * @return dropped event count
+     */
+    public long getFailedEventCount() {
+        return failedEventCount.get();
+    }
+
+    /**
+     * Get the lowest remaining capacity among the event queues of the receiver groups.
+     *
+     * @return remaining capacity, or -1 if there are no receiver groups
+     */
+    public long getEventQueueRemainingCapacity() {
+        long remainingCapacity = -1;
+        for (DataEndpointGroup endpointGroup : endpointGroups) {
+            long groupCapacity = endpointGroup.getEventQueueRemainingCapacity();
+            if (remainingCapacity < 0 || groupCapacity < remainingCapacity) {
+                remainingCapacity = groupCapacity;
+            }
+        }
+        return remainingCapacity;
+    }
+
     /**
      * Graceful shutdown of all the operations of the data publisher.
      * It will flush all the events to the relevant endpoint, and closes all the
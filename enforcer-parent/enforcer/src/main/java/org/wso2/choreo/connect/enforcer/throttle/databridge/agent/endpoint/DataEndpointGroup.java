@@ -66,7 +66,7 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
 
     private HAType haType;
 
-    private EventQueue eventQueue = null;
+    private final EventQueue eventQueue;
 
     private int reconnectionInterval;
 
@@ -80,7 +80,7 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
 
     private final String publishingStrategy;
 
-    private boolean isShutdown = false;
+    private volatile boolean isShutdown = false;
 
     private SSLSocketFactory sslSocketFactory;
 
@@ -98,9 +98,9 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
                 new DataBridgeThreadFactory("ReconnectionService"));
         this.reconnectionInterval = agent.getAgentConfiguration().getReconnectionInterval();
         this.publishingStrategy = agent.getAgentConfiguration().getPublishingStrategy();
-        if (!publishingStrategy.equalsIgnoreCase(DataEndpointConstants.SYNC_STRATEGY)) {
-            this.eventQueue = new EventQueue(agent.getAgentConfiguration().getQueueSize());
-        }
+        // The event queue is created for the sync strategy as well, so that the non-blocking tryPublish never
+        // sends events on the calling thread.
+        this.eventQueue = new EventQueue(agent.getAgentConfiguration().getQueueSize());
         this.reconnectionService.scheduleAtFixedRate(new ReconnectionTask(), reconnectionInterval,
                 reconnectionInterval, TimeUnit.SECONDS);
         currentDataPublisherIndex.set(startIndex);
@@ -119,37 +119,41 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
         maximumDataPublisherIndex.incrementAndGet();
     }
 
-    public void tryPublish(Event event) throws EventQueueFullException {
-        if (eventQueue != null) {
-            eventQueue.tryPut(event);
-        } else if (!isShutdown) {
-            trySyncPublish(event);
+    /**
+     * Add an event to the event queue without blocking.
+     *
+     * @param event event to be published
+     * @return {@code true} if the event is queued, {@code false} if it is dropped as no endpoint is available
+     * @throws EventQueueFullException if the event is dropped as the event queue is full
+     */
+    public boolean tryPublish(Event event) throws EventQueueFullException {
+        if (isShutdown || !isActiveDataEndpointExists()) {
+            if (log.isDebugEnabled()) {
+                log.debug("DataEndpoint not available, dropping event : " + event);
+            }
+            return false;
         }
+        eventQueue.tryPut(event);
+        return true;
+    }
+
+    /**
+     * Get the number of free slots in the event queue of the group.
+     *
+     * @return remaining capacity of the event queue
+     */
+    public long getEventQueueRemainingCapacity() {
+        return eventQueue.remainingCapacity();
     }
 
     public void publish(Event event) {
-        if (eventQueue != null) {
+        if (!publishingStrategy.equalsIgnoreCase(DataEndpointConstants.SYNC_STRATEGY)) {
             eventQueue.put(event);
         } else if (!isShutdown) {
             syncPublish(event);
         }
     }
 
-    private void trySyncPublish(Event event) {
-        try {
-            DataEndpoint endpoint = getDataEndpoint(false);
-            if (endpoint != null) {
-                endpoint.syncSend(event);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("DataEndpoint not available, dropping event : " + event);
-                }
-            }
-        } catch (Throwable t) {
-            log.error("Unexpected error: " + t.getMessage(), t);
-        }
-    }
-
     private void syncPublish(Event event) {
         try {
             DataEndpoint endpoint = getDataEndpoint(true);
@@ -214,6 +218,10 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
             } while (isActiveDataEndpointExists());
         }
 
+        private long remainingCapacity() {
+            return this.ringBuffer.remainingCapacity();
+        }
+
         private void shutdown() {
             eventQueuePool.shutdown();
             eventQueueDisruptor.shutdown();
@@ -354,11 +362,7 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
         List<Event> unsuccessfulEvents = trySendActiveEndpoints(events, dataEndpoint);
         for (Event event : unsuccessfulEvents) {
             try {
-                if (eventQueue != null) {
-                    eventQueue.tryPut(event);
-                } else {
-                    trySyncPublish(event);
-                }
+                eventQueue.tryPut(event);
             } catch (EventQueueFullException e) {
                 log.error("Unable to put the event :" + event, e);
             }
@@ -474,9 +478,7 @@ public class DataEndpointGroup implements DataEndpointFailureCallback {
 
     public void shutdown() {
         reconnectionService.shutdownNow();
-        if (eventQueue != null) {
-            eventQueue.shutdown();
-        }
+        eventQueue.shutdown();
         isShutdown = true;
         for (DataEndpoint dataEndpoint : dataEndpoints) {
             dataEndpoint.shutdown();
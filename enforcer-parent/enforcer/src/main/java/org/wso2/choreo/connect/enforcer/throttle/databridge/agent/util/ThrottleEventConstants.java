@@ -19,28 +19,30 @@
 package org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util;
 
 /**
- * This class holds the constants required to fetch the properties from the ThrottleEvent.
+ * This class holds the indexes of the attributes in the payload of the throttle request stream, in the order
+ * defined in the stream.
  */
 public class ThrottleEventConstants {
 
     private ThrottleEventConstants() {
     }
 
-    public static final String MESSAGE_ID = "messageID";
-    public static final String APP_KEY = "appKey";
-    public static final String APP_TIER = "appTier";
-    public static final String API_KEY = "apiKey";
-    public static final String API_TIER = "apiTier";
-    public static final String SUBSCRIPTION_KEY = "subscriptionKey";
-    public static final String SUBSCRIPTION_TIER = "subscriptionTier";
-    public static final String RESOURCE_KEY = "resourceKey";
-    public static final String RESOURCE_TIER = "resourceTier";
-    public static final String USER_ID = "userId";
-    public static final String API_CONTEXT = "apiContext";
-    public static final String API_VERSION = "apiVersion";
-    public static final String APP_TENANT = "appTenant";
-    public static final String API_TENANT = "apiTenant";
-    public static final String APP_ID = "appId";
-    public static final String API_NAME = "apiName";
-    public static final String PROPERTIES = "properties";
+    public static final int MESSAGE_ID_INDEX = 0;
+    public static final int APP_KEY_INDEX = 1;
+    public static final int APP_TIER_INDEX = 2;
+    public static final int API_KEY_INDEX = 3;
+    public static final int API_TIER_INDEX = 4;
+    public static final int SUBSCRIPTION_KEY_INDEX = 5;
+    public static final int SUBSCRIPTION_TIER_INDEX = 6;
+    public static final int RESOURCE_KEY_INDEX = 7;
+    public static final int RESOURCE_TIER_INDEX = 8;
+    public static final int USER_ID_INDEX = 9;
+    public static final int API_CONTEXT_INDEX = 10;
+    public static final int API_VERSION_INDEX = 11;
+    public static final int APP_TENANT_INDEX = 12;
+    public static final int API_TENANT_INDEX = 13;
+    public static final int APP_ID_INDEX = 14;
+    public static final int API_NAME_INDEX = 15;
+    public static final int PROPERTIES_INDEX = 16;
+    public static final int PAYLOAD_SIZE = 17;
 }
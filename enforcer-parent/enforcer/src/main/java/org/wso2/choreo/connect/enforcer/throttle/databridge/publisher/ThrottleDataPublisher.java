@@ -20,58 +20,51 @@ package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.wso2.carbon.databridge.commons.Event;
 import org.wso2.carbon.databridge.commons.exception.TransportException;
 import org.wso2.choreo.connect.enforcer.commons.logging.ErrorDetails;
 import org.wso2.choreo.connect.enforcer.commons.logging.LoggingConstants;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.config.dto.ThrottlePublisherConfigDto;
+import org.wso2.choreo.connect.enforcer.jmx.JMXUtils;
+import org.wso2.choreo.connect.enforcer.metrics.jmx.impl.ThrottlePublisherMetrics;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.DataPublisher;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.exception.DataEndpointAuthenticationException;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.exception.DataEndpointConfigurationException;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.exception.DataEndpointException;
 import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Throttle data publisher class is here to publish throttle data to global policy engine.
- * This can publish data according to defined protocol. Protocol can be thrift or binary.
- * When we use this for high concurrency usecases proper tuning is mandatory.
+ * <p>
+ * The payload of the throttle request stream is built by the throttle filters on the request thread, and handed over
+ * to the bounded event queue (ring buffer) of the data publisher without blocking. The worker of the event queue sends
+ * the events to the traffic manager in batches. If the traffic manager cannot keep up, the event queue fills up and
+ * further events are dropped and counted, instead of being queued without a limit. The size of the event queue is
+ * the {@code queueSize} of the throttle agent configuration.
  */
 public class ThrottleDataPublisher {
-    public static ThrottleDataPublisherPool dataPublisherPool;
-
     private static final Logger LOG = LogManager.getLogger(ThrottleDataPublisher.class);
+    private static final String STREAM_ID = "org.wso2.throttle.request.stream:1.0.0";
     private static volatile DataPublisher dataPublisher = null;
-    private Executor executor;
+
+    private static final LongAdder publishedEventCount = new LongAdder();
+    private static final LongAdder droppedEventCount = new LongAdder();
 
     public static DataPublisher getDataPublisher() {
         return dataPublisher;
     }
 
     /**
-     * This method will initialize throttle data publisher. Inside this we will start executor and initialize data
-     * publisher which we used to publish throttle data.
+     * This method will initialize the data publisher which we used to publish throttle data.
      */
     public ThrottleDataPublisher() {
-        dataPublisherPool = ThrottleDataPublisherPool.getInstance();
         ThrottlePublisherConfigDto throttlePublisherConfigDto = ConfigHolder.getInstance().getConfig().
                 getThrottleConfig().getThrottleAgent().getPublisher();
 
         try {
-            executor = new DataPublisherThreadPoolExecutor(
-                    throttlePublisherConfigDto.getPublisherThreadPoolCoreSize(),
-                    throttlePublisherConfigDto.getPublisherThreadPoolMaximumSize(),
-                    throttlePublisherConfigDto.getPublisherThreadPoolKeepAliveTime(),
-                    TimeUnit.SECONDS,
-                    new LinkedBlockingDeque<Runnable>() {
-                    });
             dataPublisher = new DataPublisher(throttlePublisherConfigDto.getReceiverUrlGroup(),
                     throttlePublisherConfigDto.getAuthUrlGroup(), throttlePublisherConfigDto.getUserName(),
                     throttlePublisherConfigDto.getPassword());
@@ -81,66 +74,74 @@ public class ThrottleDataPublisher {
             LOG.error("Error in initializing binary data-publisher to send requests to global throttling engine " +
                     e.getMessage(), ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 6902), e);
         }
+        if (JMXUtils.isJMXMetricsEnabled()) {
+            ThrottlePublisherMetrics.getInstance();
+        }
+    }
+
+    ThrottleDataPublisher(DataPublisher publisher) {
+        dataPublisher = publisher;
     }
 
     /**
-     * This method used to pass message context and let it run within separate thread.
+     * Publish a throttle event to the traffic manager. This does not block; the event is dropped if the event queue
+     * is full or no traffic manager endpoint is available.
+     *
+     * @param payload attributes of the throttle event, indexed as defined in {@link ThrottleEventConstants}
      */
-    public void publishNonThrottledEvent(Map<String, String> throttleEvent) {
+    public void publishNonThrottledEvent(Object[] payload) {
+        DataPublisher publisher = dataPublisher;
+        if (publisher == null) {
+            droppedEventCount.increment();
+            LOG.debug("Throttle data publisher is not initialized.");
+            return;
+        }
         try {
-            if (dataPublisherPool != null) {
-                DataProcessAndPublishingAgent agent = dataPublisherPool.get();
-                agent.setDataReference(throttleEvent);
-                if (LOG.isDebugEnabled()) {
-                    String messageId = throttleEvent.getOrDefault(ThrottleEventConstants.MESSAGE_ID, "null");
-                    String apiContext = throttleEvent.getOrDefault(ThrottleEventConstants.API_CONTEXT, "null");
-                    LOG.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
-                            + " with ID: " + messageId + " started" + " at "
-                            + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
-                }
-                executor.execute(agent);
-                if (LOG.isDebugEnabled()) {
-                    String messageId = throttleEvent.getOrDefault(ThrottleEventConstants.MESSAGE_ID, "null");
-                    String apiContext = throttleEvent.getOrDefault(ThrottleEventConstants.API_CONTEXT, "null");
-                    LOG.debug("Publishing throttle data from gateway to traffic-manager for: " + apiContext
-                            + " with ID: " + messageId + " ended" + " at "
-                            + new SimpleDateFormat("[yyyy.MM.dd HH:mm:ss,SSS zzz]").format(new Date()));
-                }
+            Event event = new Event(STREAM_ID, System.currentTimeMillis(), null, null, payload);
+            if (publisher.tryPublish(event)) {
+                publishedEventCount.increment();
             } else {
-                LOG.debug("Throttle data publisher pool is not initialized.");
+                droppedEventCount.increment();
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Published throttle data from gateway to traffic-manager for: {} with ID: {}",
+                        payload[ThrottleEventConstants.API_CONTEXT_INDEX],
+                        payload[ThrottleEventConstants.MESSAGE_ID_INDEX]);
             }
         } catch (Exception e) {
+            droppedEventCount.increment();
             LOG.error("Error while publishing throttling events to global policy server",
                     ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 6903), e);
         }
     }
 
     /**
-     * This class will act as thread pool executor and after executing each thread it will return runnable
-     * object back to pool. This implementation specifically used to minimize number of objectes created during
-     * runtime. In this queuing strategy the submitted task will wait in the queue if the corePoolsize theads are
-     * busy and the task will be allocated if any of the threads become idle.Thus ThreadPool will always have number
-     * of threads running  as mentioned in the corePoolSize.
-     * LinkedBlockingQueue without the capacity can be used for this queuing strategy.If the corePoolsize of the
-     * threadpool is less and there are more number of time consuming task were submitted,there is more possibility
-     * that the task has to wait in the queue for more time before it is run by any of the ideal thread.
-     * So tuning core pool size is something we need to tune properly.
-     * Also no task will be rejected in Threadpool until the threadpool was shutdown.
+     * Get the number of throttle events accepted by the event queue.
+     *
+     * @return published event count
      */
-    private class DataPublisherThreadPoolExecutor extends ThreadPoolExecutor {
-        public DataPublisherThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveTime,
-                                               TimeUnit unit, LinkedBlockingDeque<Runnable> workQueue) {
-            super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue);
-        }
+    public static long getPublishedEventCount() {
+        return publishedEventCount.sum();
+    }
 
-        protected void afterExecute(Runnable r, Throwable t) {
-            try {
-                DataProcessAndPublishingAgent agent = (DataProcessAndPublishingAgent) r;
-                ThrottleDataPublisher.dataPublisherPool.release(agent);
-            } catch (Exception e) {
-                LOG.error("Error while returning Throttle data publishing agent back to pool" + e.getMessage(),
-                        ErrorDetails.errorLog(LoggingConstants.Severity.CRITICAL, 6904));
-            }
-        }
+    /**
+     * Get the number of throttle events dropped, as the event queue was full, or the publisher or a traffic manager
+     * endpoint was not available.
+     *
+     * @return dropped event count
+     */
+    public static long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * Get the number of free slots in the event queue. A value close to zero means the traffic manager does not
+     * keep up with the events and further events are about to be dropped.
+     *
+     * @return remaining capacity of the event queue, or -1 if the publisher is not initialized
+     */
+    public static long getEventQueueRemainingCapacity() {
+        DataPublisher publisher = dataPublisher;
+        return publisher != null ? publisher.getEventQueueRemainingCapacity() : -1;
     }
 }
@@ -22,6 +22,11 @@ package org.wso2.choreo.connect.enforcer.throttle.dto;
  * Detailed information about the throttle decision.
  */
 public class Decision {
+    /**
+     * Shared decision returned when a request is not throttled. This instance is read only.
+     */
+    public static final Decision NOT_THROTTLED = new Decision(false, 0, true);
+
     /**
      * Is request throttled or not
      */
@@ -38,17 +43,41 @@ public class Decision {
      */
     long resetAt;
 
+    /**
+     * Read only decisions are shared between requests and can not be modified.
+     */
+    private final boolean readOnly;
+
     public Decision() {
         this.isThrottled = false;
         this.resetAt = 0;
+        this.readOnly = false;
         this.setDueToBlockedCondition(false);
     }
 
+    private Decision(boolean isThrottled, long resetAt, boolean readOnly) {
+        this.isThrottled = isThrottled;
+        this.resetAt = resetAt;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Create a read only throttled decision, which can be shared by all requests evaluated against the same
+     * throttle key until the decision is reset.
+     *
+     * @param resetAt timestamp at which the decision is reset
+     * @return read only throttled decision
+     */
+    public static Decision throttledUntil(long resetAt) {
+        return new Decision(true, resetAt, true);
+    }
+
     public boolean isThrottled() {
         return isThrottled;
     }
 
     public void setThrottled(boolean throttled) {
+        checkWritable();
         isThrottled = throttled;
     }
 
@@ -57,6 +86,7 @@ public class Decision {
     }
 
     public void setResetAt(long resetAt) {
+        checkWritable();
         this.resetAt = resetAt;
     }
 
@@ -68,6 +98,13 @@ public class Decision {
     }
 
     public void setDueToBlockedCondition(boolean dueToBlockedCondition) {
+        checkWritable();
         isDueToBlockedCondition = dueToBlockedCondition;
     }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Shared throttle decisions can not be modified");
+        }
+    }
 }
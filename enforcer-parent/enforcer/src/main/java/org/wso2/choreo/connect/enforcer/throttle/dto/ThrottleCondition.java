@@ -18,14 +18,25 @@
 
 package org.wso2.choreo.connect.enforcer.throttle.dto;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Defines the applicable conditions and the types of conditions for a conditional throttle policy.
  */
 public class ThrottleCondition {
+    private static final Logger log = LogManager.getLogger(ThrottleCondition.class);
+    // Used in place of an invalid regex, so that the condition never matches.
+    private static final Pattern NON_MATCHING_PATTERN = Pattern.compile("(?!)");
+
     private IPCondition ipCondition;
     private IPCondition ipRangeCondition;
     private HeaderConditions headerConditions;
@@ -72,12 +83,48 @@ public class ThrottleCondition {
         this.jwtClaimConditions = jwtClaimConditions;
     }
 
+    /**
+     * Compile the regex patterns of all the conditions, so that they are not compiled while evaluating requests.
+     */
+    public void compilePatterns() {
+        if (headerConditions != null) {
+            headerConditions.getPatterns();
+        }
+        if (queryParameterConditions != null) {
+            queryParameterConditions.getPatterns();
+        }
+        if (jwtClaimConditions != null) {
+            jwtClaimConditions.getPatterns();
+        }
+    }
+
+    private static Map<String, Pattern> compilePatterns(Map<String, String> values, boolean lowerCaseKeys) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Pattern> patterns = new HashMap<>(values.size());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String key = lowerCaseKeys ? StringUtils.lowerCase(entry.getKey()) : entry.getKey();
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(entry.getValue());
+            } catch (PatternSyntaxException e) {
+                log.error("Invalid regex in the throttle condition for {}. The condition will not be matched.",
+                        entry.getKey(), e);
+                pattern = NON_MATCHING_PATTERN;
+            }
+            patterns.put(key, pattern);
+        }
+        return patterns;
+    }
+
     /**
      * Throttle condition based on request headers.
      */
     public static class HeaderConditions {
         private Map<String, String> values = new HashMap<>();
         private boolean invert;
+        private transient Map<String, Pattern> patterns;
 
         public Map<String, String> getValues() {
             return values;
@@ -85,6 +132,19 @@ public class ThrottleCondition {
 
         public void setValues(Map<String, String> values) {
             this.values = values;
+            this.patterns = null;
+        }
+
+        /**
+         * Returns the compiled value patterns keyed by the lower case header name. The patterns are compiled once.
+         *
+         * @return compiled patterns of the condition
+         */
+        public Map<String, Pattern> getPatterns() {
+            if (patterns == null) {
+                patterns = compilePatterns(values, true);
+            }
+            return patterns;
         }
 
         public boolean isInvert() {
@@ -102,6 +162,7 @@ public class ThrottleCondition {
     public static class QueryParamConditions {
         private Map<String, String> values = new HashMap<>();
         private boolean invert;
+        private transient Map<String, Pattern> patterns;
 
         public Map<String, String> getValues() {
             return values;
@@ -109,6 +170,19 @@ public class ThrottleCondition {
 
         public void setValues(Map<String, String> values) {
             this.values = values;
+            this.patterns = null;
+        }
+
+        /**
+         * Returns the compiled value patterns keyed by the query parameter name. The patterns are compiled once.
+         *
+         * @return compiled patterns of the condition
+         */
+        public Map<String, Pattern> getPatterns() {
+            if (patterns == null) {
+                patterns = compilePatterns(values, false);
+            }
+            return patterns;
         }
 
         public boolean isInvert() {
@@ -126,6 +200,7 @@ public class ThrottleCondition {
     public static class JWTClaimConditions {
         private Map<String, String> values = new HashMap<>();
         private boolean invert;
+        private transient Map<String, Pattern> patterns;
 
         public Map<String, String> getValues() {
             return values;
@@ -133,6 +208,19 @@ public class ThrottleCondition {
 
         public void setValues(Map<String, String> values) {
             this.values = values;
+            this.patterns = null;
+        }
+
+        /**
+         * Returns the compiled value patterns keyed by the claim name. The patterns are compiled once.
+         *
+         * @return compiled patterns of the condition
+         */
+        public Map<String, Pattern> getPatterns() {
+            if (patterns == null) {
+                patterns = compilePatterns(values, false);
+            }
+            return patterns;
         }
 
         public boolean isInvert() {
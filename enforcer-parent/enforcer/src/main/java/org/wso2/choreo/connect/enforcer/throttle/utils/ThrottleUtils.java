@@ -99,6 +99,7 @@ public class ThrottleUtils {
                         .toString(), ThrottleCondition.QueryParamConditions.class);
                 conditionDto.setQueryParameterConditions(queryParamCondition);
             }
+            conditionDto.compilePatterns();
             conditionDtoList.add(conditionDto);
         }
         conditionDtoList.sort((o1, o2) -> {
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.commons.exception.APISecurityException;
+import org.wso2.choreo.connect.enforcer.constants.APIConstants;
+import org.wso2.choreo.connect.enforcer.constants.APISecurityConstants;
+import org.wso2.choreo.connect.enforcer.security.jwt.BackendJwtCacheEntry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cache of the backend JWTs, which generates a token at most once at a time for a cache key.
+ * <p>
+ * Concurrent requests missing the cache for the same key wait for the token generated by the first of them,
+ * instead of signing a token each. Once {@link #REFRESH_AHEAD_RATIO} of the validity period of a cached token has
+ * passed, the token is regenerated in the background while the cached token is served until it expires. If the
+ * background refresh fails, requests waiting on it generate the token themselves.
+ */
+public class BackendJwtCache {
+    private static final Logger log = LogManager.getLogger(BackendJwtCache.class);
+
+    static final double REFRESH_AHEAD_RATIO = 0.8;
+    private static final int REFRESH_THREAD_COUNT = 2;
+    private static final int REFRESH_QUEUE_SIZE = 1000;
+    private static final long GENERATION_TIMEOUT_SECONDS = 10;
+    private static volatile BackendJwtCache instance;
+
+    private final EnforcerCache<String, BackendJwtCacheEntry> cache;
+    private final Executor refreshExecutor;
+    private final long timestampSkewMillis;
+    // Tokens being generated, against the cache key.
+    private final Map<String, CompletableFuture<String>> generations = new ConcurrentHashMap<>();
+
+    BackendJwtCache(EnforcerCache<String, BackendJwtCacheEntry> cache, Executor refreshExecutor,
+                    long timestampSkewMillis) {
+        this.cache = cache;
+        this.refreshExecutor = refreshExecutor;
+        this.timestampSkewMillis = timestampSkewMillis;
+    }
+
+    public static BackendJwtCache getInstance() {
+        if (instance == null) {
+            synchronized (BackendJwtCache.class) {
+                if (instance == null) {
+                    ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(REFRESH_THREAD_COUNT,
+                            REFRESH_THREAD_COUNT, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(REFRESH_QUEUE_SIZE),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "backend-jwt-refresh");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    refreshExecutor.allowCoreThreadTimeOut(true);
+                    instance = new BackendJwtCache(CacheProvider.getGatewayJWTTokenCache(), refreshExecutor,
+                            TimeUnit.SECONDS.toMillis(FilterUtils.getTimeStampSkewInSeconds()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the cached token of a key, or generate it if there is no valid token cached.
+     *
+     * @param cacheKey  key of the token
+     * @param generator generator of the token, which may be called from a background thread to refresh the token
+     * @return backend JWT
+     * @throws APISecurityException if an error occurs while generating the token
+     */
+    public String getToken(String cacheKey, TokenGenerator generator) throws APISecurityException {
+        BackendJwtCacheEntry entry = cache.getIfPresent(cacheKey);
+        if (entry != null) {
+            if (entry.isRefreshDue(System.currentTimeMillis())) {
+                refresh(cacheKey, generator);
+            }
+            return entry.getToken();
+        }
+
+        CompletableFuture<String> generation = new CompletableFuture<>();
+        CompletableFuture<String> ongoingGeneration;
+        while ((ongoingGeneration = generations.putIfAbsent(cacheKey, generation)) != null) {
+            String token = awaitGeneration(ongoingGeneration);
+            if (token != null) {
+                return token;
+            }
+            // A background refresh did not produce a token, and the token it was refreshing may have expired.
+        }
+        try {
+            // The token may have been cached by a generation completed after the lookup above.
+            entry = cache.getIfPresent(cacheKey);
+            String token = entry != null ? entry.getToken() : generateAndCache(cacheKey, generator);
+            generation.complete(token);
+            return token;
+        } catch (APISecurityException | RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        } finally {
+            generations.remove(cacheKey, generation);
+        }
+    }
+
+    private void refresh(String cacheKey, TokenGenerator generator) {
+        CompletableFuture<String> generation = new CompletableFuture<>();
+        if (generations.putIfAbsent(cacheKey, generation) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String token = null;
+                try {
+                    token = generateAndCache(cacheKey, generator);
+                } catch (APISecurityException | RuntimeException e) {
+                    // The current token is served until it expires, and it is refreshed again by a later request.
+                    log.debug("Error while refreshing the backend JWT", e);
+                } finally {
+                    // Removed before completing, so that waiters which get no token do not find it again.
+                    generations.remove(cacheKey, generation);
+                    generation.complete(token);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Backend JWT refresh is skipped as the refresh queue is full");
+            generations.remove(cacheKey, generation);
+            generation.complete(null);
+        }
+    }
+
+    private String generateAndCache(String cacheKey, TokenGenerator generator) throws APISecurityException {
+        String token = generator.generate();
+        long now = System.currentTimeMillis();
+        long validUntil;
+        try {
+            validUntil = JWTUtils.getExpiryTime(token) - timestampSkewMillis;
+        } catch (RuntimeException e) {
+            log.debug("Backend JWT is not cached as its expiry time cannot be read", e);
+            return token;
+        }
+        if (validUntil > now) {
+            long refreshAt = now + (long) ((validUntil - now) * REFRESH_AHEAD_RATIO);
+            cache.put(cacheKey, new BackendJwtCacheEntry(token, validUntil, refreshAt), validUntil);
+        }
+        return token;
+    }
+
+    /**
+     * Wait for a token being generated by another request.
+     *
+     * @param generation token generation
+     * @return generated token, or null if a background refresh did not generate a token
+     * @throws APISecurityException if the generation failed or did not complete in time
+     */
+    private static String awaitGeneration(CompletableFuture<String> generation) throws APISecurityException {
+        try {
+            return generation.get(GENERATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.error("Backend JWT generation did not complete within {} seconds", GENERATION_TIMEOUT_SECONDS);
+            throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR,
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR,
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof APISecurityException) {
+                throw (APISecurityException) e.getCause();
+            }
+            throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR,
+                    APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE, e.getCause());
+        }
+    }
+
+    /**
+     * Generator of a backend JWT.
+     */
+    @FunctionalInterface
+    public interface TokenGenerator {
+        /**
+         * @return backend JWT
+         * @throws APISecurityException if an error occurs while generating the token
+         */
+        String generate() throws APISecurityException;
+    }
+}
@@ -18,7 +18,6 @@
 
 package org.wso2.choreo.connect.enforcer.util;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.carbon.apimgt.common.gateway.dto.JWTConfigurationDto;
@@ -27,7 +26,6 @@ import org.wso2.carbon.apimgt.common.gateway.exception.JWTGeneratorException;
 import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.APIMgtGatewayJWTGeneratorImpl;
 import org.wso2.carbon.apimgt.common.gateway.jwtgenerator.AbstractAPIMgtGatewayJWTGenerator;
 import org.wso2.carbon.apimgt.common.gateway.jwttransformer.JWTTransformer;
-import org.wso2.choreo.connect.enforcer.common.CacheProvider;
 import org.wso2.choreo.connect.enforcer.commons.exception.APISecurityException;
 import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
@@ -64,27 +62,15 @@ public class BackendJwtUtils {
                                                boolean isGatewayTokenCacheEnabled) throws APISecurityException {
         log.debug("Inside generateAndRetrieveJWTToken");
         String endUserToken = null;
-        boolean valid = false;
         String jwtTokenCacheKey = jwtInfoDto.getApiContext().concat(":").concat(jwtInfoDto.getVersion()).concat(":")
                 .concat(tokenSignature); // TODO: (suksw) Check if to add tenantName or label also
 
         if (jwtGenerator != null) {
             if (isGatewayTokenCacheEnabled) {
-                try {
-                    Object token = CacheProvider.getGatewayJWTTokenCache().get(jwtTokenCacheKey);
-                    if (token != null && !JWTConstants.UNAVAILABLE.equals(token)) {
-                        endUserToken = (String) token;
-                        valid = !JWTUtils.isExpired(endUserToken);
-                    }
-                } catch (Exception e) {
-                    log.error("Error while getting token from the cache", e);
-                }
-
-                if (StringUtils.isEmpty(endUserToken) || !valid) {
-                    endUserToken = generateToken(jwtGenerator, jwtInfoDto, true, jwtTokenCacheKey);
-                }
+                endUserToken = BackendJwtCache.getInstance().getToken(jwtTokenCacheKey,
+                        () -> generateToken(jwtGenerator, jwtInfoDto));
             } else {
-                endUserToken = generateToken(jwtGenerator, jwtInfoDto, false, jwtTokenCacheKey);
+                endUserToken = generateToken(jwtGenerator, jwtInfoDto);
             }
         } else {
             log.debug("Error while loading JWTGenerator");
@@ -92,24 +78,19 @@ public class BackendJwtUtils {
         return endUserToken;
     }
 
-    private static String generateToken(AbstractAPIMgtGatewayJWTGenerator jwtGenerator, JWTInfoDto jwtInfoDto,
-                   boolean isGatewayTokenCacheEnabled, String jwtTokenCacheKey) throws APISecurityException {
-        String endUserToken;
+    private static String generateToken(AbstractAPIMgtGatewayJWTGenerator jwtGenerator, JWTInfoDto jwtInfoDto)
+            throws APISecurityException {
         JWTConfigurationDto jwtConfigurationDto = ConfigHolder.getInstance().getConfig().
                 getJwtConfigurationDto();
         jwtGenerator.setJWTConfigurationDto(jwtConfigurationDto);
         try {
-            endUserToken = jwtGenerator.generateToken(jwtInfoDto);
-            if (isGatewayTokenCacheEnabled) {
-                CacheProvider.getGatewayJWTTokenCache().put(jwtTokenCacheKey, endUserToken);
-            }
+            return jwtGenerator.generateToken(jwtInfoDto);
         } catch (JWTGeneratorException e) {
             log.error("Error while Generating Backend JWT", e);
             throw new APISecurityException(APIConstants.StatusCodes.UNAUTHENTICATED.getCode(),
                     APISecurityConstants.API_AUTH_GENERAL_ERROR,
                     APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE, e);
         }
-        return endUserToken;
     }
 
     /**
@@ -117,6 +117,24 @@ public class FilterUtils {
      * @return HTTP client
      */
     public static HttpClient getHttpClient(String protocol, KeyStore clientKeyStore, Map<String, String> options) {
+        if (options == null) {
+            options = Collections.emptyMap();
+        }
+        PoolingHttpClientConnectionManager pool = getConnectionManager(protocol, clientKeyStore, options);
+        return HttpClients.custom().setConnectionManager(pool).setDefaultRequestConfig(getRequestConfig(options))
+                .build();
+    }
+
+    /**
+     * Return a connection manager with the pool limits of the given HTTP client options.
+     *
+     * @param protocol       - service endpoint protocol http/https
+     * @param clientKeyStore - keystore with key and cert for client
+     * @param options        - HTTP client options
+     * @return connection manager, or null if the SSL context could not be initialized
+     */
+    public static PoolingHttpClientConnectionManager getConnectionManager(String protocol, KeyStore clientKeyStore,
+                                                                          Map<String, String> options) {
 
         //        APIManagerConfiguration configuration = ServiceReferenceHolder.getInstance().
         //                getAPIManagerConfigurationService().getAPIManagerConfiguration();
@@ -124,10 +142,6 @@ public class FilterUtils {
         String maxTotal = "100"; //TODO : Read from config
         String defaultMaxPerRoute = "10"; //TODO : Read from config
 
-        if (options == null) {
-            options = Collections.emptyMap();
-        }
-
         PoolingHttpClientConnectionManager pool = null;
         try {
             pool = getPoolingHttpClientConnectionManager(protocol, clientKeyStore);
@@ -138,7 +152,16 @@ public class FilterUtils {
         } catch (EnforcerException e) {
             log.error("Error while getting http client connection manager", e);
         }
+        return pool;
+    }
 
+    /**
+     * Return the request config with the timeouts of the given HTTP client options.
+     *
+     * @param options - HTTP client options
+     * @return request config
+     */
+    public static RequestConfig getRequestConfig(Map<String, String> options) {
         RequestConfig.Builder pramsBuilder = RequestConfig.custom();
         if (options.containsKey(HTTPClientOptions.CONNECT_TIMEOUT)) {
             pramsBuilder.setConnectTimeout(Integer.parseInt(options.get(HTTPClientOptions.CONNECT_TIMEOUT)));
@@ -146,8 +169,7 @@ public class FilterUtils {
         if (options.containsKey(HTTPClientOptions.SOCKET_TIMEOUT)) {
             pramsBuilder.setSocketTimeout(Integer.parseInt(options.get(HTTPClientOptions.SOCKET_TIMEOUT)));
         }
-        RequestConfig params = pramsBuilder.build();
-        return HttpClients.custom().setConnectionManager(pool).setDefaultRequestConfig(params).build();
+        return pramsBuilder.build();
     }
 
     public static KeyStore createClientKeyStore(String certPath, String keyPath) {
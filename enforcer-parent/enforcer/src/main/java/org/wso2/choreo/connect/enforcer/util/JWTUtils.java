@@ -18,7 +18,6 @@
 
 package org.wso2.choreo.connect.enforcer.util;
 
-import com.google.common.cache.LoadingCache;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSVerifier;
@@ -33,27 +32,25 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
 import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
-import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
 import org.wso2.choreo.connect.enforcer.constants.APIConstants;
 import org.wso2.choreo.connect.enforcer.constants.Constants;
 import org.wso2.choreo.connect.enforcer.constants.JwtConstants;
 import org.wso2.choreo.connect.enforcer.dto.APIKeyValidationInfoDTO;
 import org.wso2.choreo.connect.enforcer.security.jwt.SignedJWTInfo;
+import org.wso2.choreo.connect.enforcer.security.jwt.validator.JWSVerifierHolder;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyFactory;
-import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
-import java.security.cert.Certificate;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
@@ -70,26 +67,26 @@ public class JWTUtils {
     private static final Logger log = LogManager.getLogger(JWTUtils.class);
 
     /**
-     * This method used to retrieve JWKS keys from endpoint.
+     * This method used to retrieve JWKS keys from endpoint using the given HTTP client. The client is not closed,
+     * so that its connections can be reused for the subsequent requests.
      *
+     * @param httpClient   HTTP client
      * @param jwksEndpoint jwksEndpoint
-     * @return JwksKeys
+     * @return JwksKeys, or null if the endpoint did not respond with 200 OK
      * @throws IOException Exception while invoking the JWKS endpoint
      */
-    public static String retrieveJWKSConfiguration(String jwksEndpoint) throws IOException {
-
-        URL url = new URL(jwksEndpoint);
-        try (CloseableHttpClient httpClient = (CloseableHttpClient) FilterUtils.getHttpClient(url.getProtocol())) {
-            HttpGet httpGet = new HttpGet(jwksEndpoint);
-            try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
-                if (response.getStatusLine().getStatusCode() == 200) {
-                    HttpEntity entity = response.getEntity();
-                    try (InputStream content = entity.getContent()) {
-                        return IOUtils.toString(content, Charset.defaultCharset());
-                    }
-                } else {
-                    return null;
+    public static String retrieveJWKSConfiguration(CloseableHttpClient httpClient, String jwksEndpoint)
+            throws IOException {
+
+        HttpGet httpGet = new HttpGet(jwksEndpoint);
+        try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
+            if (response.getStatusLine().getStatusCode() == 200) {
+                HttpEntity entity = response.getEntity();
+                try (InputStream content = entity.getContent()) {
+                    return IOUtils.toString(content, Charset.defaultCharset());
                 }
+            } else {
+                return null;
             }
         }
     }
@@ -103,11 +100,23 @@ public class JWTUtils {
      */
     public static boolean verifyTokenSignature(SignedJWT jwt, RSAPublicKey publicKey) {
 
+        return verifyTokenSignature(jwt, new RSASSAVerifier(publicKey));
+    }
+
+    /**
+     * Verify the JWT token signature with a verifier created for an RSA public key. The verifier can be reused
+     * across tokens.
+     *
+     * @param jwt         SignedJwt Token
+     * @param jwsVerifier RSA signature verifier
+     * @return whether the signature is verified or not
+     */
+    public static boolean verifyTokenSignature(SignedJWT jwt, JWSVerifier jwsVerifier) {
+
         JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
         if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) || JWSAlgorithm.RS384
                 .equals(algorithm))) {
             try {
-                JWSVerifier jwsVerifier = new RSASSAVerifier(publicKey);
                 return jwt.verify(jwsVerifier);
             } catch (JOSEException e) {
                 log.error("Error while verifying JWT signature", e);
@@ -129,29 +138,14 @@ public class JWTUtils {
      */
     public static boolean verifyTokenSignature(SignedJWT jwt, String alias) throws EnforcerException {
 
-        Certificate publicCert;
-        try {
-            if (ConfigHolder.getInstance().getTrustStoreForJWT().containsAlias(alias)) {
-                publicCert = ConfigHolder.getInstance().getTrustStoreForJWT().getCertificate(alias);
-            } else {
-                throw new EnforcerException("Could not find the certificate for the token service.");
-            }
-        } catch (KeyStoreException e) {
-            throw new EnforcerException("Error while retrieving the certificate for JWT verification.", e);
-        }
-
-        if (publicCert != null) {
-            JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
-            if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) || JWSAlgorithm.RS384
-                    .equals(algorithm))) {
-                return verifyTokenSignature(jwt, (RSAPublicKey) publicCert.getPublicKey());
-            } else {
-                log.error("Public key is not RSA");
-                throw new EnforcerException("Public key is not RSA");
-            }
+        JWSVerifier jwsVerifier = JWSVerifierHolder.getInstance().getVerifier(alias);
+        JWSAlgorithm algorithm = jwt.getHeader().getAlgorithm();
+        if ((JWSAlgorithm.RS256.equals(algorithm) || JWSAlgorithm.RS512.equals(algorithm) || JWSAlgorithm.RS384
+                .equals(algorithm))) {
+            return verifyTokenSignature(jwt, jwsVerifier);
         } else {
-            log.error("Couldn't find a public certificate to verify the signature");
-            throw new EnforcerException("Couldn't find a public certificate to verify the signature");
+            log.error("Public key is not RSA");
+            throw new EnforcerException("Public key is not RSA");
         }
     }
 
@@ -187,29 +181,50 @@ public class JWTUtils {
      * @throws ParseException if an error occurs when decoding the JWT
      */
     public static SignedJWTInfo getSignedJwt(String accessToken) throws ParseException {
-        String signature = accessToken.split("\\.")[2];
+        String signature = getTokenSignature(accessToken);
         SignedJWTInfo signedJWTInfo = null;
         //Check whether GatewaySignedJWTParseCache is correct
-        LoadingCache gatewaySignedJWTParseCache = CacheProvider.getGatewaySignedJWTParseCache();
+        EnforcerCache<String, SignedJWTInfo> gatewaySignedJWTParseCache = CacheProvider.getGatewaySignedJWTParseCache();
         if (gatewaySignedJWTParseCache != null) {
-            Object cachedEntry = gatewaySignedJWTParseCache.getIfPresent(signature);
-            if (cachedEntry != null) {
-                signedJWTInfo = (SignedJWTInfo) cachedEntry;
-            }
+            signedJWTInfo = gatewaySignedJWTParseCache.getIfPresent(signature);
             if (signedJWTInfo == null  || !signedJWTInfo.getToken().equals(accessToken)) {
-                SignedJWT signedJWT = SignedJWT.parse(accessToken);
-                JWTClaimsSet jwtClaimsSet = signedJWT.getJWTClaimsSet();
-                signedJWTInfo = new SignedJWTInfo(accessToken, signedJWT, jwtClaimsSet);
+                signedJWTInfo = parseSignedJwt(accessToken);
                 gatewaySignedJWTParseCache.put(signature, signedJWTInfo);
             }
         } else {
-            SignedJWT signedJWT = SignedJWT.parse(accessToken);
-            JWTClaimsSet jwtClaimsSet = signedJWT.getJWTClaimsSet();
-            signedJWTInfo = new SignedJWTInfo(accessToken, signedJWT, jwtClaimsSet);
+            signedJWTInfo = parseSignedJwt(accessToken);
         }
         return signedJWTInfo;
     }
 
+    /**
+     * Parse the JWT without looking up the parsed JWT cache.
+     *
+     * @param accessToken the raw access token
+     * @return the internal representation of the JWT
+     * @throws ParseException if an error occurs when decoding the JWT
+     */
+    public static SignedJWTInfo parseSignedJwt(String accessToken) throws ParseException {
+        SignedJWT signedJWT = SignedJWT.parse(accessToken);
+        JWTClaimsSet jwtClaimsSet = signedJWT.getJWTClaimsSet();
+        return new SignedJWTInfo(accessToken, signedJWT, jwtClaimsSet);
+    }
+
+    /**
+     * Get the signature part of a JWT.
+     *
+     * @param accessToken the raw access token
+     * @return the signature of the JWT
+     * @throws IllegalArgumentException if the token does not have three parts
+     */
+    public static String getTokenSignature(String accessToken) {
+        int signatureStart = accessToken.lastIndexOf('.');
+        if (signatureStart == -1 || accessToken.indexOf('.') == signatureStart) {
+            throw new IllegalArgumentException("Invalid JWT. A JWT should have three parts");
+        }
+        return accessToken.substring(signatureStart + 1);
+    }
+
     /**
      * Check if the JWT token is expired.
      *
@@ -217,12 +232,22 @@ public class JWTUtils {
      * @return true if expired
      */
     public static boolean isExpired(String token) {
+        long exp = TimeUnit.MILLISECONDS.toSeconds(getExpiryTime(token));
+        long timestampSkew = FilterUtils.getTimeStampSkewInSeconds();
+        return (exp - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) < timestampSkew);
+    }
+
+    /**
+     * Get the expiry time of a JWT, without verifying it.
+     *
+     * @param token the JWT token
+     * @return the expiry time in milliseconds
+     */
+    public static long getExpiryTime(String token) {
         String[] splitToken = token.split("\\.");
         org.json.JSONObject payload = new org.json.JSONObject(new String(Base64.getUrlDecoder().
                 decode(splitToken[1])));
-        long exp = payload.getLong(JwtConstants.EXP);
-        long timestampSkew = FilterUtils.getTimeStampSkewInSeconds();
-        return (exp - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) < timestampSkew);
+        return TimeUnit.SECONDS.toMillis(payload.getLong(JwtConstants.EXP));
     }
 
     /**
@@ -129,11 +129,13 @@ public class WebSocketResponseObserver implements StreamObserver<WebSocketFrameR
     public void onError(Throwable throwable) {
         logger.error("websocket frame service onError: " + throwable.toString());
         WebSocketFrameService.removeObserver(streamId);
+        webSocketHandler.closeSession();
     }
 
     @Override
     public void onCompleted() {
         WebSocketFrameService.removeObserver(streamId);
+        webSocketHandler.closeSession();
     }
 
     // Not used for throttling purposes currently. Only kept as a reference
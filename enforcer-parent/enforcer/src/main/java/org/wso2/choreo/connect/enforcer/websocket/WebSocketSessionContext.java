@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.websocket;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.wso2.choreo.connect.enforcer.commons.model.AuthenticationContext;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Context of a WebSocket connection, which is derived from the ext_authz metadata of its first frame. The metadata
+ * does not change during the lifetime of the connection, hence the context is shared by all the frames of the
+ * connection. The authentication context is not modified while processing the frames. The client IP is parsed once
+ * for the connection.
+ */
+public class WebSocketSessionContext {
+    private static final Logger log = LogManager.getLogger(WebSocketSessionContext.class);
+
+    private final String streamId;
+    private final String apiBasePath;
+    private final String requestId;
+    private final String remoteIp;
+    private final String clientIp;
+    private final InetAddress clientIpAddress;
+    private final AuthenticationContext authenticationContext;
+
+    public WebSocketSessionContext(String streamId, String apiBasePath, String requestId, String remoteIp,
+                                   String clientIp, AuthenticationContext authenticationContext) {
+        this.streamId = streamId;
+        this.apiBasePath = apiBasePath;
+        this.requestId = requestId;
+        this.remoteIp = remoteIp;
+        this.clientIp = clientIp;
+        this.clientIpAddress = parseClientIp(clientIp);
+        this.authenticationContext = authenticationContext;
+    }
+
+    public String getStreamId() {
+        return streamId;
+    }
+
+    public String getApiBasePath() {
+        return apiBasePath;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * @return remote address of the connection, along with the port
+     */
+    public String getRemoteIp() {
+        return remoteIp;
+    }
+
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    /**
+     * @return parsed client IP, or null if the client IP is not available or invalid
+     */
+    public InetAddress getClientIpAddress() {
+        return clientIpAddress;
+    }
+
+    public AuthenticationContext getAuthenticationContext() {
+        return authenticationContext;
+    }
+
+    private static InetAddress parseClientIp(String clientIp) {
+        if (StringUtils.isEmpty(clientIp)) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(clientIp);
+        } catch (UnknownHostException e) {
+            log.debug("Error while parsing the client IP {}", clientIp, e);
+            return null;
+        }
+    }
+}
@@ -44,9 +44,6 @@ import org.wso2.choreo.connect.enforcer.util.FilterUtils;
 import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
-import java.net.UnknownHostException;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * WebSocketThrottleFilter handles the throttling of web socket connections
@@ -80,7 +77,7 @@ public class WebSocketThrottleFilter implements Filter {
                 return false;
             }
             // publish throttle event and continue the filter chain
-            ThrottleAgent.publishNonThrottledEvent(getThrottleEventMap(requestContext));
+            ThrottleAgent.publishNonThrottledEvent(getThrottleEventPayload(requestContext));
             return true;
         } finally {
             if (Utils.tracingEnabled()) {
@@ -219,9 +216,9 @@ public class WebSocketThrottleFilter implements Filter {
         return decision;
     }
 
-    private Map<String, String> getThrottleEventMap(RequestContext requestContext) {
+    private Object[] getThrottleEventPayload(RequestContext requestContext) {
         AuthenticationContext authContext = requestContext.getAuthenticationContext();
-        Map<String, String> throttleEvent = new HashMap<>();
+        Object[] throttleEvent = new Object[ThrottleEventConstants.PAYLOAD_SIZE];
         APIConfig api = requestContext.getMatchedAPI();
 
         String basePath = api.getBasePath();
@@ -237,25 +234,25 @@ public class WebSocketThrottleFilter implements Filter {
             tenantDomain = APIConstants.SUPER_TENANT_DOMAIN_NAME;
         }
 
-        throttleEvent.put(ThrottleEventConstants.MESSAGE_ID, requestContext.getRequestID());
-        throttleEvent.put(ThrottleEventConstants.APP_KEY, authContext.getApplicationId() + ":" + authorizedUser);
-        throttleEvent.put(ThrottleEventConstants.APP_TIER, authContext.getApplicationTier());
-        throttleEvent.put(ThrottleEventConstants.API_KEY, apiContext);
-        throttleEvent.put(ThrottleEventConstants.API_TIER, apiTier);
-        throttleEvent.put(ThrottleEventConstants.RESOURCE_TIER, apiTier);
-        throttleEvent.put(ThrottleEventConstants.RESOURCE_KEY, apiContext);
-        throttleEvent.put(ThrottleEventConstants.SUBSCRIPTION_KEY, authContext.getApplicationId() + ":" +
-                apiContext);
-        throttleEvent.put(ThrottleEventConstants.SUBSCRIPTION_TIER, authContext.getTier());
+        throttleEvent[ThrottleEventConstants.MESSAGE_ID_INDEX] = requestContext.getRequestID();
+        throttleEvent[ThrottleEventConstants.APP_KEY_INDEX] = authContext.getApplicationId() + ":" + authorizedUser;
+        throttleEvent[ThrottleEventConstants.APP_TIER_INDEX] = authContext.getApplicationTier();
+        throttleEvent[ThrottleEventConstants.API_KEY_INDEX] = apiContext;
+        throttleEvent[ThrottleEventConstants.API_TIER_INDEX] = apiTier;
+        throttleEvent[ThrottleEventConstants.RESOURCE_TIER_INDEX] = apiTier;
+        throttleEvent[ThrottleEventConstants.RESOURCE_KEY_INDEX] = apiContext;
+        throttleEvent[ThrottleEventConstants.SUBSCRIPTION_KEY_INDEX] = authContext.getApplicationId() + ":" +
+                apiContext;
+        throttleEvent[ThrottleEventConstants.SUBSCRIPTION_TIER_INDEX] = authContext.getTier();
         // TODO: (Praminda) should publish with tenant domain?
-        throttleEvent.put(ThrottleEventConstants.USER_ID, authorizedUser);
-        throttleEvent.put(ThrottleEventConstants.API_CONTEXT, basePath);
-        throttleEvent.put(ThrottleEventConstants.API_VERSION, apiVersion);
-        throttleEvent.put(ThrottleEventConstants.APP_TENANT, authContext.getSubscriberTenantDomain());
-        throttleEvent.put(ThrottleEventConstants.API_TENANT, tenantDomain);
-        throttleEvent.put(ThrottleEventConstants.APP_ID, String.valueOf(authContext.getApplicationId()));
-        throttleEvent.put(ThrottleEventConstants.API_NAME, apiName);
-        throttleEvent.put(ThrottleEventConstants.PROPERTIES, getProperties(requestContext).toString());
+        throttleEvent[ThrottleEventConstants.USER_ID_INDEX] = authorizedUser;
+        throttleEvent[ThrottleEventConstants.API_CONTEXT_INDEX] = basePath;
+        throttleEvent[ThrottleEventConstants.API_VERSION_INDEX] = apiVersion;
+        throttleEvent[ThrottleEventConstants.APP_TENANT_INDEX] = authContext.getSubscriberTenantDomain();
+        throttleEvent[ThrottleEventConstants.API_TENANT_INDEX] = tenantDomain;
+        throttleEvent[ThrottleEventConstants.APP_ID_INDEX] = String.valueOf(authContext.getApplicationId());
+        throttleEvent[ThrottleEventConstants.API_NAME_INDEX] = apiName;
+        throttleEvent[ThrottleEventConstants.PROPERTIES_INDEX] = getProperties(requestContext).toString();
         return throttleEvent;
     }
 
@@ -265,18 +262,17 @@ public class WebSocketThrottleFilter implements Filter {
         ThrottleConfigDto config = ConfigHolder.getInstance().getConfig().getThrottleConfig();
 
         if (remoteIP != null && remoteIP.length() > 0) {
-            try {
-                InetAddress address = InetAddress.getByName(remoteIP);
-                if (address instanceof Inet4Address) {
-                    jsonObMap.put(ThrottleConstants.IP, FilterUtils.ipToLong(remoteIP));
-                    jsonObMap.put(ThrottleConstants.IPV6, 0);
-                } else if (address instanceof Inet6Address) {
-                    jsonObMap.put(ThrottleConstants.IPV6, FilterUtils.ipToBigInteger(remoteIP));
-                    jsonObMap.put(ThrottleConstants.IP, 0);
-                }
-            } catch (UnknownHostException e) {
+            // The client IP is parsed once for the WebSocket connection, instead of for each frame.
+            InetAddress address = requestContext.getClientIpAddress();
+            if (address instanceof Inet4Address) {
+                jsonObMap.put(ThrottleConstants.IP, requestContext.getClientIpValue().longValue());
+                jsonObMap.put(ThrottleConstants.IPV6, 0);
+            } else if (address instanceof Inet6Address) {
+                jsonObMap.put(ThrottleConstants.IPV6, requestContext.getClientIpValue());
+                jsonObMap.put(ThrottleConstants.IP, 0);
+            } else {
                 //send empty value as ip
-                log.error("Error while parsing host IP {}", remoteIP, e);
+                log.error("Error while parsing host IP {}", remoteIP);
                 jsonObMap.put(ThrottleConstants.IPV6, 0);
                 jsonObMap.put(ThrottleConstants.IP, 0);
             }
@@ -298,17 +294,16 @@ public class WebSocketThrottleFilter implements Filter {
 
     private Decision checkApiThrottled(String throttleKey, String tier, RequestContext context) {
         log.debug("Checking if request is throttled at API level for tier: {}, key: {}", tier, throttleKey);
-        Decision decision = new Decision();
 
         if (ThrottleConstants.UNLIMITED_TIER.equals(tier)) {
-            return decision;
+            return Decision.NOT_THROTTLED;
         }
 
         if (isGlobalThrottlingEnabled) {
-            decision = dataHolder.isAdvancedThrottled(throttleKey, context);
+            Decision decision = dataHolder.isAdvancedThrottled(throttleKey, context);
             log.debug("API Level throttle decision: {}", decision.isThrottled());
             return decision;
         }
-        return decision;
+        return Decision.NOT_THROTTLED;
     }
 }
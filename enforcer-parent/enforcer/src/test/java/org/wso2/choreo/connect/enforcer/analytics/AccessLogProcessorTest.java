@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.analytics;
+
+import io.envoyproxy.envoy.data.accesslog.v3.HTTPAccessLogEntry;
+import io.envoyproxy.envoy.service.accesslog.v3.StreamAccessLogsMessage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccessLogProcessorTest {
+
+    @Test
+    public void testMessagesDroppedWhenQueueIsFull() {
+        // Without workers, the queued message is never taken.
+        AccessLogProcessor processor = new AccessLogProcessor(1, 0, message -> { });
+        Assert.assertTrue(processor.submit(createMessage(2)));
+        Assert.assertFalse(processor.submit(createMessage(3)));
+        Assert.assertEquals(1, processor.getQueueSize());
+        Assert.assertEquals(1, processor.getQueueCapacity());
+        Assert.assertEquals(1, processor.getDroppedMessageCount());
+        Assert.assertEquals(3, processor.getDroppedEntryCount());
+        Assert.assertEquals(0, processor.getProcessedEntryCount());
+    }
+
+    @Test
+    public void testDropCountersKeptAfterQueueIsDrained() throws InterruptedException {
+        CountDownLatch handlingStarted = new CountDownLatch(1);
+        CountDownLatch releaseHandling = new CountDownLatch(1);
+        AccessLogProcessor processor = new AccessLogProcessor(1, 1, message -> {
+            handlingStarted.countDown();
+            try {
+                releaseHandling.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // The worker holds the first message, and the second message fills the queue.
+        Assert.assertTrue(processor.submit(createMessage(1)));
+        Assert.assertTrue(handlingStarted.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(processor.submit(createMessage(1)));
+        Assert.assertFalse(processor.submit(createMessage(2)));
+        Assert.assertFalse(processor.submit(createMessage(4)));
+        Assert.assertEquals(2, processor.getDroppedMessageCount());
+        Assert.assertEquals(6, processor.getDroppedEntryCount());
+
+        releaseHandling.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processor.getProcessedEntryCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue("Messages should be queued once the queue is drained",
+                processor.submit(createMessage(1)));
+        Assert.assertEquals(2, processor.getDroppedMessageCount());
+        Assert.assertEquals(6, processor.getDroppedEntryCount());
+    }
+
+    @Test
+    public void testMessagesProcessedByWorkers() throws InterruptedException {
+        int messageCount = AccessLogProcessor.MAX_BATCH_SIZE * 3;
+        CountDownLatch processed = new CountDownLatch(messageCount);
+        AtomicInteger failureCount = new AtomicInteger();
+        AccessLogProcessor processor = new AccessLogProcessor(messageCount, 2, message -> {
+            processed.countDown();
+            // A failing message should not stop the worker.
+            if (failureCount.incrementAndGet() % 10 == 0) {
+                throw new IllegalStateException("Failed to process the message");
+            }
+        });
+        for (int i = 0; i < messageCount; i++) {
+            Assert.assertTrue(processor.submit(createMessage(1)));
+        }
+        Assert.assertTrue(processed.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processor.getProcessedEntryCount() < messageCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(messageCount, processor.getProcessedEntryCount());
+        Assert.assertEquals(0, processor.getDroppedEntryCount());
+    }
+
+    private static StreamAccessLogsMessage createMessage(int entryCount) {
+        StreamAccessLogsMessage.HTTPAccessLogEntries.Builder entries =
+                StreamAccessLogsMessage.HTTPAccessLogEntries.newBuilder();
+        for (int i = 0; i < entryCount; i++) {
+            entries.addLogEntry(HTTPAccessLogEntry.newBuilder().build());
+        }
+        return StreamAccessLogsMessage.newBuilder().setHttpLogs(entries).build();
+    }
+}
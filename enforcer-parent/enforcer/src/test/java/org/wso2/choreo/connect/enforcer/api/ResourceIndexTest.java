@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.api;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.commons.model.ResourceConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResourceIndexTest {
+
+    @Test
+    public void testMatchByPathAndMethod() {
+        List<ResourceConfig> resources = new ArrayList<>();
+        ResourceConfig getPet = createResource("/pet/{petId}", ResourceConfig.HttpMethods.GET);
+        ResourceConfig deletePet = createResource("/pet/{petId}", ResourceConfig.HttpMethods.DELETE);
+        ResourceConfig postPet = createResource("/pet", ResourceConfig.HttpMethods.POST);
+        resources.add(getPet);
+        resources.add(deletePet);
+        resources.add(postPet);
+        ResourceIndex resourceIndex = new ResourceIndex(resources);
+
+        Assert.assertSame(getPet, resourceIndex.getMatchedResource("/pet/{petId}", "GET"));
+        Assert.assertSame(deletePet, resourceIndex.getMatchedResource("/pet/{petId}", "DELETE"));
+        Assert.assertSame(postPet, resourceIndex.getMatchedResource("/pet", "POST"));
+        Assert.assertNull(resourceIndex.getMatchedResource("/pet", "GET"));
+        Assert.assertNull(resourceIndex.getMatchedResource("/store", "GET"));
+        Assert.assertNull(resourceIndex.getMatchedResource(null, "GET"));
+    }
+
+    @Test
+    public void testMatchWithoutMethodReturnsFirstDeclared() {
+        List<ResourceConfig> resources = new ArrayList<>();
+        ResourceConfig postPet = createResource("/pet", ResourceConfig.HttpMethods.POST);
+        ResourceConfig getPet = createResource("/pet", ResourceConfig.HttpMethods.GET);
+        resources.add(postPet);
+        resources.add(getPet);
+        ResourceIndex resourceIndex = new ResourceIndex(resources);
+
+        Assert.assertSame(postPet, resourceIndex.getMatchedResource("/pet", null));
+    }
+
+    @Test
+    public void testUnknownMethodDoesNotMatch() {
+        List<ResourceConfig> resources = new ArrayList<>();
+        resources.add(createResource("/pet", ResourceConfig.HttpMethods.GET));
+        ResourceIndex resourceIndex = new ResourceIndex(resources);
+
+        Assert.assertNull(resourceIndex.getMatchedResource("/pet", "TRACE"));
+        Assert.assertNull(resourceIndex.getMatchedResource("/pet", "get"));
+    }
+
+    private ResourceConfig createResource(String path, ResourceConfig.HttpMethods method) {
+        ResourceConfig resourceConfig = new ResourceConfig();
+        resourceConfig.setPath(path);
+        resourceConfig.setMethod(method);
+        return resourceConfig;
+    }
+}
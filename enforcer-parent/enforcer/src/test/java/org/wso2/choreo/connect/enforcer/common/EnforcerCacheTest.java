@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EnforcerCacheTest {
+
+    @Test
+    public void testEntryExpiresAtGivenTime() {
+        EnforcerCache<String, String> cache = new EnforcerCache<>("test", 10, 15);
+        cache.put("valid", "value", System.currentTimeMillis() + 60000);
+        cache.put("expired", "value", System.currentTimeMillis() - 1);
+        cache.put("noExpiry", "value");
+
+        Assert.assertEquals("value", cache.getIfPresent("valid"));
+        Assert.assertEquals("value", cache.getIfPresent("noExpiry"));
+        Assert.assertNull(cache.getIfPresent("expired"));
+        Assert.assertNull(cache.getIfPresent("unknown"));
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testStatistics() {
+        EnforcerCache<String, String> cache = new EnforcerCache<>("test", 10, 15);
+        cache.put("key", "value");
+        cache.put("expired", "value", System.currentTimeMillis() - 1);
+
+        cache.getIfPresent("key");
+        cache.getIfPresent("key");
+        cache.getIfPresent("unknown");
+        cache.getIfPresent("expired");
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals("test", cache.getName());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        EnforcerCache<String, String> cache = new EnforcerCache<>("test", 10, 15);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, "value");
+        }
+
+        Assert.assertTrue(cache.size() <= 10);
+        Assert.assertTrue(cache.getEvictionCount() > 0);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.api.GraphQLAPI;
+import org.wso2.choreo.connect.enforcer.api.ResponseObject;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.commons.model.APIConfig;
+import org.wso2.choreo.connect.enforcer.commons.model.RequestContext;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.AuthHeaderDto;
+import org.wso2.choreo.connect.enforcer.constants.APIConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class GraphQLPayloadUtilsTest {
+    private static final String QUERY = "{ hero { name } }";
+    private static final String QUERY_HASH = GraphQLQueryCache.hashQuery(QUERY);
+
+    private GraphQLQueryCache queryCache;
+    private Map<String, String> headers;
+
+    @Before
+    public void setup() {
+        // Persisted queries are held without parsing them, hence the schema is not needed.
+        queryCache = new GraphQLQueryCache(null, new EnforcerCache<>("test", 10, 15),
+                new EnforcerCache<>("test", 10, 15));
+        headers = new HashMap<>();
+        headers.put(APIConstants.CONTENT_TYPE_HEADER, APIConstants.APPLICATION_JSON);
+    }
+
+    @Test
+    public void testQueryWithMatchingHashIsReturnedToPersist() throws EnforcerException {
+        GraphQLRequestPayload payload = GraphQLPayloadUtils.getGQLRequestPayload(queryCache,
+                createPayload(QUERY, 1, QUERY_HASH.toUpperCase()), headers);
+
+        Assert.assertEquals(QUERY, payload.getQuery());
+        Assert.assertEquals(QUERY_HASH.toUpperCase(), payload.getPersistedQueryHash());
+        // The query is not persisted until the request is allowed.
+        Assert.assertNull(queryCache.getPersistedQuery(QUERY_HASH));
+    }
+
+    @Test(expected = EnforcerException.class)
+    public void testQueryWithMismatchingHashIsRejected() throws EnforcerException {
+        String otherQueryHash = GraphQLQueryCache.hashQuery("{ hero { id } }");
+        GraphQLPayloadUtils.getGQLRequestPayload(queryCache, createPayload(QUERY, 1, otherQueryHash), headers);
+    }
+
+    @Test(expected = PersistedQueryNotFoundException.class)
+    public void testUnknownHashIsNotFound() throws EnforcerException {
+        GraphQLPayloadUtils.getGQLRequestPayload(queryCache, createPayload(null, 1, QUERY_HASH), headers);
+    }
+
+    @Test
+    public void testPersistedQueryIsResolvedFromHash() throws EnforcerException {
+        queryCache.persistQuery(QUERY_HASH.toUpperCase(), QUERY);
+        GraphQLRequestPayload payload = GraphQLPayloadUtils.getGQLRequestPayload(queryCache,
+                createPayload(null, 1, QUERY_HASH), headers);
+
+        Assert.assertEquals(QUERY, payload.getQuery());
+        // The query is already persisted.
+        Assert.assertNull(payload.getPersistedQueryHash());
+    }
+
+    @Test
+    public void testUnsupportedVersionFallsBackToQuery() throws EnforcerException {
+        String otherQueryHash = GraphQLQueryCache.hashQuery("{ hero { id } }");
+        GraphQLRequestPayload payload = GraphQLPayloadUtils.getGQLRequestPayload(queryCache,
+                createPayload(QUERY, 2, otherQueryHash), headers);
+
+        Assert.assertEquals(QUERY, payload.getQuery());
+        Assert.assertNull(payload.getPersistedQueryHash());
+    }
+
+    @Test
+    public void testPersistedQueryIsIgnoredWhenDisabled() throws EnforcerException {
+        queryCache.persistQuery(QUERY_HASH, QUERY);
+        GraphQLRequestPayload payload = GraphQLPayloadUtils.getGQLRequestPayload((GraphQLQueryCache) null,
+                createPayload(QUERY, 1, QUERY_HASH), headers);
+
+        Assert.assertEquals(QUERY, payload.getQuery());
+        Assert.assertNull(payload.getPersistedQueryHash());
+        try {
+            GraphQLPayloadUtils.getGQLRequestPayload((GraphQLQueryCache) null, createPayload(null, 1, QUERY_HASH),
+                    headers);
+            Assert.fail("Only the hash of a query should not be accepted when persisted queries are disabled");
+        } catch (PersistedQueryNotFoundException e) {
+            Assert.fail("Persisted queries should not be looked up when they are disabled");
+        } catch (EnforcerException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testPersistedQueryNotFoundResponse() {
+        APIConfig apiConfig = new APIConfig.Builder("StarWarsAPI").basePath("/graphql")
+                .apiType(APIConstants.ApiType.GRAPHQL).securitySchemeDefinitions(new HashMap<>()).build();
+        RequestContext requestContext = new RequestContext.Builder("/graphql").requestMethod("POST")
+                .matchedAPI(apiConfig).headers(headers).build();
+        GraphQLPayloadUtils.preparePersistedQueryNotFoundResponse(requestContext);
+        // The authorization headers of the request are removed before the response is prepared.
+        ConfigHolder.getInstance().getConfig().setAuthHeader(new AuthHeaderDto());
+
+        ResponseObject responseObject = new GraphQLAPI().process(requestContext);
+
+        Assert.assertTrue(responseObject.isDirectResponse());
+        Assert.assertEquals(APIConstants.StatusCodes.OK.getCode(), responseObject.getStatusCode());
+        Assert.assertEquals(GraphQLPayloadUtils.PERSISTED_QUERY_NOT_FOUND_RESPONSE,
+                responseObject.getResponseContent());
+        Assert.assertEquals(APIConstants.APPLICATION_JSON,
+                responseObject.getHeaderMap().get(APIConstants.CONTENT_TYPE_HEADER));
+    }
+
+    private static String createPayload(String query, int version, String sha256Hash) {
+        StringBuilder payload = new StringBuilder("{");
+        if (query != null) {
+            payload.append("\"query\":\"").append(query).append("\",");
+        }
+        payload.append("\"extensions\":{\"persistedQuery\":{\"version\":").append(version)
+                .append(",\"sha256Hash\":\"").append(sha256Hash).append("\"}}}");
+        return payload.toString();
+    }
+}
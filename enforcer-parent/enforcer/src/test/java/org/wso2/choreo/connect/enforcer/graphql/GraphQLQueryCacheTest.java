@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.graphql;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.commons.model.GraphQLSchemaDTO;
+
+import java.util.ArrayList;
+
+public class GraphQLQueryCacheTest {
+    private static final String SCHEMA = "type Query { hero: Character }\n"
+            + "type Character { name: String, friends: [Character] }";
+    private static final String QUERY = "query { hero { name friends { name } } }";
+
+    private GraphQLQueryCache queryCache;
+
+    @Before
+    public void setup() {
+        TypeDefinitionRegistry registry = new SchemaParser().parse(SCHEMA);
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+        queryCache = new GraphQLQueryCache(new GraphQLSchemaDTO(schema, registry, new ArrayList<>()),
+                new EnforcerCache<>("test", 10, 15), new EnforcerCache<>("test", 10, 15));
+    }
+
+    @Test
+    public void testParsedQueryIsCached() throws EnforcerException {
+        ParsedGraphQLQuery parsedQuery = queryCache.getParsedQuery(QUERY);
+
+        Assert.assertNull(parsedQuery.getValidationErrors());
+        Assert.assertEquals("QUERY", parsedQuery.getOperationType());
+        Assert.assertTrue(parsedQuery.getOperations().contains("hero"));
+        Assert.assertSame(parsedQuery, queryCache.getParsedQuery(QUERY));
+        Assert.assertNotSame(parsedQuery, queryCache.getParsedQuery("query { hero { name } }"));
+    }
+
+    @Test
+    public void testValidationErrorsAreCached() throws EnforcerException {
+        String invalidQuery = "query { hero { age } }";
+        ParsedGraphQLQuery parsedQuery = queryCache.getParsedQuery(invalidQuery);
+
+        Assert.assertNotNull(parsedQuery.getValidationErrors());
+        Assert.assertTrue(parsedQuery.getOperations().isEmpty());
+        Assert.assertSame(parsedQuery, queryCache.getParsedQuery(invalidQuery));
+    }
+
+    @Test(expected = EnforcerException.class)
+    public void testInvalidSyntaxIsRejected() throws EnforcerException {
+        queryCache.getParsedQuery("query { hero { name }");
+    }
+
+    @Test
+    public void testAnalysesAreKeptPerLimit() throws EnforcerException {
+        ParsedGraphQLQuery parsedQuery = queryCache.getParsedQuery(QUERY);
+        QueryAnalyzerResponseDTO shallowDepthAnalysis = createAnalysis(false);
+        QueryAnalyzerResponseDTO deepDepthAnalysis = createAnalysis(true);
+        QueryAnalyzerResponseDTO complexityAnalysis = createAnalysis(true);
+        parsedQuery.putDepthAnalysis(1, shallowDepthAnalysis);
+        parsedQuery.putDepthAnalysis(10, deepDepthAnalysis);
+        parsedQuery.putComplexityAnalysis(10, complexityAnalysis);
+
+        // The analyses are shared by the requests with the same query, through the cache.
+        ParsedGraphQLQuery cachedQuery = queryCache.getParsedQuery(QUERY);
+        Assert.assertSame(shallowDepthAnalysis, cachedQuery.getDepthAnalysis(1));
+        Assert.assertSame(deepDepthAnalysis, cachedQuery.getDepthAnalysis(10));
+        Assert.assertNull(cachedQuery.getDepthAnalysis(5));
+        Assert.assertSame(complexityAnalysis, cachedQuery.getComplexityAnalysis(10));
+        Assert.assertNull(cachedQuery.getComplexityAnalysis(1));
+    }
+
+    private static QueryAnalyzerResponseDTO createAnalysis(boolean success) {
+        QueryAnalyzerResponseDTO responseDTO = new QueryAnalyzerResponseDTO();
+        responseDTO.setSuccess(success);
+        return responseDTO;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class OPADecisionCacheTest {
+
+    @Test
+    public void testCacheDisabledByDefault() {
+        Map<String, String> policyAttrib = new HashMap<>();
+        Assert.assertNull(OPADecisionCache.fromPolicyAttributes(policyAttrib));
+        policyAttrib.put(OPADecisionCache.ENABLED, "true");
+        policyAttrib.put(OPADecisionCache.TTL, "0");
+        Assert.assertNull(OPADecisionCache.fromPolicyAttributes(policyAttrib));
+        policyAttrib.put(OPADecisionCache.TTL, "30");
+        Assert.assertNotNull(OPADecisionCache.fromPolicyAttributes(policyAttrib));
+    }
+
+    @Test
+    public void testWholePayloadKey() {
+        OPADecisionCache decisionCache = new OPADecisionCache(new EnforcerCache<>("test", 10, 15), 60, null);
+        String key = decisionCache.getKey("{\"input\":{\"method\":\"GET\",\"path\":\"/pets\"}}");
+        Assert.assertEquals(key, decisionCache.getKey("{\"input\":{\"method\":\"GET\",\"path\":\"/pets\"}}"));
+        Assert.assertNotEquals(key, decisionCache.getKey("{\"input\":{\"method\":\"GET\",\"path\":\"/pet\"}}"));
+
+        decisionCache.put(key, "{\"result\": true}");
+        Assert.assertEquals("{\"result\": true}", decisionCache.get(key));
+        Assert.assertNull(decisionCache.get(decisionCache.getKey("{}")));
+    }
+
+    @Test
+    public void testDecisionExpiresAfterTTL() throws InterruptedException {
+        OPADecisionCache decisionCache = new OPADecisionCache(new EnforcerCache<>("test", 10, 15), 1, null);
+        String key = decisionCache.getKey("{\"input\":{\"method\":\"GET\"}}");
+        decisionCache.put(key, "{\"result\": true}");
+        Assert.assertEquals("{\"result\": true}", decisionCache.get(key));
+        Thread.sleep(1100);
+        Assert.assertNull(decisionCache.get(key));
+    }
+
+    @Test
+    public void testKeysNotSharedAcrossPolicies() {
+        EnforcerCache<String, String> decisions = new EnforcerCache<>("test", 10, 15);
+        OPADecisionCache decisionCache = new OPADecisionCache(decisions, 60, null);
+        OPADecisionCache otherDecisionCache = new OPADecisionCache(decisions, 60, null);
+        String payload = "{\"input\":{\"method\":\"GET\"}}";
+        decisionCache.put(decisionCache.getKey(payload), "{\"result\": true}");
+        Assert.assertNull(otherDecisionCache.get(otherDecisionCache.getKey(payload)));
+    }
+
+    @Test
+    public void testKeyFields() {
+        OPADecisionCache decisionCache = new OPADecisionCache(new EnforcerCache<>("test", 10, 15), 60,
+                "method, transportHeaders.host");
+        String key = decisionCache.getKey(buildPayload("GET", "pets.com", "1"));
+        Assert.assertEquals("Fields not in the key should be ignored", key,
+                decisionCache.getKey(buildPayload("GET", "pets.com", "2")));
+        Assert.assertNotEquals(key, decisionCache.getKey(buildPayload("GET", "cats.com", "1")));
+        Assert.assertNotEquals(key, decisionCache.getKey(buildPayload("POST", "pets.com", "1")));
+    }
+
+    @Test
+    public void testKeyFieldsIncludeAuthenticationContext() {
+        OPADecisionCache decisionCache = new OPADecisionCache(new EnforcerCache<>("test", 10, 15), 60, "method");
+        String key = decisionCache.getKey(buildPayload("GET", "pets.com", "1", "alice"));
+        Assert.assertEquals(key, decisionCache.getKey(buildPayload("GET", "pets.com", "1", "alice")));
+        Assert.assertNotEquals("Decisions should not be shared across users", key,
+                decisionCache.getKey(buildPayload("GET", "pets.com", "1", "bob")));
+    }
+
+    private static String buildPayload(String method, String host, String requestId) {
+        return "{\"input\":{\"method\":\"" + method + "\",\"transportHeaders\":{\"host\":\"" + host
+                + "\",\"x-request-id\":\"" + requestId + "\"}}}";
+    }
+
+    private static String buildPayload(String method, String host, String requestId, String username) {
+        return "{\"input\":{\"method\":\"" + method + "\",\"authenticationContext\":{\"username\":\""
+                + username + "\"},\"transportHeaders\":{\"host\":\"" + host + "\",\"x-request-id\":\""
+                + requestId + "\"}}}";
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.interceptor.opa;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class OPAHttpClientRegistryTest {
+    private HttpServer opaServer;
+    // Remote ports of the connections the requests were received from.
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private URL policyUrl;
+
+    @Before
+    public void startServer() throws Exception {
+        opaServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        opaServer.createContext("/v1/data/policy", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] response = "{\"result\": true}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        });
+        opaServer.start();
+        policyUrl = new URL("http://localhost:" + opaServer.getAddress().getPort() + "/v1/data/policy");
+    }
+
+    @After
+    public void stopServer() {
+        opaServer.stop(0);
+    }
+
+    @Test
+    public void testConnectionReuse() throws Exception {
+        OPAHttpClientRegistry registry = new OPAHttpClientRegistry();
+        CloseableHttpClient httpClient = getHttpClient(registry, policyUrl, null, Collections.emptyMap());
+        Assert.assertEquals("{\"result\": true}", callServer(httpClient));
+        Assert.assertEquals("{\"result\": true}", callServer(
+                getHttpClient(registry, policyUrl, null, Collections.emptyMap())));
+
+        Assert.assertSame(httpClient, getHttpClient(registry, policyUrl, null, new HashMap<>()));
+        Assert.assertEquals("Both requests should use the same connection", 1, clientPorts.size());
+        Assert.assertEquals(1, registry.getTotalStats().getAvailable());
+        Assert.assertEquals(0, registry.getTotalStats().getLeased());
+    }
+
+    @Test
+    public void testClientPerOptions() throws Exception {
+        OPAHttpClientRegistry registry = new OPAHttpClientRegistry();
+        Map<String, String> options = new HashMap<>();
+        options.put(FilterUtils.HTTPClientOptions.MAX_OPEN_CONNECTIONS, "5");
+        options.put(FilterUtils.HTTPClientOptions.MAX_PER_ROUTE, "2");
+
+        CloseableHttpClient defaultClient = getHttpClient(registry, policyUrl, null, Collections.emptyMap());
+        CloseableHttpClient limitedClient = getHttpClient(registry, policyUrl, null, options);
+        Assert.assertNotSame(defaultClient, limitedClient);
+        // Policies of the same server share the client.
+        Assert.assertSame(limitedClient, getHttpClient(registry,
+                new URL(policyUrl.getProtocol(), policyUrl.getHost(), policyUrl.getPort(), "/v1/data/other"),
+                null, options));
+        Assert.assertEquals(2, registry.getClientCount());
+        Assert.assertEquals(105, registry.getTotalStats().getMax());
+    }
+
+    @Test
+    public void testStaleClientsClosedOnceReleased() throws Exception {
+        OPAHttpClientRegistry registry = new OPAHttpClientRegistry();
+        KeyStore previousKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        previousKeyStore.load(null, null);
+        KeyStore currentKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        currentKeyStore.load(null, null);
+
+        OPAHttpClientRegistry.HttpClientLease previousLease = registry.leaseHttpClient(policyUrl, previousKeyStore,
+                Collections.emptyMap());
+        CloseableHttpClient previousClient = previousLease.getHttpClient();
+        CloseableHttpClient currentClient = getHttpClient(registry, policyUrl, currentKeyStore,
+                Collections.emptyMap());
+        Assert.assertNotSame(previousClient, currentClient);
+        Assert.assertEquals("Client of the previous keystore should be removed", 1, registry.getClientCount());
+        Assert.assertEquals("{\"result\": true}", callServer(currentClient));
+        Assert.assertEquals("Leased client should not be closed", "{\"result\": true}",
+                callServer(previousClient));
+
+        previousLease.close();
+        try {
+            callServer(previousClient);
+            Assert.fail("Client of the previous keystore should be closed once it is released");
+        } catch (IllegalStateException e) {
+            // Connection pool of the closed client is shut down.
+        }
+    }
+
+    private static CloseableHttpClient getHttpClient(OPAHttpClientRegistry registry, URL url, KeyStore keyStore,
+                                                     Map<String, String> options) throws Exception {
+        try (OPAHttpClientRegistry.HttpClientLease lease = registry.leaseHttpClient(url, keyStore, options)) {
+            return lease.getHttpClient();
+        }
+    }
+
+    private String callServer(CloseableHttpClient httpClient) throws Exception {
+        HttpPost httpPost = new HttpPost(policyUrl.toString());
+        httpPost.setEntity(new StringEntity("{\"input\": {}}"));
+        try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+            return EntityUtils.toString(response.getEntity());
+        }
+    }
+}
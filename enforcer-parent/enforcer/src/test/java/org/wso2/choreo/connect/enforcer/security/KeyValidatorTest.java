@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import net.minidev.json.JSONObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.common.CacheProvider;
+import org.wso2.choreo.connect.enforcer.config.ConfigHolder;
+import org.wso2.choreo.connect.enforcer.config.dto.CacheDto;
+import org.wso2.choreo.connect.enforcer.constants.APIConstants;
+import org.wso2.choreo.connect.enforcer.dto.APIKeyValidationInfoDTO;
+import org.wso2.choreo.connect.enforcer.models.API;
+import org.wso2.choreo.connect.enforcer.models.Application;
+import org.wso2.choreo.connect.enforcer.models.ApplicationKeyMapping;
+import org.wso2.choreo.connect.enforcer.models.Subscription;
+import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataHolder;
+import org.wso2.choreo.connect.enforcer.subscription.SubscriptionDataStoreImpl;
+
+import java.util.Collections;
+import java.util.function.Supplier;
+
+public class KeyValidatorTest {
+    private static final String API_UUID = "6e1b1a28-0bd0-4fd8-a4b5-1e1a5a0b8e0c";
+    private static final String API_CONTEXT = "/pets/1.0.0";
+    private static final String APP_UUID = "3f2d7b44-8a4c-4d8e-9f54-2c6a5b1e2a71";
+    private static final String CONSUMER_KEY = "consumerKey";
+    private static final String KEY_MANAGER = "Resident Key Manager";
+
+    private SubscriptionDataStoreImpl datastore;
+
+    @Before
+    public void setup() {
+        CacheDto cacheDto = new CacheDto();
+        cacheDto.setEnabled(true);
+        cacheDto.setMaximumSize(100);
+        cacheDto.setExpiryTime(15);
+        ConfigHolder.getInstance().getConfig().setCacheDto(cacheDto);
+        CacheProvider.init();
+
+        // Each snapshot replaces the data of the store, without starting the discovery clients.
+        datastore = SubscriptionDataHolder.getInstance().getTenantSubscriptionStore();
+        datastore.addApis(Collections.emptyList());
+        datastore.addApplications(Collections.emptyList());
+        datastore.addApplicationKeyMappings(Collections.emptyList());
+        datastore.addSubscriptions(Collections.emptyList());
+
+        API api = new API();
+        api.setApiUUID(API_UUID);
+        api.setContext(API_CONTEXT);
+        api.setApiVersion("1.0.0");
+        datastore.addOrUpdateAPI(api);
+        Application application = new Application();
+        application.setUUID(APP_UUID);
+        datastore.addOrUpdateApplication(application);
+        ApplicationKeyMapping keyMapping = new ApplicationKeyMapping();
+        keyMapping.setApplicationUUID(APP_UUID);
+        keyMapping.setConsumerKey(CONSUMER_KEY);
+        keyMapping.setKeyManager(KEY_MANAGER);
+        keyMapping.setKeyType(APIConstants.API_KEY_TYPE_PRODUCTION);
+        datastore.addOrUpdateApplicationKeyMapping(keyMapping);
+    }
+
+    @Test
+    public void testOAuthValidationIsReusedUntilSubscriptionsChange() {
+        String cacheKey = KeyValidator.getValidationCacheKey(APIConstants.SUPER_TENANT_DOMAIN_NAME, API_UUID,
+                KEY_MANAGER, CONSUMER_KEY);
+        Supplier<APIKeyValidationInfoDTO> validation = () -> KeyValidator.validateSubscription(API_UUID,
+                API_CONTEXT, "1.0.0", CONSUMER_KEY, KEY_MANAGER);
+
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
+        Subscription subscription = createBlockedSubscription();
+        datastore.addOrUpdateSubscription(subscription);
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_BLOCKED);
+        datastore.removeSubscription(subscription);
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
+    }
+
+    @Test
+    public void testApiKeyValidationIsReusedUntilSubscriptionsChange() {
+        JSONObject application = new JSONObject();
+        application.put(APIConstants.JwtTokenConstants.APPLICATION_UUID, APP_UUID);
+        JWTClaimsSet payload = new JWTClaimsSet.Builder()
+                .claim(APIConstants.JwtTokenConstants.APPLICATION, application).build();
+        String cacheKey = KeyValidator.getValidationCacheKey(APIConstants.SUPER_TENANT_DOMAIN_NAME, API_UUID,
+                APP_UUID, APIConstants.API_KEY_TYPE_PRODUCTION);
+        Supplier<APIKeyValidationInfoDTO> validation = () -> KeyValidator.validateSubscription(API_UUID,
+                API_CONTEXT, payload);
+
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
+        Subscription subscription = createBlockedSubscription();
+        datastore.addOrUpdateSubscription(subscription);
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_BLOCKED);
+        datastore.removeSubscription(subscription);
+        assertValidation(cacheKey, validation, APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN);
+    }
+
+    @Test
+    public void testValidationIsNotCachedWithoutApplication() {
+        JWTClaimsSet payload = new JWTClaimsSet.Builder()
+                .claim(APIConstants.JwtTokenConstants.APPLICATION, new JSONObject()).build();
+
+        Assert.assertEquals(APIConstants.KeyValidationStatus.API_AUTH_RESOURCE_FORBIDDEN,
+                KeyValidator.validateSubscription(API_UUID, API_CONTEXT, payload).getValidationStatus());
+        Assert.assertEquals(0, CacheProvider.getSubscriptionValidationCache().size());
+    }
+
+    /**
+     * Assert that a validation is derived from the current subscription data, and reused while it is unchanged.
+     */
+    private void assertValidation(String cacheKey, Supplier<APIKeyValidationInfoDTO> validation,
+                                  int expectedStatus) {
+        Assert.assertEquals(expectedStatus, validation.get().getValidationStatus());
+        SubscriptionValidationCacheEntry cacheEntry = CacheProvider.getSubscriptionValidationCache()
+                .getIfPresent(cacheKey);
+        Assert.assertNotNull(cacheEntry);
+        Assert.assertEquals(datastore.getGeneration(), cacheEntry.getGeneration());
+
+        Assert.assertEquals(expectedStatus, validation.get().getValidationStatus());
+        Assert.assertSame(cacheEntry, CacheProvider.getSubscriptionValidationCache().getIfPresent(cacheKey));
+    }
+
+    private static Subscription createBlockedSubscription() {
+        Subscription subscription = new Subscription();
+        subscription.setApiUUID(API_UUID);
+        subscription.setAppUUID(APP_UUID);
+        subscription.setSubscriptionState(APIConstants.SubscriptionStatus.BLOCKED);
+        return subscription;
+    }
+}
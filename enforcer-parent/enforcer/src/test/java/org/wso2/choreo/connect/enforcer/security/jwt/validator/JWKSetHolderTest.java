@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JWKSetHolderTest {
+    private static final String JWKS_URL = "https://localhost:9443/oauth2/jwks";
+    private static final long NOW = 1_650_000_000_000L;
+
+    @Test
+    public void testUnknownKeyIDRefetchIsRateLimited() throws Exception {
+        AtomicInteger fetchCount = new AtomicInteger();
+        String jwks = createJWKS("key1");
+        JWKSetHolder holder = new JWKSetHolder(url -> {
+            fetchCount.incrementAndGet();
+            return jwks;
+        });
+
+        Assert.assertNotNull(holder.getVerifier(JWKS_URL, "key1", NOW));
+        Assert.assertSame(holder.getVerifier(JWKS_URL, "key1", NOW), holder.getVerifier(JWKS_URL, "key1", NOW));
+        Assert.assertEquals(1, fetchCount.get());
+
+        Assert.assertNull(holder.getVerifier(JWKS_URL, "unknown", NOW + 1000));
+        Assert.assertEquals(1, fetchCount.get());
+
+        Assert.assertNull(holder.getVerifier(JWKS_URL, "unknown",
+                NOW + JWKSetHolder.MIN_REFETCH_INTERVAL_MILLIS));
+        Assert.assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    public void testRefreshReplacesRotatedKeys() throws Exception {
+        String[] jwks = {createJWKS("key1")};
+        JWKSetHolder holder = new JWKSetHolder(url -> jwks[0]);
+        Assert.assertNotNull(holder.getVerifier(JWKS_URL, "key1", NOW));
+
+        jwks[0] = createJWKS("key2");
+        holder.refreshAll();
+        Assert.assertNotNull(holder.getVerifier(JWKS_URL, "key2", NOW + 1000));
+        Assert.assertNull(holder.getVerifier(JWKS_URL, "key1", NOW + 1000));
+    }
+
+    @Test
+    public void testConcurrentMissesShareFetch() throws Exception {
+        AtomicInteger fetchCount = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchReleased = new CountDownLatch(1);
+        String jwks = createJWKS("key1");
+        JWKSetHolder holder = new JWKSetHolder(url -> {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            try {
+                fetchReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return jwks;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] results = new Future[4];
+            results[0] = executor.submit(() -> holder.getVerifier(JWKS_URL, "key1", NOW));
+            Assert.assertTrue(fetchStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < results.length; i++) {
+                results[i] = executor.submit(() -> holder.getVerifier(JWKS_URL, "key1", NOW));
+            }
+            fetchReleased.countDown();
+            for (Future<?> result : results) {
+                Assert.assertNotNull(result.get(5, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(1, fetchCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String createJWKS(String keyID) throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        RSAPublicKey publicKey = (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + keyID + "\",\"n\":\"" + encode(publicKey.getModulus())
+                + "\",\"e\":\"" + encode(publicKey.getPublicExponent()) + "\"}]}";
+    }
+
+    private static String encode(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
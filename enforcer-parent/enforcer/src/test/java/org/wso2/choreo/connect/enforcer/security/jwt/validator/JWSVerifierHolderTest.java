@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.commons.exception.EnforcerException;
+import org.wso2.choreo.connect.enforcer.config.dto.ExtendedTokenIssuerDto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+
+public class JWSVerifierHolderTest {
+    private static final String ISSUER = "https://localhost:9443/oauth2/token";
+    private static final String ALIAS = "wso2carbon";
+
+    @Test
+    public void testVerifierIsCreatedOncePerCertificate() throws Exception {
+        JWSVerifierHolder holder = new JWSVerifierHolder();
+        KeyStore trustStore = createTrustStore(loadCertificate("wso2carbon.pem"));
+
+        JWSVerifier verifier = holder.getVerifier(trustStore, ALIAS);
+        Assert.assertSame(verifier, holder.getVerifier(trustStore, ALIAS));
+        // An issuer having the same certificate shares the verifier.
+        Assert.assertSame(verifier, holder.getVerifier(createIssuer(loadCertificate("wso2carbon.pem"))));
+        Assert.assertEquals(1, holder.size());
+    }
+
+    @Test
+    public void testRotatedTrustStoreCertificateIsVerifiedWithNewKey() throws Exception {
+        JWSVerifierHolder holder = new JWSVerifierHolder();
+        Certificate oldCertificate = loadCertificate("wso2carbon.pem");
+        Certificate newCertificate = loadCertificate("mg.pem");
+        KeyStore oldTrustStore = createTrustStore(oldCertificate);
+        KeyStore newTrustStore = createTrustStore(newCertificate);
+
+        JWSVerifier oldVerifier = holder.getVerifier(oldTrustStore, ALIAS);
+        holder.invalidateAll();
+        // A request still looking up the previous truststore after the invalidation.
+        Assert.assertEquals(oldCertificate.getPublicKey(),
+                ((RSASSAVerifier) holder.getVerifier(oldTrustStore, ALIAS)).getPublicKey());
+
+        JWSVerifier newVerifier = holder.getVerifier(newTrustStore, ALIAS);
+        Assert.assertNotSame(oldVerifier, newVerifier);
+        Assert.assertEquals(newCertificate.getPublicKey(), ((RSASSAVerifier) newVerifier).getPublicKey());
+    }
+
+    @Test
+    public void testStaleIssuerDoesNotReplaceVerifierOfRotatedCertificate() throws Exception {
+        JWSVerifierHolder holder = new JWSVerifierHolder();
+        Certificate oldCertificate = loadCertificate("wso2carbon.pem");
+        Certificate newCertificate = loadCertificate("mg.pem");
+        ExtendedTokenIssuerDto oldIssuer = createIssuer(oldCertificate);
+        ExtendedTokenIssuerDto newIssuer = createIssuer(newCertificate);
+
+        holder.getVerifier(oldIssuer);
+        holder.invalidateAll();
+        // A request still holding the previous issuer after the invalidation.
+        holder.getVerifier(oldIssuer);
+
+        RSASSAVerifier newVerifier = (RSASSAVerifier) holder.getVerifier(newIssuer);
+        Assert.assertEquals(newCertificate.getPublicKey(), newVerifier.getPublicKey());
+        Assert.assertNotEquals(oldCertificate.getPublicKey(), newVerifier.getPublicKey());
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        JWSVerifierHolder holder = new JWSVerifierHolder();
+        KeyStore trustStore = createTrustStore(loadCertificate("wso2carbon.pem"));
+        JWSVerifier verifier = holder.getVerifier(trustStore, ALIAS);
+        holder.getVerifier(createIssuer(loadCertificate("mg.pem")));
+        Assert.assertEquals(2, holder.size());
+
+        holder.invalidateAll();
+        Assert.assertEquals(0, holder.size());
+        Assert.assertNotSame(verifier, holder.getVerifier(trustStore, ALIAS));
+    }
+
+    @Test(expected = EnforcerException.class)
+    public void testUnknownAlias() throws Exception {
+        new JWSVerifierHolder().getVerifier(createTrustStore(loadCertificate("mg.pem")), "unknown");
+    }
+
+    private static ExtendedTokenIssuerDto createIssuer(Certificate certificate) {
+        ExtendedTokenIssuerDto issuer = new ExtendedTokenIssuerDto(ISSUER);
+        issuer.setCertificate(certificate);
+        return issuer;
+    }
+
+    private static KeyStore createTrustStore(Certificate certificate) throws Exception {
+        KeyStore trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        trustStore.load(null);
+        trustStore.setCertificateEntry(ALIAS, certificate);
+        return trustStore;
+    }
+
+    private static Certificate loadCertificate(String fileName) throws Exception {
+        String path = JWSVerifierHolderTest.class.getProtectionDomain().getCodeSource().getLocation().getPath()
+                + "certs" + File.separator + "truststoreSeparate" + File.separator + fileName;
+        try (InputStream inputStream = new FileInputStream(path)) {
+            return CertificateFactory.getInstance("X.509").generateCertificate(inputStream);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.security.jwt.validator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class RevokedTokenStoreTest {
+    private static final long NOW = 1_650_000_000_000L;
+    private static final long CLOCK_SKEW_MILLIS = TimeUnit.SECONDS.toMillis(FilterUtils.getTimeStampSkewInSeconds());
+
+    @Test
+    public void testRevokedTokenLookup() {
+        for (boolean bloomFilterEnabled : new boolean[]{true, false}) {
+            RevokedTokenStore store = new RevokedTokenStore(bloomFilterEnabled);
+            Assert.assertFalse(store.contains("jti-1"));
+
+            store.put("jti-1", NOW + 1000);
+            Assert.assertTrue(store.contains("jti-1"));
+            Assert.assertFalse(store.contains("jti-2"));
+            Assert.assertEquals(Long.valueOf(NOW + 1000), store.getExpiryTime("jti-1"));
+            Assert.assertNull(store.getExpiryTime("jti-2"));
+            Assert.assertEquals(1, store.size());
+            Assert.assertTrue(store.getEstimatedMemoryBytes() > 0);
+        }
+    }
+
+    @Test
+    public void testExpiredTokensArePurged() {
+        RevokedTokenStore store = new RevokedTokenStore(true);
+        store.put("expired", NOW - CLOCK_SKEW_MILLIS - 1000);
+        store.put("active", NOW + 1000);
+        // Expiry time in seconds
+        store.put("activeSeconds", (NOW + 1000) / 1000);
+        store.put("noExpiry", 0);
+
+        Assert.assertEquals(1, store.purge(NOW));
+        Assert.assertFalse(store.contains("expired"));
+        Assert.assertTrue(store.contains("active"));
+        Assert.assertTrue(store.contains("activeSeconds"));
+        Assert.assertTrue(store.contains("noExpiry"));
+        Assert.assertEquals(3, store.size());
+        Assert.assertEquals(1, store.getPurgedCount());
+    }
+
+    @Test
+    public void testTokensWithinClockSkewAreNotPurged() {
+        for (boolean bloomFilterEnabled : new boolean[]{true, false}) {
+            RevokedTokenStore store = new RevokedTokenStore(bloomFilterEnabled);
+            store.put("expiredWithinSkew", NOW - 1000);
+            store.put("expiredAtSkew", NOW - CLOCK_SKEW_MILLIS);
+            store.put("expiredBeyondSkew", NOW - CLOCK_SKEW_MILLIS - 1);
+
+            // Tokens are accepted until their expiry time plus the clock skew, so they should still be revoked.
+            Assert.assertEquals(1, store.purge(NOW));
+            Assert.assertTrue(store.contains("expiredWithinSkew"));
+            Assert.assertTrue(store.contains("expiredAtSkew"));
+            Assert.assertFalse(store.contains("expiredBeyondSkew"));
+
+            Assert.assertEquals(1, store.purge(NOW + 1));
+            Assert.assertFalse(store.contains("expiredAtSkew"));
+            Assert.assertTrue(store.contains("expiredWithinSkew"));
+        }
+    }
+
+    @Test
+    public void testBloomFilterIsRebuiltBeyondCapacity() {
+        RevokedTokenStore store = new RevokedTokenStore(true);
+        for (int i = 0; i < 25000; i++) {
+            store.put("jti-" + i, NOW + 1000);
+        }
+        for (int i = 0; i < 25000; i++) {
+            Assert.assertTrue(store.contains("jti-" + i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertFalse(store.contains("other-" + i));
+        }
+        Assert.assertTrue(store.getBloomFilterFalsePositiveCount() < 500);
+    }
+
+    @Test
+    public void testRecentlyRevokedTokensAreListed() {
+        RevokedTokenStore store = new RevokedTokenStore(false);
+        store.put("expired", NOW - CLOCK_SKEW_MILLIS - 1000);
+        for (int i = 0; i < RevokedTokenStore.MAX_LISTED_TOKENS; i++) {
+            store.put("jti-" + i, NOW + 1000);
+        }
+
+        Map<String, Long> listed = store.getRecentlyRevokedTokens();
+        Assert.assertEquals(RevokedTokenStore.MAX_LISTED_TOKENS, listed.size());
+        Assert.assertFalse(listed.containsKey("expired"));
+        Assert.assertEquals(Long.valueOf(NOW + 1000), listed.get("jti-0"));
+        // Not listed, but still revoked
+        Assert.assertTrue(store.contains("expired"));
+
+        store.put("expiring", NOW - 1000);
+        Assert.assertFalse(store.getRecentlyRevokedTokens().containsKey("jti-0"));
+        Assert.assertEquals(1, store.purge(NOW));
+        Assert.assertTrue(store.getRecentlyRevokedTokens().containsKey("expiring"));
+        Assert.assertEquals(1, store.purge(NOW - 1000 + CLOCK_SKEW_MILLIS + 1));
+        listed = store.getRecentlyRevokedTokens();
+        Assert.assertFalse(listed.containsKey("expiring"));
+        Assert.assertEquals(RevokedTokenStore.MAX_LISTED_TOKENS - 1, listed.size());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.subscription;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SecondaryIndexTest {
+
+    @Test
+    public void testIndexBuiltFromEntities() {
+        SecondaryIndex<String[]> index = createIndex(new String[]{"sub1", "api1"}, new String[]{"sub2", "api1"},
+                new String[]{"sub3", "api2"}, new String[]{"sub4", null});
+
+        Assert.assertEquals(2, index.get("api1").size());
+        Assert.assertEquals("sub3", index.get("api2").get(0)[0]);
+        Assert.assertTrue(index.get("api3").isEmpty());
+        Assert.assertTrue(index.get(null).isEmpty());
+    }
+
+    @Test
+    public void testIndexUpdatedWithEntity() {
+        String[] subscription = {"sub1", "api1"};
+        SecondaryIndex<String[]> index = createIndex(subscription);
+
+        // Index key of the entity is changed.
+        String[] updatedSubscription = {"sub1", "api2"};
+        index.update(subscription, updatedSubscription);
+        Assert.assertTrue(index.get("api1").isEmpty());
+        Assert.assertSame(updatedSubscription, index.get("api2").get(0));
+
+        // Entity is replaced without a change of the index key.
+        String[] replacedSubscription = {"sub1", "api2"};
+        index.update(updatedSubscription, replacedSubscription);
+        Assert.assertEquals(Collections.singletonList(replacedSubscription), index.get("api2"));
+
+        index.update(null, new String[]{"sub2", "api2"});
+        Assert.assertEquals(2, index.get("api2").size());
+    }
+
+    @Test
+    public void testIndexUpdatedWithRemovedEntity() {
+        String[] subscription = {"sub1", "api1"};
+        SecondaryIndex<String[]> index = createIndex(subscription, new String[]{"sub2", "api1"});
+
+        index.remove(new String[]{"sub1", "api1"});
+        Assert.assertEquals(1, index.get("api1").size());
+        Assert.assertEquals("sub2", index.get("api1").get(0)[0]);
+
+        index.remove(new String[]{"sub2", "api1"});
+        Assert.assertTrue(index.get("api1").isEmpty());
+    }
+
+    private static SecondaryIndex<String[]> createIndex(String[]... subscriptions) {
+        // Each subscription is represented by its ID and the UUID of the API.
+        return new SecondaryIndex<>(subscription -> subscription[1], subscription -> subscription[0],
+                Arrays.asList(subscriptions));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.throttle.dto.IPRange;
+import org.wso2.choreo.connect.enforcer.util.FilterUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IPBlockingIndexTest {
+
+    @Test
+    public void testFixedIpBlocking() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(createFixedIp("10.0.0.1", false));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+
+        Assert.assertTrue(isBlocked(index, "10.0.0.1"));
+        Assert.assertFalse(isBlocked(index, "10.0.0.2"));
+    }
+
+    @Test
+    public void testInvertedFixedIpBlocking() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(createFixedIp("10.0.0.1", true));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+
+        Assert.assertFalse(isBlocked(index, "10.0.0.1"));
+        Assert.assertTrue(isBlocked(index, "10.0.0.2"));
+    }
+
+    @Test
+    public void testIpRangeBlocking() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(createIpRange("192.168.1.10", "192.168.1.20", false));
+        ipRanges.add(createIpRange("192.168.1.15", "192.168.1.30", false));
+        ipRanges.add(createIpRange("10.0.0.0", "10.0.0.255", false));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+
+        // Range boundaries are not blocked.
+        Assert.assertFalse(isBlocked(index, "192.168.1.10"));
+        Assert.assertTrue(isBlocked(index, "192.168.1.11"));
+        Assert.assertTrue(isBlocked(index, "192.168.1.20"));
+        Assert.assertTrue(isBlocked(index, "192.168.1.29"));
+        Assert.assertFalse(isBlocked(index, "192.168.1.30"));
+        Assert.assertTrue(isBlocked(index, "10.0.0.100"));
+        Assert.assertFalse(isBlocked(index, "10.0.1.100"));
+        Assert.assertFalse(isBlocked(index, "2001:db8::1"));
+    }
+
+    @Test
+    public void testInvertedAndIpv6RangeBlocking() {
+        List<IPRange> ipRanges = new ArrayList<>();
+        ipRanges.add(createIpRange("2001:db8::", "2001:db8::ffff", false));
+        IPBlockingIndex index = new IPBlockingIndex(ipRanges);
+        Assert.assertTrue(isBlocked(index, "2001:db8::1"));
+        Assert.assertFalse(isBlocked(index, "2001:db9::1"));
+
+        ipRanges.clear();
+        ipRanges.add(createIpRange("10.0.0.0", "10.0.0.255", true));
+        index = new IPBlockingIndex(ipRanges);
+        Assert.assertFalse(isBlocked(index, "10.0.0.1"));
+        Assert.assertTrue(isBlocked(index, "10.0.1.1"));
+    }
+
+    private boolean isBlocked(IPBlockingIndex index, String ip) {
+        return index.isBlocked(ip, FilterUtils.ipToBigInteger(ip));
+    }
+
+    private IPRange createFixedIp(String ip, boolean invert) {
+        IPRange ipRange = new IPRange();
+        ipRange.setType(ThrottleConstants.BLOCKING_CONDITIONS_IP);
+        ipRange.setFixedIp(ip);
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+
+    private IPRange createIpRange(String startingIp, String endingIp, boolean invert) {
+        IPRange ipRange = new IPRange();
+        ipRange.setType(ThrottleConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setEndingIp(endingIp);
+        ipRange.setStartingIpBigIntValue(FilterUtils.ipToBigInteger(startingIp));
+        ipRange.setEndingIpBigIntValue(FilterUtils.ipToBigInteger(endingIp));
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+}
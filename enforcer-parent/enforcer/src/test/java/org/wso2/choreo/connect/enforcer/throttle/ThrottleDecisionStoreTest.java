@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.throttle.dto.Decision;
+
+public class ThrottleDecisionStoreTest {
+    private static final long NOW = 1_650_000_000_000L;
+
+    @Test
+    public void testThrottledUntilReset() {
+        ThrottleDecisionStore store = new ThrottleDecisionStore(10, NOW);
+        store.put("app:user", NOW + 5000);
+
+        Decision decision = store.get("app:user", NOW);
+        Assert.assertTrue(decision.isThrottled());
+        Assert.assertEquals(NOW + 5000, decision.getResetAt());
+        Assert.assertSame(decision, store.get("app:user", NOW + 1000));
+        Assert.assertSame(Decision.NOT_THROTTLED, store.get("app:user", NOW + 5001));
+        Assert.assertSame(Decision.NOT_THROTTLED, store.get("unknown", NOW));
+        Assert.assertEquals(0, store.size());
+        Assert.assertEquals(1, store.getExpiredCount());
+    }
+
+    @Test
+    public void testExpiredDecisionsRemovedByTimingWheel() {
+        ThrottleDecisionStore store = new ThrottleDecisionStore(10, NOW);
+        store.put("short", NOW + 2000);
+        store.put("long", NOW + 3000);
+        // Expires after more than one rotation of the wheel.
+        store.put("longer", NOW + (ThrottleDecisionStore.WHEEL_SIZE + 2) * ThrottleDecisionStore.TICK_DURATION_MILLIS);
+
+        store.expire(NOW + 2000);
+        Assert.assertEquals(2, store.size());
+        store.expire(NOW + 3000);
+        Assert.assertEquals(1, store.size());
+        store.expire(NOW + 3 * ThrottleDecisionStore.TICK_DURATION_MILLIS);
+        Assert.assertEquals(1, store.size());
+        Assert.assertTrue(store.get("longer", NOW + 3000).isThrottled());
+        store.expire(NOW + (ThrottleDecisionStore.WHEEL_SIZE + 2) * ThrottleDecisionStore.TICK_DURATION_MILLIS);
+        Assert.assertEquals(0, store.size());
+        Assert.assertEquals(3, store.getExpiredCount());
+    }
+
+    @Test
+    public void testEvictionWhenFull() {
+        ThrottleDecisionStore store = new ThrottleDecisionStore(2, NOW);
+        store.put("first", NOW + 10000);
+        store.put("second", NOW + 2000);
+        store.put("first", NOW + 20000);
+        Assert.assertEquals(0, store.getEvictedCount());
+
+        store.put("third", NOW + 30000);
+        Assert.assertEquals(2, store.size());
+        Assert.assertEquals(1, store.getEvictedCount());
+        Assert.assertFalse(store.get("second", NOW).isThrottled());
+        Assert.assertTrue(store.get("first", NOW).isThrottled());
+        Assert.assertTrue(store.get("third", NOW).isThrottled());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSharedDecisionIsReadOnly() {
+        Decision.NOT_THROTTLED.setThrottled(true);
+    }
+}
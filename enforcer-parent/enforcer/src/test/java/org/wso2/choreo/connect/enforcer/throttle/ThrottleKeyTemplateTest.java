@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThrottleKeyTemplateTest {
+
+    @Test
+    public void testRenderVariables() {
+        ThrottleKeyTemplate template = new ThrottleKeyTemplate(
+                "$resourceKey-$userId:$apiContext:$apiVersion:$appTenant:$apiTenant:$appId");
+        Assert.assertEquals("/pet/1.0.0/pet:GET-admin@carbon.super:/pet:1.0.0:carbon.super:wso2.com:12",
+                render(template, "3232235777", "null"));
+        Assert.assertFalse(template.isClientIpRequired());
+    }
+
+    @Test
+    public void testRenderClientIp() {
+        ThrottleKeyTemplate template = new ThrottleKeyTemplate("$clientIp:$apiContext");
+        Assert.assertTrue(template.isClientIpRequired());
+        Assert.assertEquals("3232235777:/pet", render(template, "3232235777", "null"));
+        // The variable is kept as it is when the client IP is not available.
+        Assert.assertEquals("$clientIp:/pet", render(template, null, "null"));
+    }
+
+    @Test
+    public void testRenderCustomProperties() {
+        ThrottleKeyTemplate template = new ThrottleKeyTemplate("$customProperty.region:$customProperty.tier:$userId");
+        Assert.assertEquals("us:gold:admin@carbon.super", render(template, null, "region=us tier=gold"));
+        Assert.assertEquals("us:$customProperty.tier:admin@carbon.super",
+                render(template, null, "tier=a=b region=us"));
+        Assert.assertEquals("$customProperty.region:$customProperty.tier:admin@carbon.super",
+                render(template, null, "null"));
+        Assert.assertEquals("eu:$customProperty.tier:admin@carbon.super",
+                render(template, null, "regions=us region=eu  region=us"));
+    }
+
+    @Test
+    public void testUnknownVariablesAreLiterals() {
+        ThrottleKeyTemplate template = new ThrottleKeyTemplate("$unknown:$customProperty.:$$userId$");
+        Assert.assertEquals("$unknown:$customProperty.:$admin@carbon.super$", render(template, null, "null"));
+    }
+
+    private String render(ThrottleKeyTemplate template, String clientIp, String customProperties) {
+        StringBuilder builder = new StringBuilder();
+        template.render(builder, "/pet/1.0.0/pet:GET", "admin@carbon.super", "/pet", "1.0.0", "carbon.super",
+                "wso2.com", 12, clientIp, customProperties);
+        return builder.toString();
+    }
+}
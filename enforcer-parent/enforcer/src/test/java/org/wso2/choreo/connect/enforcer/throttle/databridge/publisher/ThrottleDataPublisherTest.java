@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.choreo.connect.enforcer.throttle.databridge.publisher;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.DataEndpointAgent;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.DataPublisher;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.conf.AgentConfiguration;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.endpoint.DataEndpoint;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.endpoint.DataEndpointGroup;
+import org.wso2.choreo.connect.enforcer.throttle.databridge.agent.util.ThrottleEventConstants;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ThrottleDataPublisherTest {
+    private static final int QUEUE_SIZE = 4;
+
+    private TestDataEndpoint endpoint;
+    private DataEndpointGroup endpointGroup;
+    private DataPublisher dataPublisher;
+    private ThrottleDataPublisher throttleDataPublisher;
+
+    @Before
+    public void setup() {
+        AgentConfiguration agentConfiguration = AgentConfiguration.getInstance();
+        agentConfiguration.setQueueSize(QUEUE_SIZE);
+        agentConfiguration.setReconnectionInterval(30);
+        DataEndpointAgent agent = new DataEndpointAgent(agentConfiguration);
+        endpoint = new TestDataEndpoint();
+        endpointGroup = new DataEndpointGroup(DataEndpointGroup.HAType.FAILOVER, agent);
+        endpointGroup.addDataEndpoint(endpoint);
+        dataPublisher = new DataPublisher(agent, Collections.singletonList(endpointGroup));
+        throttleDataPublisher = new ThrottleDataPublisher(dataPublisher);
+    }
+
+    @After
+    public void tearDown() {
+        endpoint.state = DataEndpoint.State.UNAVAILABLE;
+        endpointGroup.shutdown();
+    }
+
+    @Test
+    public void testEventsDroppedWhenQueueIsFull() {
+        long published = ThrottleDataPublisher.getPublishedEventCount();
+        long dropped = ThrottleDataPublisher.getDroppedEventCount();
+
+        // The endpoint is still connecting, so the queue worker holds the first event and the queue fills up.
+        for (int i = 0; i < 10; i++) {
+            throttleDataPublisher.publishNonThrottledEvent(new Object[ThrottleEventConstants.PAYLOAD_SIZE]);
+        }
+
+        Assert.assertEquals(QUEUE_SIZE, ThrottleDataPublisher.getPublishedEventCount() - published);
+        Assert.assertEquals(10 - QUEUE_SIZE, ThrottleDataPublisher.getDroppedEventCount() - dropped);
+        Assert.assertEquals(10 - QUEUE_SIZE, dataPublisher.getFailedEventCount());
+        Assert.assertEquals(0, dataPublisher.getEventQueueRemainingCapacity());
+    }
+
+    @Test
+    public void testEventsDroppedWhileReconnecting() {
+        endpoint.state = DataEndpoint.State.UNAVAILABLE;
+        long published = ThrottleDataPublisher.getPublishedEventCount();
+        long dropped = ThrottleDataPublisher.getDroppedEventCount();
+
+        for (int i = 0; i < 3; i++) {
+            throttleDataPublisher.publishNonThrottledEvent(new Object[ThrottleEventConstants.PAYLOAD_SIZE]);
+        }
+
+        Assert.assertEquals(0, ThrottleDataPublisher.getPublishedEventCount() - published);
+        Assert.assertEquals(3, ThrottleDataPublisher.getDroppedEventCount() - dropped);
+        // Not counted as a full queue, as the events never reach the queue.
+        Assert.assertEquals(0, dataPublisher.getFailedEventCount());
+        Assert.assertEquals(QUEUE_SIZE, dataPublisher.getEventQueueRemainingCapacity());
+    }
+
+    private static class TestDataEndpoint extends DataEndpoint {
+        private volatile State state = State.INITIALIZING;
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        protected String login(Object client, String userName, String password) {
+            return null;
+        }
+
+        @Override
+        protected void logout(Object client, String sessionId) {
+        }
+
+        @Override
+        protected void send(Object client, List<Event> events) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.choreo.connect.enforcer.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.choreo.connect.enforcer.common.EnforcerCache;
+import org.wso2.choreo.connect.enforcer.security.jwt.BackendJwtCacheEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BackendJwtCacheTest {
+
+    @Test
+    public void testConcurrentMissesGenerateOnce() throws Exception {
+        BackendJwtCache backendJwtCache = new BackendJwtCache(new EnforcerCache<>("test", 10, 15), Runnable::run, 0);
+        AtomicInteger generationCount = new AtomicInteger();
+        CountDownLatch generationStarted = new CountDownLatch(1);
+        CountDownLatch releaseGeneration = new CountDownLatch(1);
+        String token = createToken(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 3600);
+        BackendJwtCache.TokenGenerator generator = () -> {
+            generationCount.incrementAndGet();
+            generationStarted.countDown();
+            try {
+                releaseGeneration.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return token;
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> backendJwtCache.getToken("key", generator)));
+            Assert.assertTrue(generationStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(() -> backendJwtCache.getToken("key", generator)));
+            }
+            releaseGeneration.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals(token, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(1, generationCount.get());
+        Assert.assertEquals(token, backendJwtCache.getToken("key", generator));
+        Assert.assertEquals(1, generationCount.get());
+    }
+
+    @Test
+    public void testTokenRefreshedAheadOfExpiry() throws Exception {
+        EnforcerCache<String, BackendJwtCacheEntry> cache = new EnforcerCache<>("test", 10, 15);
+        BackendJwtCache backendJwtCache = new BackendJwtCache(cache, Runnable::run, 0);
+        long now = System.currentTimeMillis();
+        cache.put("key", new BackendJwtCacheEntry("current", now + 60000, now - 1), now + 60000);
+        String refreshedToken = createToken(TimeUnit.MILLISECONDS.toSeconds(now) + 3600);
+
+        Assert.assertEquals("Current token should be served while it is refreshed", "current",
+                backendJwtCache.getToken("key", () -> refreshedToken));
+        Assert.assertEquals(refreshedToken, backendJwtCache.getToken("key", () -> "unexpected"));
+        Assert.assertFalse(cache.getIfPresent("key").isRefreshDue(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void testMissRegeneratesAfterFailedRefresh() throws Exception {
+        EnforcerCache<String, BackendJwtCacheEntry> cache = new EnforcerCache<>("test", 10, 15);
+        List<Runnable> refreshes = new ArrayList<>();
+        BackendJwtCache backendJwtCache = new BackendJwtCache(cache, refreshes::add, 0);
+        long now = System.currentTimeMillis();
+        cache.put("key", new BackendJwtCacheEntry("current", now + 60000, now - 1), now + 60000);
+        String token = createToken(TimeUnit.MILLISECONDS.toSeconds(now) + 3600);
+
+        Assert.assertEquals("current", backendJwtCache.getToken("key", () -> {
+            throw new IllegalStateException("Refresh failure");
+        }));
+        Assert.assertEquals(1, refreshes.size());
+        // The current token expires while it is being refreshed.
+        cache.invalidate("key");
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> result = executorService.submit(() -> backendJwtCache.getToken("key", () -> token));
+            refreshes.get(0).run();
+            Assert.assertEquals(token, result.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExpiredTokenNotCached() throws Exception {
+        BackendJwtCache backendJwtCache = new BackendJwtCache(new EnforcerCache<>("test", 10, 15), Runnable::run,
+                TimeUnit.SECONDS.toMillis(5));
+        String token = createToken(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 2);
+        Assert.assertEquals(token, backendJwtCache.getToken("key", () -> token));
+        Assert.assertEquals("other", backendJwtCache.getToken("key", () -> "other"));
+    }
+
+    private static String createToken(long expiryTimeSeconds) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"exp\":" + expiryTimeSeconds + "}").getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}